@@ -0,0 +1,143 @@
+package mage.benchmarks;
+
+import mage.cards.Card;
+import mage.cards.decks.Deck;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.MultiplayerAttackOption;
+import mage.constants.PhaseStep;
+import mage.constants.RangeOfInfluence;
+import mage.game.CommanderFreeForAll;
+import mage.game.CommanderFreeForAllMatch;
+import mage.game.Game;
+import mage.game.GameException;
+import mage.game.GameOptions;
+import mage.game.PutToBattlefieldInfo;
+import mage.game.match.Match;
+import mage.game.match.MatchOptions;
+import mage.game.mulligan.MulliganType;
+import mage.player.ai.ComputerPlayer;
+import mage.players.Player;
+import mage.util.RandomUtil;
+import mage.util.ThreadUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Reproducible board for benchmarks: 4 players Commander game with 152 permanents on battlefield
+ * (lands, creatures, lords, mana rocks and triggers), cards in hands and commanders in command zone.
+ * <p>
+ * Game pauses on the first main phase, so benchmarks can use it as a fixed game state
+ */
+public final class BenchmarkBoard {
+
+    private static final long RANDOM_SEED = 1234;
+
+    private static final String[] COMMANDERS = {
+            "Atraxa, Praetors' Voice",
+            "Edgar Markov",
+            "Krenko, Mob Boss",
+            "Meren of Clan Nel Toth"
+    };
+    private static final String[] LANDS = {"Plains", "Island", "Swamp", "Mountain", "Forest"};
+    private static final int LANDS_PER_TYPE = 3;
+    private static final String[] PERMANENTS = {
+            "Grizzly Bears", "Llanowar Elves", "Soul Warden", "Glorious Anthem", "Elvish Archdruid",
+            "Serra Angel", "Wall of Omens", "Prodigal Sorcerer", "Goblin King", "Lord of Atlantis",
+            "Crusade", "Intangible Virtue", "Sol Ring", "Arcane Signet", "Mind Stone",
+            "Honor of the Pure", "Blood Artist", "Zulaport Cutthroat", "Impact Tremors", "Rhystic Study",
+            "Ajani's Pridemate", "Coat of Arms", "Birds of Paradise"
+    };
+    private static final String[] HAND = {
+            "Lightning Bolt", "Counterspell", "Divination", "Giant Growth", "Doom Blade", "Shock", "Shivan Dragon"
+    };
+
+    private BenchmarkBoard() {
+    }
+
+    /**
+     * Load all cards to db (first run can take few minutes)
+     */
+    public static void initCards() {
+        CardScanner.scan();
+    }
+
+    public static Game createGame() {
+        // game code must be run in game thread
+        FutureTask<Game> task = new FutureTask<>(BenchmarkBoard::createGameInner);
+        Thread thread = new Thread(task, ThreadUtils.THREAD_PREFIX_GAME + " benchmark board");
+        thread.start();
+        try {
+            return task.get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new IllegalStateException("Can't create benchmark board: " + e.getMessage(), e);
+        }
+    }
+
+    private static Game createGameInner() throws GameException {
+        initCards();
+        RandomUtil.setSeed(RANDOM_SEED);
+
+        Match match = new CommanderFreeForAllMatch(new MatchOptions("benchmark match", "benchmark game type", true));
+        Game game = new CommanderFreeForAll(MultiplayerAttackOption.MULTIPLE, RangeOfInfluence.ALL,
+                MulliganType.GAME_DEFAULT.getMulligan(0), 40, 7);
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < COMMANDERS.length; i++) {
+            ComputerPlayer player = new ComputerPlayer("Player" + (i + 1), RangeOfInfluence.ALL);
+            player.setTestMode(true); // no mulligans
+            Deck deck = new Deck();
+            game.addPlayer(player, deck);
+            match.addPlayer(player, deck); // game views need match info
+            players.add(player);
+        }
+
+        GameOptions options = new GameOptions();
+        options.testMode = true;
+        options.skipInitShuffling = true;
+        options.stopOnTurn = 1;
+        options.stopAtStep = PhaseStep.PRECOMBAT_MAIN;
+        game.setGameOptions(options);
+
+        for (Player player : players) {
+            player.updateRange(game);
+        }
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            List<PutToBattlefieldInfo> battlefield = new ArrayList<>();
+            for (String landName : LANDS) {
+                for (int n = 0; n < LANDS_PER_TYPE; n++) {
+                    battlefield.add(new PutToBattlefieldInfo(createCard(landName), false));
+                }
+            }
+            for (String cardName : PERMANENTS) {
+                battlefield.add(new PutToBattlefieldInfo(createCard(cardName), false));
+            }
+            List<Card> hand = new ArrayList<>();
+            for (String cardName : HAND) {
+                hand.add(createCard(cardName));
+            }
+            List<Card> library = new ArrayList<>();
+            for (int n = 0; n < 20; n++) {
+                library.add(createCard(LANDS[n % LANDS.length]));
+            }
+            game.cheat(player.getId(), library, hand, battlefield, Collections.emptyList(),
+                    Collections.singletonList(createCard(COMMANDERS[i])), Collections.emptyList());
+        }
+
+        game.start(players.get(0).getId());
+        return game;
+    }
+
+    private static Card createCard(String cardName) {
+        CardInfo cardInfo = CardRepository.instance.findPreferredCoreExpansionCard(cardName);
+        if (cardInfo == null) {
+            throw new IllegalArgumentException("Can't find card for benchmark board: " + cardName);
+        }
+        return cardInfo.createCard();
+    }
+}
@@ -0,0 +1,84 @@
+package mage.benchmarks;
+
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cards database lookups (deck loading, card search in deck editor, etc)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CardRepositoryBenchmark {
+
+    // criteria searches: in-memory search index or db's LIKE queries with full table scans
+    @Param({"index", "db"})
+    public String search;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        BenchmarkBoard.initCards();
+        CardRepository.instance.loadCatalog();
+    }
+
+    private List<CardInfo> findCards(CardCriteria criteria) {
+        if (search.equals("db")) {
+            return CardRepository.instance.findCardsInDatabase(criteria);
+        }
+        return CardRepository.instance.findCards(criteria);
+    }
+
+    @Benchmark
+    public CardInfo findCardByName() {
+        return CardRepository.instance.findCard("Lightning Bolt");
+    }
+
+    @Benchmark
+    public CardInfo findCardBySetAndNumber() {
+        return CardRepository.instance.findCard("M21", "1");
+    }
+
+    @Benchmark
+    public List<CardInfo> findCardsByName() {
+        return CardRepository.instance.findCards("Forest");
+    }
+
+    @Benchmark
+    public List<CardInfo> findCardsByCriteria() {
+        return findCards(new CardCriteria()
+                .types(CardType.CREATURE)
+                .rarities(Rarity.MYTHIC)
+                .nameContains("Dragon"));
+    }
+
+    @Benchmark
+    public List<CardInfo> findCardsByRules() {
+        return findCards(new CardCriteria()
+                .types(CardType.INSTANT)
+                .rules("draw a card"));
+    }
+
+    @Benchmark
+    public List<CardInfo> findCardsByTypedName() {
+        // deck editor's search on each typed char
+        return findCards(new CardCriteria().nameContains("dra"));
+    }
+
+    @Benchmark
+    public List<CardInfo> findCardsBySets() {
+        return findCards(new CardCriteria()
+                .setCodes("M21", "KHM")
+                .black(false)
+                .blue(false));
+    }
+}
@@ -0,0 +1,27 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.players.Player;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark board, see {@link BenchmarkBoard}
+ */
+@State(Scope.Benchmark)
+public class GameBoardState {
+
+    public Game game;
+    public Player player;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        game = BenchmarkBoard.createGame();
+        player = game.getPlayer(game.getActivePlayerId());
+        if (player == null) {
+            player = game.getPlayers().values().iterator().next();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package mage.benchmarks;
+
+import mage.game.Game;
+import mage.game.GameStates;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game copy for AI simulations and game state save for rollbacks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameCopyBenchmark {
+
+    @Benchmark
+    public Game gameCopy(GameBoardState board) {
+        return board.game.copy();
+    }
+
+    @Benchmark
+    public GameStates gameStatesSave(GameBoardState board) {
+        GameStates states = new GameStates();
+        states.save(board.game.getState());
+        return states;
+    }
+}
@@ -0,0 +1,48 @@
+package mage.benchmarks;
+
+import mage.abilities.ActivatedAbility;
+import mage.game.events.GameEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Main game engine calls on each priority: continuous effects, triggers check and playable abilities,
+ * AI calls on each simulated state: game state value (old strings version) and fingerprint
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameEngineBenchmark {
+
+    @Benchmark
+    public void continuousEffectsApply(GameBoardState board) {
+        // same as engine: reset objects before layers apply, so state keeps the same between calls
+        board.game.applyEffects();
+    }
+
+    @Benchmark
+    public void triggeredAbilitiesCheckTriggers(GameBoardState board) {
+        // event without triggers on the board, so state keeps the same between calls
+        GameEvent event = GameEvent.getEvent(GameEvent.EventType.DREW_CARD, board.player.getId(), null, board.player.getId());
+        board.game.getState().getTriggers().checkTriggers(event, board.game);
+    }
+
+    @Benchmark
+    public List<ActivatedAbility> playerGetPlayable(GameBoardState board) {
+        return board.player.getPlayable(board.game, true);
+    }
+
+    @Benchmark
+    public String gameStateValue(GameBoardState board) {
+        return board.game.getState().getValue(true, board.game);
+    }
+
+    @Benchmark
+    public long gameStateFingerprint(GameBoardState board) {
+        return board.game.getState().getFingerprint(true, board.game);
+    }
+}
@@ -0,0 +1,47 @@
+package mage.benchmarks;
+
+import mage.remote.traffic.ZippedObjectImpl;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game updates for clients: view creation and network compression
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameViewBenchmark {
+
+    private GameView gameView;
+    private ZippedObjectImpl<GameView> zippedView;
+
+    @Setup(Level.Trial)
+    public void setup(GameBoardState board) {
+        gameView = createView(board);
+        zippedView = new ZippedObjectImpl<>(gameView);
+    }
+
+    private static GameView createView(GameBoardState board) {
+        return new GameView(board.game.getState(), board.game, board.player.getId(), null);
+    }
+
+    @Benchmark
+    public GameView gameViewCreate(GameBoardState board) {
+        return createView(board);
+    }
+
+    @Benchmark
+    public ZippedObjectImpl<GameView> gameViewZip() {
+        return new ZippedObjectImpl<>(gameView);
+    }
+
+    @Benchmark
+    public GameView gameViewUnzip() {
+        return zippedView.unzip();
+    }
+}
@@ -0,0 +1,32 @@
+package mage.benchmarks;
+
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.players.PlayableObjectsList;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Playable objects for player's game view (server side): game copy for the calculation and playable calc
+ * <p>
+ * copy - calculation makes own copy of the prepared game (old way)
+ * singleCalcCopy - calculation reuses the prepared game, see Game.createSimulationForSinglePlayableCalc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayableCalcBenchmark {
+
+    @Param({"copy", "singleCalcCopy"})
+    public String mode;
+
+    @Benchmark
+    public PlayableObjectsList playableObjects(GameBoardState board) {
+        Game game = mode.equals("copy") ? board.game.copy() : board.game.createSimulationForSinglePlayableCalc();
+        return game.getPlayer(board.player.getId()).getPlayableObjects(game, Zone.ALL);
+    }
+}
@@ -0,0 +1,49 @@
+package mage.benchmarks;
+
+import mage.util.SerializationCodec;
+import mage.view.GameView;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization codecs for game copies, network traffic and saved games, see {@link SerializationCodec}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationCodecBenchmark {
+
+    @Param
+    public SerializationCodec codec;
+
+    @Param({"gameView", "game"})
+    public String data;
+
+    private Object object;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup(GameBoardState board) throws IOException {
+        if (data.equals("gameView")) {
+            object = new GameView(board.game.getState(), board.game, board.player.getId(), null);
+        } else {
+            object = board.game.copy();
+        }
+        encoded = codec.encode(object);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return codec.encode(object);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException, ClassNotFoundException {
+        return codec.decode(encoded, null);
+    }
+}
@@ -16,6 +16,7 @@ import mage.client.util.audio.AudioManager;
 import mage.client.util.object.SaveObjectUtil;
 import mage.interfaces.callback.CallbackClient;
 import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
 import mage.interfaces.callback.ClientCallbackType;
 import mage.remote.ActionData;
 import mage.remote.Session;
@@ -43,25 +44,56 @@ public class CallbackClientImpl implements CallbackClient {
     private final MageFrame frame;
     private final Map<ClientCallbackType, Integer> lastMessages;
     private final Map<UUID, GameClientMessage> firstGameData;
+    private final Map<UUID, GameViewDeltaDecoder> gameViewDecoders;
 
     public CallbackClientImpl(MageFrame frame) {
         this.frame = frame;
         this.lastMessages = new HashMap<>();
         this.firstGameData = new HashMap<>();
+        this.gameViewDecoders = new HashMap<>();
         Arrays.stream(ClientCallbackType.values()).forEach(t -> this.lastMessages.put(t, 0));
     }
 
+    private boolean restoreGameView(ClientCallback callback) {
+        GameView gameView = null;
+        if (callback.getData() instanceof GameView) {
+            gameView = (GameView) callback.getData();
+        } else if (callback.getData() instanceof GameClientMessage) {
+            gameView = ((GameClientMessage) callback.getData()).getGameView();
+        }
+        if (gameView == null) {
+            return true;
+        }
+
+        boolean restored = gameViewDecoders.computeIfAbsent(callback.getObjectId(), k -> new GameViewDeltaDecoder()).decode(gameView);
+        if (callback.getMethod() == ClientCallbackMethod.GAME_OVER) {
+            gameViewDecoders.remove(callback.getObjectId());
+        }
+        return restored;
+    }
+
     @Override
     public void onNewConnection() {
         // must clean temp data for each new connection
         this.lastMessages.clear();
         this.firstGameData.clear();
+        this.gameViewDecoders.clear();
     }
 
     @Override
     public synchronized void onCallback(final ClientCallback callback) {
         callback.decompressData();
 
+        // restore unchanged cards from delta updates (must be processed before any usage of the game view)
+        if (!restoreGameView(callback)) {
+            logger.warn(String.format("ignore delta message %d - %s - %s, possible reason: slow connection/performance",
+                    callback.getMessageId(),
+                    callback.getMethod().getType(),
+                    callback.getMethod()
+            ));
+            return;
+        }
+
         // put replay related code here
         SaveObjectUtil.saveObject(callback.getData(), callback.getMethod().toString());
 
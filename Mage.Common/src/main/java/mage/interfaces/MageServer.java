@@ -85,6 +85,9 @@ public interface MageServer {
     // TODO: miss session
     List<TableView> roomGetAllTables(UUID roomId) throws MageException;
 
+    // TODO: miss session
+    LobbyUpdateView roomGetLobbyUpdate(UUID roomId, long knownVersion) throws MageException;
+
     // TODO: miss session
     void chatSendMessage(UUID chatId, String userName, String message) throws MageException;
 
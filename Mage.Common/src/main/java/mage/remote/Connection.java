@@ -30,9 +30,13 @@ public class Connection {
     private int clientCardDatabaseVersion;
     private String userIdStr;
     private int socketWriteTimeout;
+    private TransportType transportType = DEFAULT_TRANSPORT_TYPE;
 
     private UserData userData;
 
+    // client must use same transport as server (see server's config), can be changed by -Dxmage.transport=nio
+    public static final TransportType DEFAULT_TRANSPORT_TYPE = TransportType.valueByText(System.getProperty("xmage.transport"));
+
     private static final String serialization = "?serializationtype=java";
     private static final String transport = "bisocket";
     private static final String threadpool = "onewayThreadPool=mage.remote.CustomThreadPool";
@@ -114,6 +118,39 @@ public class Connection {
         }
     }
 
+    public enum TransportType {
+
+        BISOCKET("bisocket"), NIO("nio");
+
+        private final String text;
+
+        TransportType(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+
+        public static TransportType valueByText(String value) {
+            for (TransportType type : values()) {
+                if (type.text.equalsIgnoreCase(value)) {
+                    return type;
+                }
+            }
+            return BISOCKET;
+        }
+    }
+
+    public TransportType getTransportType() {
+        return transportType;
+    }
+
+    public void setTransportType(TransportType transportType) {
+        this.transportType = transportType;
+    }
+
     public String getHost() {
         return host;
     }
@@ -0,0 +1,51 @@
+package mage.remote;
+
+import mage.view.LobbyUpdateView;
+import mage.view.MatchView;
+import mage.view.TableView;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Network, client side: room's tables and finished matches, keeps in sync by server's lobby changes only
+ */
+class RoomLobbyCache {
+
+    private long version = 0;
+    private final Map<UUID, TableView> tables = new LinkedHashMap<>();
+    private final Map<UUID, MatchView> matches = new LinkedHashMap<>();
+
+    synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param update server's changes, null if nothing changed
+     */
+    synchronized void apply(LobbyUpdateView update) {
+        if (update == null) {
+            return;
+        }
+        if (update.isFullUpdate()) {
+            tables.clear();
+            matches.clear();
+        }
+        update.getRemovedTables().forEach(tables::remove);
+        update.getRemovedMatches().forEach(matches::remove);
+        update.getChangedTables().forEach(table -> tables.put(table.getTableId(), table));
+        update.getChangedMatches().forEach(match -> matches.put(match.getTableId(), match));
+        version = update.getVersion();
+    }
+
+    synchronized List<TableView> getTables() {
+        return new ArrayList<>(tables.values());
+    }
+
+    synchronized List<MatchView> getMatches() {
+        return new ArrayList<>(matches.values());
+    }
+}
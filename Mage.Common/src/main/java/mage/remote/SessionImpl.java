@@ -13,6 +13,7 @@ import mage.interfaces.ServerState;
 import mage.interfaces.callback.ClientCallback;
 import mage.players.PlayerType;
 import mage.players.net.UserData;
+import mage.remote.nio.NioClient;
 import mage.util.ThreadUtils;
 import mage.utils.CompressUtil;
 import mage.view.*;
@@ -30,6 +31,7 @@ import java.lang.reflect.UndeclaredThrowableException;
 import java.net.*;
 import java.util.*;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 
@@ -64,6 +66,7 @@ public class SessionImpl implements Session {
 
     private Client callbackClient; // real connection with a server
     private CallbackHandler callbackHandler; // processing commands from a server
+    private NioClient nioClient; // real connection with a server (nio transport only)
 
     private ServerState serverState;
     private SessionState sessionState = SessionState.DISCONNECTED;
@@ -72,6 +75,7 @@ public class SessionImpl implements Session {
     private static final int PING_CYCLES = 10;
     private final LinkedList<Long> pingTime = new LinkedList<>();
     private String lastPingInfo = "";
+    private final Map<UUID, RoomLobbyCache> lobbyCaches = new ConcurrentHashMap<>(); // by room, loads changes only
 
     private boolean canceled = false;
     private boolean jsonLogActive = false;
@@ -351,6 +355,10 @@ public class SessionImpl implements Session {
                         Authenticator.setDefault(new MageAuthenticator(connection.getProxyUsername(), connection.getProxyPassword()));
                         break;
                 }
+                if (connection.getTransportType() == Connection.TransportType.NIO) {
+                    return doNioConnection(connection);
+                }
+
                 InvokerLocator clientLocator = new InvokerLocator(connection.getURI());
 
                 Map<String, String> metadata = new HashMap<>();
@@ -482,6 +490,40 @@ public class SessionImpl implements Session {
         }
     }
 
+    private boolean doNioConnection(Connection connection) throws IOException {
+        java.net.Proxy proxy = java.net.Proxy.NO_PROXY;
+        if (connection.getProxyType() == Connection.ProxyType.SOCKS) {
+            proxy = new java.net.Proxy(java.net.Proxy.Type.SOCKS, new InetSocketAddress(connection.getProxyHost(), connection.getProxyPort()));
+        } else if (connection.getProxyType() == Connection.ProxyType.HTTP) {
+            logger.warn("Connect: http proxy is not supported by nio transport, direct connection will be used");
+        }
+
+        if (callbackHandler == null) {
+            callbackHandler = new CallbackHandler();
+        }
+        final CallbackHandler nioCallbackHandler = callbackHandler;
+        nioClient = new NioClient(new NioClient.Listener() {
+            @Override
+            public void onCallback(ClientCallback callback) {
+                nioCallbackHandler.processCallback(callback);
+            }
+
+            @Override
+            public void onConnectionLost(Throwable error) {
+                logger.info("Connect: lost connection to server.", error);
+                connectReconnect(error);
+            }
+        }, SESSION_VALIDATOR_PING_PERIOD_SECS * 1000, SESSION_VALIDATOR_PING_TIMEOUT_SECS * 1000);
+        nioClient.connect(connection.getHost(), connection.getPort(), proxy);
+        server = nioClient.getServer();
+
+        sessionId = nioClient.getSessionId();
+        sessionState = SessionState.CONNECTED;
+        client.onNewConnection();
+        logger.info("Connect: DONE (nio transport)");
+        return true;
+    }
+
     private void handleCannotConnectException(CannotConnectException ex) {
         logger.warn("Cannot connect", ex);
 
@@ -554,6 +596,9 @@ public class SessionImpl implements Session {
                 callbackClient.removeListener(callbackHandler);
                 callbackClient.disconnect();
             }
+            if (nioClient != null) {
+                nioClient.disconnect(keepMySessionActive);
+            }
         } catch (Throwable ex) {
             logger.fatal("Disconnecting FAIL", ex);
         }
@@ -571,11 +616,12 @@ public class SessionImpl implements Session {
         }
 
         // clean resources
-        if (server != null) {
+        if (server != null && nioClient == null) {
             TransporterClient.destroyTransporterClient(server);
-            server = null;
         }
+        server = null;
         callbackClient = null;
+        nioClient = null;
         callbackHandler = null;
         serverState = null;
     }
@@ -604,8 +650,11 @@ public class SessionImpl implements Session {
 
         @Override
         public void handleCallback(Callback callback) {
+            processCallback((ClientCallback) callback.getCallbackObject());
+        }
+
+        void processCallback(ClientCallback clientCallback) {
             // keep callbacks
-            ClientCallback clientCallback = (ClientCallback) callback.getCallbackObject();
             waitingCallbacks.add(clientCallback);
 
             // wait for client ready
@@ -655,6 +704,9 @@ public class SessionImpl implements Session {
 
     @Override
     public boolean isConnected() {
+        if (nioClient != null) {
+            return nioClient.isConnected();
+        }
         if (callbackClient == null) {
             return false;
         }
@@ -841,11 +893,20 @@ public class SessionImpl implements Session {
         return false;
     }
 
+    private RoomLobbyCache updateLobbyCache(UUID roomId) throws MageException {
+        // tables and finished matches use same changes, so any of it will update both
+        RoomLobbyCache cache = lobbyCaches.computeIfAbsent(roomId, id -> new RoomLobbyCache());
+        synchronized (cache) {
+            cache.apply(server.roomGetLobbyUpdate(roomId, cache.getVersion()));
+        }
+        return cache;
+    }
+
     @Override
     public Collection<TableView> getTables(UUID roomId) throws MageRemoteException {
         try {
             if (isConnected()) {
-                return server.roomGetAllTables(roomId);
+                return updateLobbyCache(roomId).getTables();
             }
         } catch (MageException ex) {
             handleMageException(ex);
@@ -860,7 +921,7 @@ public class SessionImpl implements Session {
     public Collection<MatchView> getFinishedMatches(UUID roomId) throws MageRemoteException {
         try {
             if (isConnected()) {
-                return server.roomGetFinishedMatches(roomId);
+                return updateLobbyCache(roomId).getMatches();
             }
         } catch (MageException ex) {
             handleMageException(ex);
@@ -0,0 +1,275 @@
+package mage.remote.nio;
+
+import mage.interfaces.MageServer;
+import mage.interfaces.callback.ClientCallback;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Network, client side: connection to the server with nio transport
+ * <p>
+ * Client uses a single connection, so it's a simple blocking socket (selector needs on server side only):
+ * - server commands call from any thread and wait for the result;
+ * - server callbacks process one by one in own thread, so it can't block the reading thread;
+ * - lease ping sends to the server periodically (server closes connection without it), it used to check
+ * a broken connection on client side too;
+ */
+public class NioClient {
+
+    private static final Logger logger = Logger.getLogger(NioClient.class);
+
+    private static final int CONNECT_TIMEOUT_SECS = 10;
+    private static final int CALL_TIMEOUT_SECS = 60; // same as jboss's default socket timeout
+
+    public interface Listener {
+
+        void onCallback(ClientCallback callback);
+
+        void onConnectionLost(Throwable error);
+    }
+
+    private final Listener listener;
+    private final int leasePingPeriodMillis;
+    private final int leasePingTimeoutMillis;
+
+    private Socket socket;
+    private DataOutputStream output;
+    private final Object writeLock = new Object();
+    private volatile String sessionId = null;
+    private volatile boolean connected = false;
+    private volatile long lastReadTime;
+
+    private final AtomicLong callIds = new AtomicLong();
+    private final Map<Long, CompletableFuture<NioMessage>> waitingCalls = new ConcurrentHashMap<>();
+    private final CompletableFuture<String> connectedAnswer = new CompletableFuture<>();
+    private ExecutorService callbacksExecutor;
+    private ScheduledExecutorService leaseExecutor;
+
+    private final MageServer server;
+
+    public NioClient(Listener listener, int leasePingPeriodMillis, int leasePingTimeoutMillis) {
+        this.listener = listener;
+        this.leasePingPeriodMillis = leasePingPeriodMillis;
+        this.leasePingTimeoutMillis = leasePingTimeoutMillis;
+        this.server = (MageServer) Proxy.newProxyInstance(
+                MageServer.class.getClassLoader(),
+                new Class<?>[]{MageServer.class},
+                new ServerInvocationHandler()
+        );
+    }
+
+    /**
+     * @param proxy socks proxy or Proxy.NO_PROXY (http proxies are not supported by raw sockets)
+     */
+    public void connect(String host, int port, java.net.Proxy proxy) throws IOException {
+        socket = new Socket(proxy);
+        socket.setTcpNoDelay(true);
+        socket.setKeepAlive(true);
+        socket.connect(new InetSocketAddress(host, port), CONNECT_TIMEOUT_SECS * 1000);
+        output = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        DataInputStream input = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        lastReadTime = System.currentTimeMillis();
+        connected = true;
+
+        callbacksExecutor = Executors.newSingleThreadExecutor(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CLIENT_NIO_CALLBACKS));
+        Thread reader = new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CLIENT_NIO_READER).newThread(() -> readFrames(input));
+        reader.start();
+
+        send(NioMessage.connect());
+        try {
+            sessionId = connectedAnswer.get(CONNECT_TIMEOUT_SECS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close(e);
+            throw new InterruptedIOException("Connection canceled");
+        } catch (ExecutionException | TimeoutException e) {
+            close(e);
+            throw new IOException("Server is not responding or uses another transport", e);
+        }
+
+        leaseExecutor = Executors.newSingleThreadScheduledExecutor(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CLIENT_NIO_LEASE));
+        leaseExecutor.scheduleWithFixedDelay(this::leasePing, leasePingPeriodMillis, leasePingPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public MageServer getServer() {
+        return server;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    /**
+     * @param keepSession keep session active for app reconnect/restart, server will close it after few minutes timeout
+     */
+    public void disconnect(boolean keepSession) {
+        if (!connected) {
+            return;
+        }
+        try {
+            send(NioMessage.disconnect(keepSession));
+        } catch (IOException ignore) {
+            // connection already broken
+        }
+        close(null);
+    }
+
+    private void send(NioMessage message) throws IOException {
+        ByteBuffer frame = NioFrames.encode(message);
+        synchronized (writeLock) {
+            if (!connected) {
+                throw new IOException("Connection closed");
+            }
+            output.write(frame.array(), frame.position(), frame.remaining());
+            output.flush();
+        }
+    }
+
+    private void readFrames(DataInputStream input) {
+        try {
+            while (connected) {
+                NioMessage message = NioFrames.read(input);
+                lastReadTime = System.currentTimeMillis();
+                switch (message.getType()) {
+                    case CONNECTED:
+                        connectedAnswer.complete((String) message.getData());
+                        break;
+                    case RESULT:
+                        CompletableFuture<NioMessage> call = waitingCalls.remove(message.getCallId());
+                        if (call != null) {
+                            call.complete(message);
+                        }
+                        break;
+                    case CALLBACK:
+                        ClientCallback callback = (ClientCallback) message.getData();
+                        callbacksExecutor.execute(() -> {
+                            try {
+                                listener.onCallback(callback);
+                            } catch (Throwable e) {
+                                logger.error("Callback processing error: " + callback.getInfo(), e);
+                            }
+                        });
+                        break;
+                    case PING:
+                        // lease answer, nothing to do
+                        break;
+                    default:
+                        logger.warn("Unknown message from server: " + message.getInfo());
+                }
+            }
+        } catch (Throwable e) {
+            if (connected) {
+                close(e);
+            }
+        }
+    }
+
+    private void leasePing() {
+        if (!connected) {
+            return;
+        }
+        if (System.currentTimeMillis() - lastReadTime > leasePingPeriodMillis + leasePingTimeoutMillis) {
+            close(new IOException("Server is not responding to lease ping"));
+            return;
+        }
+        try {
+            send(NioMessage.ping());
+        } catch (IOException e) {
+            close(e);
+        }
+    }
+
+    /**
+     * @param error null for normal disconnect
+     */
+    private void close(Throwable error) {
+        synchronized (this) {
+            if (!connected) {
+                return;
+            }
+            connected = false;
+        }
+        try {
+            socket.close();
+        } catch (IOException ignore) {
+        }
+        if (leaseExecutor != null) {
+            leaseExecutor.shutdownNow();
+        }
+        if (callbacksExecutor != null) {
+            callbacksExecutor.shutdown();
+        }
+
+        // release all waiting calls
+        IOException closed = new IOException("Connection closed", error);
+        connectedAnswer.completeExceptionally(closed);
+        waitingCalls.values().forEach(call -> call.completeExceptionally(closed));
+        waitingCalls.clear();
+
+        if (error != null && sessionId != null) {
+            // connection errors before connected must be processed by caller
+            listener.onConnectionLost(error);
+        }
+    }
+
+    /**
+     * Remote calls for MageServer interface (works like jboss's transporter client)
+     */
+    private class ServerInvocationHandler implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "NioClient proxy for " + MageServer.class.getSimpleName();
+                }
+            }
+
+            long callId = callIds.incrementAndGet();
+            CompletableFuture<NioMessage> call = new CompletableFuture<>();
+            waitingCalls.put(callId, call);
+            NioMessage result;
+            try {
+                send(NioMessage.call(callId, NioFrames.getSignature(method), args));
+                result = call.get(CALL_TIMEOUT_SECS, TimeUnit.SECONDS);
+            } catch (TimeoutException e) {
+                throw new UncheckedIOException("Can't call " + method.getName(),
+                        new SocketTimeoutException("Server is not responding for " + CALL_TIMEOUT_SECS + " secs"));
+            } catch (ExecutionException e) {
+                throw new UncheckedIOException("Can't call " + method.getName(), (IOException) e.getCause());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Can't call " + method.getName(), e);
+            } finally {
+                waitingCalls.remove(callId);
+            }
+
+            if (result.getError() != null) {
+                // server side error (declared exceptions will be thrown as is)
+                throw result.getError();
+            }
+            return result.getData();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package mage.remote.nio;
+
+import java.io.*;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+
+/**
+ * Network, nio transport: frames encoding
+ * <p>
+ * Frame format: 4 bytes with data size + java serialized NioMessage
+ */
+public final class NioFrames {
+
+    public static final int HEADER_SIZE = 4;
+    public static final int MAX_FRAME_SIZE = 64 * 1024 * 1024; // protection from broken or bad data
+    public static final int MAX_HANDSHAKE_FRAME_SIZE = 4 * 1024; // frames from not connected clients (connect command only)
+
+    private NioFrames() {
+    }
+
+    /**
+     * Full frame with header, ready to write
+     */
+    public static ByteBuffer encode(NioMessage message) throws IOException {
+        FrameOutputStream out = new FrameOutputStream();
+        out.write(new byte[HEADER_SIZE]); // size placeholder
+        try (ObjectOutputStream objects = new ObjectOutputStream(out)) {
+            objects.writeObject(message);
+        }
+        return out.toFrame();
+    }
+
+    public static NioMessage decode(byte[] data, int offset, int length) throws IOException {
+        try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(data, offset, length))) {
+            return (NioMessage) objects.readObject();
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Wrong frame data (possible reason: incompatible client and server versions): " + e, e);
+        }
+    }
+
+    /**
+     * Blocking read of the full frame (for client side)
+     */
+    public static NioMessage read(DataInputStream in) throws IOException {
+        int size = in.readInt();
+        checkFrameSize(size, MAX_FRAME_SIZE);
+        byte[] data = new byte[size];
+        in.readFully(data);
+        return decode(data, 0, size);
+    }
+
+    public static void checkFrameSize(int size, int maxSize) throws IOException {
+        if (size <= 0 || size > maxSize) {
+            throw new IOException("Wrong frame size " + size + " (possible reason: incompatible transport or protocol)");
+        }
+    }
+
+    /**
+     * Unique method id for remote calls (method's name is not enough due overloads)
+     */
+    public static String getSignature(Method method) {
+        StringBuilder res = new StringBuilder(method.getName()).append('(');
+        Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (i > 0) {
+                res.append(',');
+            }
+            res.append(types[i].getName());
+        }
+        return res.append(')').toString();
+    }
+
+    /**
+     * Output stream without data copy on frame creation
+     */
+    private static class FrameOutputStream extends ByteArrayOutputStream {
+
+        FrameOutputStream() {
+            super(1024);
+        }
+
+        ByteBuffer toFrame() throws IOException {
+            int size = count - HEADER_SIZE;
+            checkFrameSize(size, MAX_FRAME_SIZE);
+            ByteBuffer res = ByteBuffer.wrap(buf, 0, count);
+            res.putInt(0, size);
+            return res;
+        }
+    }
+}
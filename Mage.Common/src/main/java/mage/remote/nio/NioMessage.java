@@ -0,0 +1,105 @@
+package mage.remote.nio;
+
+import java.io.Serializable;
+
+/**
+ * Network, nio transport: single frame data between client and server
+ * <p>
+ * Protocol:
+ * - client -> server: CONNECT, then any CALL, PING and DISCONNECT;
+ * - server -> client: CONNECTED with session id, RESULT for each CALL (same call id), PING answers and CALLBACK at any time;
+ * - all frames from one side come in same order as it was sent;
+ */
+public class NioMessage implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Type {
+        CONNECT,
+        CONNECTED,
+        DISCONNECT,
+        PING,
+        CALL,
+        RESULT,
+        CALLBACK
+    }
+
+    private final Type type;
+    private final long callId;
+    private final String method; // for CALL only, see NioFrames.getSignature
+    private final Object[] args;
+    private final Object data; // result, callback, session id or keep session flag
+    private final Throwable error;
+
+    private NioMessage(Type type, long callId, String method, Object[] args, Object data, Throwable error) {
+        this.type = type;
+        this.callId = callId;
+        this.method = method;
+        this.args = args;
+        this.data = data;
+        this.error = error;
+    }
+
+    public static NioMessage connect() {
+        return new NioMessage(Type.CONNECT, 0, null, null, null, null);
+    }
+
+    public static NioMessage connected(String sessionId) {
+        return new NioMessage(Type.CONNECTED, 0, null, null, sessionId, null);
+    }
+
+    /**
+     * @param keepSession true - server must keep session and tables until inactive timeout (e.g. on client restart)
+     */
+    public static NioMessage disconnect(boolean keepSession) {
+        return new NioMessage(Type.DISCONNECT, 0, null, null, keepSession, null);
+    }
+
+    public static NioMessage ping() {
+        return new NioMessage(Type.PING, 0, null, null, null, null);
+    }
+
+    public static NioMessage call(long callId, String method, Object[] args) {
+        return new NioMessage(Type.CALL, callId, method, args, null, null);
+    }
+
+    public static NioMessage result(long callId, Object result) {
+        return new NioMessage(Type.RESULT, callId, null, null, result, null);
+    }
+
+    public static NioMessage error(long callId, Throwable error) {
+        return new NioMessage(Type.RESULT, callId, null, null, null, error);
+    }
+
+    public static NioMessage callback(Object callback) {
+        return new NioMessage(Type.CALLBACK, 0, null, null, callback, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getCallId() {
+        return callId;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+    public String getInfo() {
+        return type + (method == null ? "" : " " + method) + (callId == 0 ? "" : " #" + callId);
+    }
+}
@@ -1,37 +1,41 @@
 package mage.remote.traffic;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import mage.util.SerializationCodec;
+
+import java.io.EOFException;
 import java.io.IOException;
+import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
- * Implementation for compressing and decompressing objects using {@link GZIPInputStream} and {@link GZIPOutputStream}.
+ * Implementation for compressing and decompressing objects using {@link SerializationCodec} (gzip by default).
  * Can be used to send any {@link Object} over internet to reduce traffic usage.
+ * <p>
+ * Stream format is same as before codecs support: data with default codec writes as is, other codecs
+ * write codec's name after the data (old versions ignore it, new versions use gzip on missing name).
  *
  * @author ayrat
  */
 public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
 
+    private transient SerializationCodec codec;
     private byte[] data;
 
     public ZippedObjectImpl(T object) {
+        this(object, SerializationCodec.JAVA_GZIP);
+    }
+
+    public ZippedObjectImpl(T object, SerializationCodec codec) {
+        this.codec = codec;
         zip(object);
     }
 
     public void zip(T object) {
         try {
-            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-            GZIPOutputStream gz = new GZIPOutputStream(bos);
-            ObjectOutputStream oos = new ObjectOutputStream(gz);
-            oos.writeObject(object);
-            oos.close();
-            data = bos.toByteArray();
-        } catch (IOException e) {
+            data = codec.encode(object);
+        } catch (Exception e) {
             e.printStackTrace();
         }
     }
@@ -39,16 +43,35 @@ public class ZippedObjectImpl<T> implements ZippedObject<T>, Serializable {
     @SuppressWarnings("unchecked")
     public T unzip() {
         try {
-            ByteArrayInputStream bis = new ByteArrayInputStream(data);
-            GZIPInputStream gz = new GZIPInputStream(bis);
-            ObjectInputStream ois = new ObjectInputStream(gz);
-            Object o = ois.readObject();
-            return (T)o;
+            return (T) codec.decode(data, null);
         } catch (Exception e) {
             e.printStackTrace();
         }
         return null;
     }
 
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        if (codec != SerializationCodec.JAVA_GZIP) {
+            out.writeUTF(codec.getName());
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        String codecName;
+        try {
+            codecName = in.readUTF();
+        } catch (EOFException e) {
+            // default codec or data from old version
+            codec = SerializationCodec.JAVA_GZIP;
+            return;
+        }
+        codec = SerializationCodec.findByName(codecName);
+        if (codec == null) {
+            throw new InvalidObjectException("Unknown serialization codec: " + codecName);
+        }
+    }
+
     private static final long serialVersionUID = 1L;
 }
@@ -2,6 +2,8 @@ package mage.utils;
 
 import mage.remote.traffic.ZippedObject;
 import mage.remote.traffic.ZippedObjectImpl;
+import mage.util.SerializationCodec;
+import org.apache.log4j.Logger;
 
 /**
  * Helps to compress and decompress network data
@@ -10,12 +12,35 @@ import mage.remote.traffic.ZippedObjectImpl;
  */
 public final class CompressUtil {
 
+    private static final Logger logger = Logger.getLogger(CompressUtil.class);
+
     // disable data compression in client-server traffic, add java param like -Dxmage.network.nocompress
     private static final String NO_COMPRESS_DATA_PROPERTY = "xmage.network.nocompress";
-    private static final boolean compressData;
+
+    // data format in client-server traffic, add java param like -Dxmage.network.codec=compact-deflate-fast
+    // (see SerializationCodec for possible values, compact formats require same client and server versions)
+    private static final String CODEC_PROPERTY = "xmage.network.codec";
+
+    private static final SerializationCodec codec;
 
     static {
-        compressData = System.getProperty(NO_COMPRESS_DATA_PROPERTY) == null;
+        codec = findCodec();
+    }
+
+    private static SerializationCodec findCodec() {
+        if (System.getProperty(NO_COMPRESS_DATA_PROPERTY) != null) {
+            return null;
+        }
+        String codecName = System.getProperty(CODEC_PROPERTY);
+        if (codecName == null) {
+            return SerializationCodec.JAVA_GZIP;
+        }
+        SerializationCodec res = SerializationCodec.findByName(codecName);
+        if (res == null) {
+            logger.error("Unknown network codec " + codecName + ", default will be used");
+            return SerializationCodec.JAVA_GZIP;
+        }
+        return res;
     }
 
     public static Object decompress(Object data) {
@@ -26,8 +51,8 @@ public final class CompressUtil {
     }
 
     public static Object compress(Object data) {
-        if (data != null && compressData) {
-            return new ZippedObjectImpl<>(data);
+        if (data != null && codec != null) {
+            return new ZippedObjectImpl<>(data, codec);
         }
         return data;
     }
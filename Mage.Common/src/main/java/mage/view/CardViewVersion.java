@@ -0,0 +1,119 @@
+package mage.view;
+
+import mage.util.Fingerprint;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Network: content version of the card view for delta updates, see {@link GameViewDeltaEncoder}
+ * <p>
+ * Game objects have no change counters (continuous effects, hints and other game data can change the view
+ * without object's changes), so version calculates from the view's data: same fields as java serialization
+ * (non-static and non-transient), but without streams and byte arrays. Fields are collected once per class.
+ * <p>
+ * Version is a 64-bit hash, so it must be used for compare only.
+ */
+final class CardViewVersion {
+
+    private static final Map<Class<?>, Field[]> classFields = new ConcurrentHashMap<>();
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long hash = Fingerprint.start();
+
+    private CardViewVersion() {
+    }
+
+    static long calc(CardView card) {
+        CardViewVersion version = new CardViewVersion();
+        version.addValue(card);
+        return version.hash;
+    }
+
+    private void addValue(Object value) {
+        if (value == null) {
+            hash = Fingerprint.add(hash, 0);
+        } else if (value instanceof String) {
+            addString((String) value);
+        } else if (value instanceof Boolean) {
+            hash = Fingerprint.add(hash, (Boolean) value);
+        } else if (value instanceof Character) {
+            hash = Fingerprint.add(hash, (Character) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            hash = Fingerprint.add(hash, Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            hash = Fingerprint.add(hash, ((Number) value).longValue());
+        } else if (value instanceof UUID) {
+            hash = Fingerprint.add(hash, (UUID) value);
+        } else if (value instanceof Enum) {
+            addString(value.getClass().getName());
+            hash = Fingerprint.add(hash, (Enum<?>) value);
+        } else if (!visited.add(value)) {
+            // same object in the view (or cycle), data already added
+            hash = Fingerprint.add(hash, 1);
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            hash = Fingerprint.add(hash, length);
+            for (int i = 0; i < length; i++) {
+                addValue(Array.get(value, i));
+            }
+        } else if (value instanceof Collection) {
+            addString(value.getClass().getName());
+            hash = Fingerprint.add(hash, ((Collection<?>) value).size());
+            for (Object item : (Collection<?>) value) {
+                addValue(item);
+            }
+        } else if (value instanceof Map) {
+            addString(value.getClass().getName());
+            hash = Fingerprint.add(hash, ((Map<?, ?>) value).size());
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                addValue(entry.getKey());
+                addValue(entry.getValue());
+            }
+        } else if (value.getClass().getName().startsWith("java.")) {
+            // other jdk's value types (e.g. colors)
+            addString(value.getClass().getName());
+            hash = Fingerprint.add(hash, value.hashCode());
+        } else {
+            addString(value.getClass().getName());
+            try {
+                for (Field field : getFields(value.getClass())) {
+                    addValue(field.get(value));
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Can't read card view's data: " + value.getClass().getName(), e);
+            }
+        }
+    }
+
+    /**
+     * Strings use full 64-bit hash (rules and hints texts can be different in a single char)
+     */
+    private void addString(String value) {
+        long res = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            res = (res ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        hash = Fingerprint.add(Fingerprint.add(hash, value.length()), res);
+    }
+
+    private static Field[] getFields(Class<?> clazz) {
+        return classFields.computeIfAbsent(clazz, CardViewVersion::findFields);
+    }
+
+    private static Field[] findFields(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields.toArray(new Field[0]);
+    }
+}
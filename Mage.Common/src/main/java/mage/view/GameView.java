@@ -69,6 +69,10 @@ public class GameView implements Serializable {
     private int totalEffectsCount;
     private int gameCycle;
 
+    // network: delta updates support, see GameViewDeltaEncoder
+    private int deltaVersion = 0; // 0 for non versioned view
+    private int deltaBaseVersion = 0; // 0 for full view, otherwise unchanged cards since that version are empty (null)
+
     public GameView(GameState state, Game game, UUID createdForPlayerId, UUID watcherUserId) {
         Player createdForPlayer = null;
         this.priorityTime = game.getPriorityTime();
@@ -364,4 +368,33 @@ public class GameView implements Serializable {
     public int getGameCycle() {
         return this.gameCycle;
     }
+
+    public int getDeltaVersion() {
+        return this.deltaVersion;
+    }
+
+    public int getDeltaBaseVersion() {
+        return this.deltaBaseVersion;
+    }
+
+    void setDeltaVersions(int deltaVersion, int deltaBaseVersion) {
+        this.deltaVersion = deltaVersion;
+        this.deltaBaseVersion = deltaBaseVersion;
+    }
+
+    /**
+     * Network: card zones that can be sent as delta (all cards keyed by id)
+     */
+    List<Map<UUID, ? extends CardView>> getDeltaZones() {
+        List<Map<UUID, ? extends CardView>> zones = new ArrayList<>();
+        zones.add(this.myHand);
+        zones.add(this.stack);
+        for (PlayerView player : this.players) {
+            zones.add(player.getBattlefield());
+            zones.add(player.getGraveyard());
+            zones.add(player.getExile());
+            zones.add(player.getSideboard());
+        }
+        return zones;
+    }
 }
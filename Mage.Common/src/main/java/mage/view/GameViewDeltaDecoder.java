@@ -0,0 +1,79 @@
+package mage.view;
+
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Network: client side part of the game view delta updates (one instance per game), see {@link GameViewDeltaEncoder}
+ * <p>
+ * Keeps serialized cards from the last restored view, so each restored card is a new object
+ * (client's GUI can modify card views, e.g. mark it as selected or playable)
+ */
+public class GameViewDeltaDecoder {
+
+    private static final Logger logger = Logger.getLogger(GameViewDeltaDecoder.class);
+
+    private int lastVersion = 0;
+    private Map<UUID, byte[]> lastCards = new HashMap<>(); // card id -> serialized card data from the last view
+
+    /**
+     * Restore unchanged cards in the game view
+     *
+     * @param gameView
+     * @return false on unknown base version (delta for lost or ignored view), so that view must be ignored
+     */
+    public synchronized boolean decode(GameView gameView) {
+        if (gameView.getDeltaVersion() == 0) {
+            // non versioned view, nothing to restore
+            return true;
+        }
+        if (gameView.getDeltaBaseVersion() != 0 && gameView.getDeltaBaseVersion() != this.lastVersion) {
+            return false;
+        }
+
+        Map<UUID, byte[]> newCards = new HashMap<>(this.lastCards.size());
+        try {
+            for (Map<UUID, ? extends CardView> cards : gameView.getDeltaZones()) {
+                for (Map.Entry<UUID, ? extends CardView> entry : cards.entrySet()) {
+                    byte[] data;
+                    if (entry.getValue() == null) {
+                        data = this.lastCards.get(entry.getKey());
+                        if (data == null) {
+                            return false;
+                        }
+                        // card's class is same as in the last view (class name is a part of the compared data)
+                        ((Map.Entry<UUID, CardView>) entry).setValue(readCard(data));
+                    } else {
+                        data = writeCard(entry.getValue());
+                    }
+                    newCards.putIfAbsent(entry.getKey(), data);
+                }
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            logger.error("Can't restore game view from delta: " + e.getMessage(), e);
+            return false;
+        }
+
+        this.lastVersion = gameView.getDeltaVersion();
+        this.lastCards = newCards;
+        return true;
+    }
+
+    private static byte[] writeCard(CardView card) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+            out.writeObject(card);
+        }
+        return bos.toByteArray();
+    }
+
+    private static CardView readCard(byte[] data) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            return (CardView) in.readObject();
+        }
+    }
+}
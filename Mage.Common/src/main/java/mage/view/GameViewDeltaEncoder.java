@@ -0,0 +1,94 @@
+package mage.view;
+
+import java.util.*;
+
+/**
+ * Network: server side part of the game view delta updates (one instance per user's game session)
+ * <p>
+ * Client keeps cards from the last received game view, so cards without changes since the last
+ * sent view can be sent as empty values (null) and restored on client side by {@link GameViewDeltaDecoder}.
+ * Encoder keeps card id and content version of each sent card only (see {@link CardViewVersion}).
+ * Delta must be used for non-critical updates only, all other views must be full, so client can
+ * recover after lost or ignored updates.
+ */
+public class GameViewDeltaEncoder {
+
+    // disable delta updates in client-server traffic, add java param like -Dxmage.network.nodelta
+    private static final String NO_DELTA_PROPERTY = "xmage.network.nodelta";
+    private static final boolean useDelta;
+
+    static {
+        useDelta = System.getProperty(NO_DELTA_PROPERTY) == null;
+    }
+
+    private int lastVersion = 0;
+    private Map<UUID, Long> lastCardVersions = new HashMap<>(); // card id -> content version of the last sent card data
+
+    /**
+     * Prepare full game view (client will replace all cards)
+     */
+    public synchronized GameView encodeFull(GameView gameView) {
+        return encode(gameView, false);
+    }
+
+    /**
+     * Prepare game view with changed cards only (unchanged cards will be restored by client from the last view)
+     */
+    public synchronized GameView encodeDelta(GameView gameView) {
+        return encode(gameView, true);
+    }
+
+    /**
+     * Prepare full game view with the last encoded version, so the client can apply next deltas from that encoder
+     * (one encoder can serve many clients with the same views, e.g. watchers). View's data must be the same as
+     * in the last encoded view.
+     */
+    public synchronized GameView encodeFullAsLast(GameView gameView) {
+        if (useDelta && this.lastVersion > 0) {
+            gameView.setDeltaVersions(this.lastVersion, 0);
+        }
+        return gameView;
+    }
+
+    /**
+     * Client can lose the last sent view (e.g. dropped callback or reconnect), so next view must be full
+     */
+    public synchronized void reset() {
+        this.lastVersion = 0;
+        this.lastCardVersions = new HashMap<>();
+    }
+
+    private GameView encode(GameView gameView, boolean needDelta) {
+        if (!useDelta) {
+            return gameView;
+        }
+
+        // collect versions of all cards
+        Map<UUID, Long> newCardVersions = new HashMap<>(lastCardVersions.size());
+        for (Map<UUID, ? extends CardView> cards : gameView.getDeltaZones()) {
+            for (Map.Entry<UUID, ? extends CardView> entry : cards.entrySet()) {
+                newCardVersions.computeIfAbsent(entry.getKey(), id -> CardViewVersion.calc(entry.getValue()));
+            }
+        }
+
+        // remove unchanged cards
+        boolean canUseDelta = needDelta && this.lastVersion > 0;
+        if (canUseDelta) {
+            Set<UUID> usedIds = new HashSet<>();
+            for (Map<UUID, ? extends CardView> cards : gameView.getDeltaZones()) {
+                for (Map.Entry<UUID, ? extends CardView> entry : cards.entrySet()) {
+                    if (usedIds.add(entry.getKey())
+                            && Objects.equals(newCardVersions.get(entry.getKey()), lastCardVersions.get(entry.getKey()))) {
+                        entry.setValue(null);
+                    }
+                }
+            }
+        }
+
+        int newVersion = this.lastVersion + 1;
+        gameView.setDeltaVersions(newVersion, canUseDelta ? this.lastVersion : 0);
+        this.lastVersion = newVersion;
+        this.lastCardVersions = newCardVersions;
+        return gameView;
+    }
+}
@@ -0,0 +1,63 @@
+package mage.view;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Server's lobby changes since known version (added, changed and removed rows only)
+ * <p>
+ * Client must apply removed rows first, then changed rows. Full update means client must forget all old rows.
+ */
+public class LobbyUpdateView implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long version;
+    private final boolean fullUpdate;
+    private final List<TableView> changedTables;
+    private final List<UUID> removedTables;
+    private final List<MatchView> changedMatches;
+    private final List<UUID> removedMatches;
+
+    public LobbyUpdateView(long version, boolean fullUpdate,
+                           List<TableView> changedTables, List<UUID> removedTables,
+                           List<MatchView> changedMatches, List<UUID> removedMatches) {
+        this.version = version;
+        this.fullUpdate = fullUpdate;
+        this.changedTables = changedTables;
+        this.removedTables = removedTables;
+        this.changedMatches = changedMatches;
+        this.removedMatches = removedMatches;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isFullUpdate() {
+        return fullUpdate;
+    }
+
+    /**
+     * Added or changed active tables
+     */
+    public List<TableView> getChangedTables() {
+        return changedTables;
+    }
+
+    public List<UUID> getRemovedTables() {
+        return removedTables;
+    }
+
+    /**
+     * Added or changed finished matches
+     */
+    public List<MatchView> getChangedMatches() {
+        return changedMatches;
+    }
+
+    public List<UUID> getRemovedMatches() {
+        return removedMatches;
+    }
+}
@@ -38,6 +38,8 @@ import org.apache.log4j.Logger;
 
 import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 
 /**
@@ -52,7 +54,6 @@ public class ComputerPlayer6 extends ComputerPlayer {
     // TODO: add and research maxNodes logs, is it good to increase from 5000 to 50000 for better results?
     // TODO: increase maxNodes due AI skill level like max depth?
     private static final int MAX_SIMULATED_NODES_PER_CALC = 5000;
-    private static final int MAX_SIMULATED_NODES_PER_ERROR = 5100; // TODO: debug only, set low value to find big calculations
 
     // same params as Executors.newFixedThreadPool
     // no needs errors check in afterExecute here cause that pool used for FutureTask with result check already
@@ -64,8 +65,28 @@ public class ComputerPlayer6 extends ComputerPlayer {
             new LinkedBlockingQueue<>(),
             new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MAD)
     );
+
+    // root-parallel search: first AI actions calculated in parallel threads (each action with own game simulation),
+    // disabled by default, enable it by -Dxmage.ai.rootParallelSearch=true
+    // it uses own pool cause root calculation waits its results in main simulations pool, pool is shared by all AI
+    // players and limited by CPU cores (search thread calculates actions too, so busy pool can't freeze it)
+    private static final boolean COMPUTER_ROOT_PARALLEL_SEARCH = Boolean.parseBoolean(System.getProperty("xmage.ai.rootParallelSearch", "false"));
+    private static final int ROOT_SEARCH_THREADS = Runtime.getRuntime().availableProcessors();
+    private static final ThreadPoolExecutor threadPoolRootActions = new ThreadPoolExecutor(
+            ROOT_SEARCH_THREADS,
+            ROOT_SEARCH_THREADS,
+            60L,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(),
+            new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_AI_SIMULATION_MAD)
+    );
+
+    static {
+        threadPoolRootActions.allowCoreThreadTimeOut(true);
+    }
     protected int maxDepth;
     protected int maxNodes;
+    protected boolean rootParallelSearch = COMPUTER_ROOT_PARALLEL_SEARCH;
     protected int maxThinkTimeSecs;
     protected LinkedList<Ability> actions = new LinkedList<>();
     protected List<UUID> targets = new ArrayList<>();
@@ -112,6 +133,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
         this.targets.addAll(player.targets);
         this.choices.addAll(player.choices);
         this.actionCache = player.actionCache;
+        this.rootParallelSearch = player.rootParallelSearch;
     }
 
     /**
@@ -121,6 +143,13 @@ public class ComputerPlayer6 extends ComputerPlayer {
         this.maxThinkTimeSecs = maxThinkTimeSecs;
     }
 
+    /**
+     * Change root-parallel search mode - used for AI tests only
+     */
+    public void setRootParallelSearch(boolean rootParallelSearch) {
+        this.rootParallelSearch = rootParallelSearch;
+    }
+
     @Override
     public ComputerPlayer6 copy() {
         return new ComputerPlayer6(this);
@@ -218,12 +247,12 @@ public class ComputerPlayer6 extends ComputerPlayer {
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
         // Condition to stop deeper simulation
-        if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+        if (node.getBudget().isOverflow()) {
             // how-to fix: make sure you are disabled debug mode by COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS = false
             throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
         }
         if (depth <= 0
-                || SimulationNode2.nodeCount > maxNodes
+                || node.getBudget().isReached()
                 || game.checkIfGameIsOver()) {
             val = GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
             if (logger.isTraceEnabled()) {
@@ -307,10 +336,11 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 test = root;
                 root = root.children.get(0);
             }
-            logger.trace("Sim getNextAction -- game value:" + game.getState().getValue(true) + " test value:" + test.gameValue);
+            long gameValue = game.getState().getFingerprint(true);
+            logger.trace("Sim getNextAction -- game value:" + gameValue + " test value:" + test.gameValue);
             if (root.playerId.equals(playerId)
                     && root.abilities != null
-                    && game.getState().getValue(true).hashCode() == test.gameValue) {
+                    && gameValue == test.gameValue) {
                 logger.info("simulating -- continuing previous actions chain");
                 actions = new LinkedList<>(root.abilities);
                 combat = root.combat;
@@ -318,7 +348,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             } else {
                 if (root.abilities == null || root.abilities.isEmpty()) {
                     logger.info("simulating -- need re-calculation (no more actions)");
-                } else if (game.getState().getValue(true).hashCode() != test.gameValue) {
+                } else if (gameValue != test.gameValue) {
                     logger.info("simulating -- need re-calculation (game state changed between actions)");
                 } else if (!root.playerId.equals(playerId)) {
                     // TODO: need research, why need playerId and why it taken from stack objects as controller
@@ -341,10 +371,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
             if (alpha >= beta) {
                 break;
             }
-            if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+            if (node.getBudget().isOverflow()) {
                 throw new IllegalStateException("AI ERROR: too much nodes (possible actions)");
             }
-            if (SimulationNode2.nodeCount > maxNodes) {
+            if (node.getBudget().isReached()) {
                 break;
             }
             int val = addActions(child, depth - 1, alpha, beta);
@@ -419,7 +449,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
                         SimulationNode2 newNode = new SimulationNode2(node, sim, depth, stackObject.getControllerId());
                         node.children.add(newNode);
                         newNode.getTargets().add(targetId);
-                        logger.trace("Sim search -- node#: " + SimulationNode2.getCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
+                        logger.trace("Sim search -- node#: " + newNode.getNodeCount() + " for player: " + sim.getPlayer(stackObject.getControllerId()).getName());
                     }
                     return;
                 }
@@ -514,7 +544,7 @@ public class ComputerPlayer6 extends ComputerPlayer {
             logger.debug("AI game sim interrupted by timeout");
             return GameStateEvaluator2.evaluate(playerId, game).getTotalScore();
         }
-        node.setGameValue(game.getState().getValue(true).hashCode());
+        node.setGameValue(game.getState().getFingerprint(true));
         SimulatedPlayer2 currentPlayer = (SimulatedPlayer2) game.getPlayer(game.getPlayerList().get());
         SimulationNode2 bestNode = null;
         List<Ability> allActions = currentPlayer.simulatePriority(game);
@@ -535,35 +565,45 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 logger.info(String.format("-> #%d (%s)", i + 1, getAbilityAndSourceInfo(game, possibleAbility, true)));
             }
         }
+        // root actions can be calculated in parallel, results will be checked in same order as sequential calculation
+        List<SimulationNode2> preparedNodes = null;
+        List<Integer> preparedScores = null;
+        if (rootParallelSearch
+                && depth == maxDepth
+                && currentPlayer.getId().equals(playerId)
+                && allActions.size() > 1) {
+            preparedNodes = new ArrayList<>();
+            for (Ability action : allActions) {
+                preparedNodes.add(prepareActionNode(node, game, currentPlayer, action, depth));
+            }
+            preparedScores = calcRootActionsInParallel(preparedNodes, depth, alpha, beta);
+        }
+
         int actionNumber = 0;
         int bestValSubNodes = Integer.MIN_VALUE;
         for (Ability action : allActions) {
             actionNumber++;
-            if (!COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
+            if (preparedScores == null
+                    && !COMPUTER_DISABLE_TIMEOUT_IN_GAME_SIMULATIONS && Thread.currentThread().isInterrupted()) {
                 logger.info("Sim Prio [" + depth + "] -- interrupted");
                 break;
             }
-            Game sim = game.createSimulationForAI();
-            if (!(action instanceof StaticAbility) //for MorphAbility, etc
-                    && sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
-                sim.applyEffects();
-                if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
-                    logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
-                    continue;
-                }
-                if (!sim.checkIfGameIsOver()
-                        && (action.isUsesStack() || action instanceof PassAbility)) {
-                    // skip priority for opponents before stack resolve
-                    UUID nextPlayerId = sim.getPlayerList().get();
-                    do {
-                        sim.getPlayer(nextPlayerId).pass(game);
-                        nextPlayerId = sim.getPlayerList().getNext();
-                    } while (!Objects.equals(nextPlayerId, this.getId()));
-                }
-                SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
-                sim.checkStateAndTriggered();
+            SimulationNode2 newNode;
+            if (preparedNodes != null) {
+                newNode = preparedNodes.get(actionNumber - 1);
+            } else {
+                newNode = prepareActionNode(node, game, currentPlayer, action, depth);
+            }
+            if (newNode != null) {
+                Game sim = newNode.getGame();
                 int finalScore;
-                if (action instanceof PassAbility && sim.getStack().isEmpty()) {
+                if (preparedScores != null) {
+                    if (preparedScores.get(actionNumber - 1) == null) {
+                        // not calculated due timeout
+                        continue;
+                    }
+                    finalScore = preparedScores.get(actionNumber - 1);
+                } else if (action instanceof PassAbility && sim.getStack().isEmpty()) {
                     // no more next actions, it's a final score
                     finalScore = GameStateEvaluator2.evaluate(this.getId(), sim).getTotalScore();
                 } else {
@@ -721,10 +761,10 @@ public class ComputerPlayer6 extends ComputerPlayer {
                 if (alpha >= beta) {
                     break;
                 }
-                if (SimulationNode2.nodeCount > MAX_SIMULATED_NODES_PER_ERROR) {
+                if (node.getBudget().isOverflow()) {
                     throw new IllegalStateException("AI ERROR: too many nodes (possible actions)");
                 }
-                if (SimulationNode2.nodeCount > maxNodes) {
+                if (node.getBudget().isReached()) {
                     logger.debug("Sim Prio -- reached end-state");
                     break;
                 }
@@ -733,7 +773,12 @@ public class ComputerPlayer6 extends ComputerPlayer {
 
         if (depth == maxDepth) {
             // TODO: buggy? Why it ended with depth limit 6 on one Pass action?!
-            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + SimulationNode2.nodeCount);
+            int nodesCount = node.getNodeCount();
+            if (preparedNodes != null) {
+                // parallel calculated actions use own budgets
+                nodesCount += preparedNodes.stream().filter(Objects::nonNull).mapToInt(SimulationNode2::getNodeCount).sum();
+            }
+            logger.info("Sim Prio [" + depth + "] ## Ended due max actions chain depth limit (" + maxDepth + ") -- Nodes calculated: " + nodesCount);
         }
         if (bestNode != null) {
             node.children.clear();
@@ -752,6 +797,115 @@ public class ComputerPlayer6 extends ComputerPlayer {
         }
     }
 
+    /**
+     * Activate action in new game simulation
+     *
+     * @return new node or null for impossible or repeated action
+     */
+    private SimulationNode2 prepareActionNode(SimulationNode2 node, Game game, Player currentPlayer, Ability action, int depth) {
+        Game sim = game.createSimulationForAI();
+        if (action instanceof StaticAbility //for MorphAbility, etc
+                || !sim.getPlayer(currentPlayer.getId()).activateAbility((ActivatedAbility) action.copy(), sim)) {
+            return null;
+        }
+        sim.applyEffects();
+        if (checkForRepeatedAction(sim, node, action, currentPlayer.getId())) {
+            logger.debug("Sim Prio [" + depth + "] -- repeated action: " + action);
+            return null;
+        }
+        if (!sim.checkIfGameIsOver()
+                && (action.isUsesStack() || action instanceof PassAbility)) {
+            // skip priority for opponents before stack resolve
+            UUID nextPlayerId = sim.getPlayerList().get();
+            do {
+                sim.getPlayer(nextPlayerId).pass(game);
+                nextPlayerId = sim.getPlayerList().getNext();
+            } while (!Objects.equals(nextPlayerId, this.getId()));
+        }
+        SimulationNode2 newNode = new SimulationNode2(node, sim, action, depth, currentPlayer.getId());
+        sim.checkStateAndTriggered();
+        return newNode;
+    }
+
+    /**
+     * Root-parallel search: calc score for each AI's root action in parallel threads
+     * <p>
+     * Workers share the best found score as alpha bound (same as sequential search raises alpha by previous
+     * actions), so a worse action can be cut off by the best score of any finished action. Each action gets
+     * same nodes limit as the sequential search, so both searches choose same action while it fits the limit.
+     * <p>
+     * Warning, cut off action can return other score than in sequential search (it's only a bound, less
+     * or equal to the best score), but it can't be chosen as the best action in both cases.
+     *
+     * @param newNodes prepared actions (null for impossible actions)
+     * @return scores in same order as actions (null for impossible or not calculated actions)
+     */
+    private List<Integer> calcRootActionsInParallel(List<SimulationNode2> newNodes, int depth, int alpha, int beta) {
+        int actionsCount = (int) newNodes.stream().filter(Objects::nonNull).count();
+        AtomicInteger nextAction = new AtomicInteger();
+        AtomicInteger bestScore = new AtomicInteger(alpha); // shared alpha, see sequential search in simulatePriority
+        AtomicReferenceArray<Integer> scores = new AtomicReferenceArray<>(newNodes.size());
+        newNodes.stream().filter(Objects::nonNull).forEach(newNode -> newNode.budget = new SimulationBudget(maxNodes));
+
+        // each worker takes next action in actions order
+        Runnable worker = () -> {
+            int index;
+            while ((index = nextAction.getAndIncrement()) < newNodes.size()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+                SimulationNode2 newNode = newNodes.get(index);
+                if (newNode == null) {
+                    continue;
+                }
+                Ability action = newNode.getAbilities().get(0);
+                int score;
+                if (action instanceof PassAbility && newNode.getGame().getStack().isEmpty()) {
+                    // no more next actions, it's a final score
+                    score = GameStateEvaluator2.evaluate(this.getId(), newNode.getGame()).getTotalScore();
+                } else {
+                    score = addActions(newNode, depth - 1, bestScore.get(), beta);
+                }
+                scores.set(index, score);
+                int alphaScore = action instanceof PassAbility ? score - PASSIVITY_PENALTY : score; // passivity penalty
+                bestScore.accumulateAndGet(alphaScore, Math::max);
+            }
+        };
+        List<Future<?>> workers = new ArrayList<>();
+        for (int i = 1; i < Math.min(ROOT_SEARCH_THREADS, actionsCount); i++) {
+            workers.add(threadPoolRootActions.submit(worker));
+        }
+
+        try {
+            // search thread works too, so all actions will be calculated even without free threads in the pool
+            worker.run();
+            for (Future<?> future : workers) {
+                if (!future.cancel(false)) {
+                    // started worker, wait for its last action
+                    future.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            // timeout: use finished results only
+            logger.info("Sim Prio [" + depth + "] -- interrupted");
+            workers.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            workers.forEach(future -> future.cancel(true));
+            throw new IllegalStateException("AI root action calculation error: " + e.getCause(), e.getCause());
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            // timeout inside search thread's own calculation
+            workers.forEach(future -> future.cancel(true));
+        }
+
+        List<Integer> res = new ArrayList<>();
+        for (int i = 0; i < scores.length(); i++) {
+            res.add(scores.get(i));
+        }
+        return res;
+    }
+
     protected String getAbilityAndSourceInfo(Game game, Ability ability, boolean showTargets) {
         // ability
         // TODO: add modal info
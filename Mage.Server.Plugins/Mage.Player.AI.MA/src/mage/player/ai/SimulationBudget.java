@@ -0,0 +1,48 @@
+package mage.player.ai;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Max simulated nodes for one AI search (search tree or its part in parallel calculations)
+ * <p>
+ * Each search has own budget, so AI players in different games do not limit each other
+ */
+public class SimulationBudget implements Serializable {
+
+    // TODO: debug only, set low value to find big calculations
+    private static final int MAX_NODES_OVERFLOW_FOR_ERROR = 100;
+
+    private final int maxNodes;
+    private final AtomicInteger nodes = new AtomicInteger();
+
+    public SimulationBudget(int maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    public void addNode() {
+        nodes.incrementAndGet();
+    }
+
+    public int getNodes() {
+        return nodes.get();
+    }
+
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Search must be stopped
+     */
+    public boolean isReached() {
+        return nodes.get() > maxNodes;
+    }
+
+    /**
+     * Search ignored node limits (too many possible actions in one node)
+     */
+    public boolean isOverflow() {
+        return nodes.get() > maxNodes + MAX_NODES_OVERFLOW_FOR_ERROR;
+    }
+}
@@ -15,10 +15,8 @@ import mage.game.combat.Combat;
  */
 public class SimulationNode2 implements Serializable {
 
-    protected static int nodeCount;
-
     protected Game game;
-    protected int gameValue; // game state hash to monitor changes
+    protected long gameValue; // game state fingerprint to monitor changes
     protected int score;
     protected List<Ability> abilities;
     protected int depth;
@@ -28,14 +26,23 @@ public class SimulationNode2 implements Serializable {
     protected List<String> choices = new ArrayList<>(); // TODO: un-used at all, maybe same history as targets above
     protected UUID playerId;
     protected Combat combat;
+    protected SimulationBudget budget; // shared by all nodes of the search tree
 
-    public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+    /**
+     * @param budget new budget for root node or for parallel calculated sub-tree
+     */
+    public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId, SimulationBudget budget) {
         this.parent = parent;
         this.game = game;
         this.depth = depth;
         this.playerId = playerId;
+        this.budget = budget;
         game.setCustomData(this);
-        nodeCount++;
+        budget.addNode();
+    }
+
+    public SimulationNode2(SimulationNode2 parent, Game game, int depth, UUID playerId) {
+        this(parent, game, depth, playerId, parent.budget);
     }
 
     public SimulationNode2(SimulationNode2 parent, Game game, List<Ability> abilities, int depth, UUID playerId) {
@@ -49,23 +56,23 @@ public class SimulationNode2 implements Serializable {
         abilities.add(ability);
     }
 
-    public static void resetCount() {
-        nodeCount = 0;
+    public SimulationBudget getBudget() {
+        return budget;
     }
 
-    public static int getCount() {
-        return nodeCount;
+    public int getNodeCount() {
+        return budget.getNodes();
     }
 
     public Game getGame() {
         return this.game;
     }
 
-    public int getGameValue() {
+    public long getGameValue() {
         return this.gameValue;
     }
 
-    public void setGameValue(int value) {
+    public void setGameValue(long value) {
         this.gameValue = value;
     }
 
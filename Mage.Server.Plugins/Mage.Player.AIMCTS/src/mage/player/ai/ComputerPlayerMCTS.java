@@ -37,6 +37,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     private int poolSize;
 
     private ExecutorService threadPoolSimulations = null;
+    private transient MCTSActionCaches actionCaches = null; // lazy, transient fields are null after deserialization
 
     public ComputerPlayerMCTS(String name, RangeOfInfluence range, int skill) {
         super(name, range);
@@ -51,6 +52,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
 
     public ComputerPlayerMCTS(final ComputerPlayerMCTS player) {
         super(player);
+        this.actionCaches = player.getActionCaches(); // game scoped, so copies can use same caches
     }
 
     @Override
@@ -58,6 +60,13 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
         return new ComputerPlayerMCTS(this);
     }
 
+    private synchronized MCTSActionCaches getActionCaches() {
+        if (actionCaches == null) {
+            actionCaches = new MCTSActionCaches();
+        }
+        return actionCaches;
+    }
+
     protected String lastPhase = "";
 
     @Override
@@ -67,7 +76,8 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                 logList(game.getTurn().getValue(game.getTurnNum()) + name + " hand: ", new ArrayList(hand.getCards(game)));
                 lastPhase = game.getTurn().getValue(game.getTurnNum());
                 if (MCTSNode.USE_ACTION_CACHE) {
-                    int count = MCTSNode.cleanupCache(game.getTurnNum());
+                    // game states from older turns will never be used again
+                    int count = getActionCaches().clear();
                     if (count > 0)
                         logger.info("Removed " + count + " cache entries");
                 }
@@ -92,7 +102,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
             Game sim = createMCTSGame(game);
             MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
             player.setNextAction(action);
-            root = new MCTSNode(playerId, sim);
+            root = new MCTSNode(playerId, sim, getActionCaches());
         }
         applyMCTS(game, action);
         if (root != null && root.bestChild() != null) {
@@ -104,7 +114,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
     protected void getNextAction(Game game, NextAction nextAction) {
         if (root != null) {
             MCTSNode newRoot;
-            newRoot = root.getMatchingState(game.getState().getValue(game, playerId));
+            newRoot = root.getMatchingState(game.getState().getFingerprint(game, playerId));
             if (newRoot != null) {
                 newRoot.emancipate();
             } else
@@ -182,7 +192,7 @@ public class ComputerPlayerMCTS extends ComputerPlayer {
                     Game sim = createMCTSGame(game);
                     MCTSPlayer player = (MCTSPlayer) sim.getPlayer(playerId);
                     player.setNextAction(action);
-                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime);
+                    MCTSExecutor exec = new MCTSExecutor(sim, playerId, thinkTime, getActionCaches());
                     tasks.add(exec);
                 }
 
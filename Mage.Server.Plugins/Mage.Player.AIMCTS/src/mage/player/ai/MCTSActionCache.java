@@ -0,0 +1,81 @@
+package mage.player.ai;
+
+import mage.util.CacheStats;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Transposition table for MCTS actions: possible actions by game state fingerprint
+ * <p>
+ * Belongs to one AI player (game), so it's free on game end. Memory is limited by max weight (stored elements
+ * amount in all values), least recently used states will be removed first
+ *
+ * @param <V> possible actions
+ */
+public class MCTSActionCache<V extends Collection<?>> {
+
+    private final int maxWeight;
+    private final CacheStats stats;
+    private final LinkedHashMap<Long, V> cache = new LinkedHashMap<>(16, 0.75f, true); // access order for LRU
+    private int weight = 0;
+
+    public MCTSActionCache(String name, int maxWeight) {
+        this.maxWeight = maxWeight;
+        this.stats = CacheStats.get(name);
+    }
+
+    public synchronized V get(long state) {
+        V value = cache.get(state);
+        if (value != null) {
+            stats.addHit();
+        } else {
+            stats.addMiss();
+        }
+        return value;
+    }
+
+    public synchronized void put(long state, V value) {
+        V oldValue = cache.put(state, value);
+        if (oldValue != null) {
+            weight -= getWeight(oldValue);
+        }
+        weight += getWeight(value);
+
+        // remove least recently used
+        int evicted = 0;
+        Iterator<Map.Entry<Long, V>> iterator = cache.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<Long, V> entry = iterator.next();
+            if (entry.getKey() == state) {
+                // keep new value even if it's too big
+                continue;
+            }
+            weight -= getWeight(entry.getValue());
+            iterator.remove();
+            evicted++;
+        }
+        if (evicted > 0) {
+            stats.addEvictions(evicted);
+        }
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    public synchronized int getWeight() {
+        return weight;
+    }
+
+    private static int getWeight(Collection<?> value) {
+        return 1 + value.size();
+    }
+}
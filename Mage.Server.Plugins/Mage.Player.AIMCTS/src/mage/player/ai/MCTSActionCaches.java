@@ -0,0 +1,44 @@
+package mage.player.ai;
+
+import mage.abilities.Ability;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * MCTS AI player's caches for possible actions, see MCTSNode.USE_ACTION_CACHE
+ * <p>
+ * Shared by all simulation threads of the player
+ */
+public class MCTSActionCaches {
+
+    // max stored elements per cache (abilities, attacks or blocks)
+    private static final int MAX_WEIGHT = Integer.getInteger("xmage.ai.mcts.cacheMaxWeight", 50000);
+
+    private final MCTSActionCache<List<Ability>> playables = new MCTSActionCache<>("AI MCTS playables", MAX_WEIGHT);
+    private final MCTSActionCache<List<List<UUID>>> attacks = new MCTSActionCache<>("AI MCTS attacks", MAX_WEIGHT);
+    private final MCTSActionCache<List<List<List<UUID>>>> blocks = new MCTSActionCache<>("AI MCTS blocks", MAX_WEIGHT);
+
+    public MCTSActionCache<List<Ability>> getPlayables() {
+        return playables;
+    }
+
+    public MCTSActionCache<List<List<UUID>>> getAttacks() {
+        return attacks;
+    }
+
+    public MCTSActionCache<List<List<List<UUID>>>> getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * @return removed entries
+     */
+    public int clear() {
+        int count = playables.size() + attacks.size() + blocks.size();
+        playables.clear();
+        attacks.clear();
+        blocks.clear();
+        return count;
+    }
+}
@@ -19,10 +19,10 @@ public class MCTSExecutor implements Callable<Boolean> {
 
     private static final Logger logger = Logger.getLogger(ComputerPlayerMCTS.class);
 
-    public MCTSExecutor(Game sim, UUID playerId, int thinkTime) {
+    public MCTSExecutor(Game sim, UUID playerId, int thinkTime, MCTSActionCaches caches) {
         this.playerId = playerId;
         this.thinkTime = thinkTime;
-        root = new MCTSNode(playerId, sim);
+        root = new MCTSNode(playerId, sim, caches);
     }
 
     @Override
@@ -3,11 +3,8 @@ package mage.player.ai;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.abilities.Ability;
@@ -18,6 +15,7 @@ import mage.game.Game;
 import mage.game.combat.Combat;
 import mage.game.turn.Step.StepPart;
 import mage.players.Player;
+import mage.util.CacheStats;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
 
@@ -27,7 +25,9 @@ import org.apache.log4j.Logger;
  */
 public class MCTSNode {
 
-    public static final boolean USE_ACTION_CACHE = false;
+    // cache possible actions by game state (each AI player has own caches, see MCTSActionCaches),
+    // enable it by -Dxmage.ai.mcts.actionCache=true
+    public static final boolean USE_ACTION_CACHE = Boolean.parseBoolean(System.getProperty("xmage.ai.mcts.actionCache", "false"));
     private static final double selectionCoefficient = Math.sqrt(2.0);
     private static final double passRatioTolerance = 0.0;
     private static final Logger logger = Logger.getLogger(MCTSNode.class);
@@ -39,19 +39,22 @@ public class MCTSNode {
     private Ability action;
     private Game game;
     private Combat combat;
-    private final String stateValue;
-    private final String fullStateValue;
+    private final long stateValue;
+    private final long fullStateValue;
     private UUID playerId;
     private boolean terminal = false;
     private UUID targetPlayer;
 
+    private final MCTSActionCaches caches;
+
     private static int nodeCount;
 
-    public MCTSNode(UUID targetPlayer, Game game) {
+    public MCTSNode(UUID targetPlayer, Game game, MCTSActionCaches caches) {
         this.targetPlayer = targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.caches = caches;
+        this.stateValue = game.getState().getFingerprint(game, targetPlayer);
+        this.fullStateValue = game.getState().getFingerprint(true, game);
         this.terminal = game.checkIfGameIsOver();
         setPlayer();
         nodeCount = 1;
@@ -61,8 +64,9 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Ability action) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.caches = parent.caches;
+        this.stateValue = game.getState().getFingerprint(game, targetPlayer);
+        this.fullStateValue = game.getState().getFingerprint(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         this.action = action;
@@ -74,9 +78,10 @@ public class MCTSNode {
     protected MCTSNode(MCTSNode parent, Game game, Combat combat) {
         this.targetPlayer = parent.targetPlayer;
         this.game = game;
+        this.caches = parent.caches;
         this.combat = combat;
-        this.stateValue = game.getState().getValue(game, targetPlayer);
-        this.fullStateValue = game.getState().getValue(true, game);
+        this.stateValue = game.getState().getFingerprint(game, targetPlayer);
+        this.fullStateValue = game.getState().getFingerprint(true, game);
         this.terminal = game.checkIfGameIsOver();
         this.parent = parent;
         setPlayer();
@@ -222,7 +227,7 @@ public class MCTSNode {
         return nodeCount;
     }
 
-    public String getStateValue() {
+    public long getStateValue() {
         return stateValue;
     }
 
@@ -300,13 +305,13 @@ public class MCTSNode {
      * @param state - the game state that we are looking for
      * @return the matching state or null if no match is found
      */
-    public MCTSNode getMatchingState(String state) {
+    public MCTSNode getMatchingState(long state) {
         ArrayDeque<MCTSNode> queue = new ArrayDeque<>();
         queue.add(this);
 
         while (!queue.isEmpty()) {
             MCTSNode current = queue.remove();
-            if (current.stateValue.equals(state))
+            if (current.stateValue == state)
                 return current;
             for (MCTSNode child: current.children) {
                 queue.add(child);
@@ -316,7 +321,7 @@ public class MCTSNode {
     }
 
     public void merge(MCTSNode merge) {
-        if (!stateValue.equals(merge.stateValue)) {
+        if (stateValue != merge.stateValue) {
             logger.info("mismatched merge states at root");
             return;
         }
@@ -334,7 +339,7 @@ public class MCTSNode {
             for (MCTSNode mergeChild: mergeChildren) {
                 if (mergeChild.action != null && child.action != null) {
                     if (mergeChild.action.toString().equals(child.action.toString())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -348,7 +353,7 @@ public class MCTSNode {
                 }
                 else {
                     if (mergeChild.combat.getValue().equals(child.combat.getValue())) {
-                        if (!mergeChild.stateValue.equals(child.stateValue)) {
+                        if (mergeChild.stateValue != child.stateValue) {
                             mismatchCount++;
 //                            logger.info("mismatched merge states");
 //                            mergeChildren.remove(mergeChild);
@@ -393,99 +398,36 @@ public class MCTSNode {
         return num;
     }
 
-    private static final ConcurrentHashMap<String, List<Ability>> playablesCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<UUID>>> attacksCache = new ConcurrentHashMap<>();
-    private static final ConcurrentHashMap<String, List<List<List<UUID>>>> blocksCache = new ConcurrentHashMap<>();
-
-    private static long playablesHit = 0;
-    private static long playablesMiss = 0;
-    private static long attacksHit = 0;
-    private static long attacksMiss = 0;
-    private static long blocksHit = 0;
-    private static long blocksMiss = 0;
-
-    protected static List<Ability> getPlayables(MCTSPlayer player, String state, Game game) {
-        if (playablesCache.containsKey(state)) {
-            playablesHit++;
-            return playablesCache.get(state);
-        }
-        else {
-            playablesMiss++;
-            List<Ability> abilities = player.getPlayableOptions(game);
-            playablesCache.put(state, abilities);
-            return abilities;
+    protected List<Ability> getPlayables(MCTSPlayer player, long state, Game game) {
+        List<Ability> abilities = caches.getPlayables().get(state);
+        if (abilities == null) {
+            abilities = player.getPlayableOptions(game);
+            caches.getPlayables().put(state, abilities);
         }
+        return abilities;
     }
 
-    protected static List<List<UUID>> getAttacks(MCTSPlayer player, String state, Game game) {
-        if (attacksCache.containsKey(state)) {
-            attacksHit++;
-            return attacksCache.get(state);
-        }
-        else {
-            attacksMiss++;
-            List<List<UUID>> attacks = player.getAttacks(game);
-            attacksCache.put(state, attacks);
-            return attacks;
-        }
-    }
-    
-    protected static List<List<List<UUID>>> getBlocks(MCTSPlayer player, String state, Game game) {
-        if (blocksCache.containsKey(state)) {
-            blocksHit++;
-            return blocksCache.get(state);
-        }
-        else {
-            blocksMiss++;
-            List<List<List<UUID>>> blocks = player.getBlocks(game);
-            blocksCache.put(state, blocks);
-            return blocks;
+    protected List<List<UUID>> getAttacks(MCTSPlayer player, long state, Game game) {
+        List<List<UUID>> attacks = caches.getAttacks().get(state);
+        if (attacks == null) {
+            attacks = player.getAttacks(game);
+            caches.getAttacks().put(state, attacks);
         }
+        return attacks;
     }
-    
-    public static int cleanupCache(int turnNum) {
-        Set<String> playablesKeys = playablesCache.keySet();
-        Iterator<String> playablesIterator = playablesKeys.iterator();
-        int count = 0;
-        while(playablesIterator.hasNext()) {
-            String next = playablesIterator.next();
-            int cacheTurn = Integer.parseInt(next.split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                playablesIterator.remove();
-                count++;
-            }
-        }
 
-        Set<String> attacksKeys = attacksCache.keySet();
-        Iterator<String> attacksIterator = attacksKeys.iterator();
-        while(attacksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(attacksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                attacksIterator.remove();
-                count++;
-            }
-        }
-        
-        Set<String> blocksKeys = blocksCache.keySet();
-        Iterator<String> blocksIterator = blocksKeys.iterator();
-        while(blocksIterator.hasNext()) {
-            int cacheTurn = Integer.parseInt(blocksIterator.next().split(":", 2)[0].substring(1));
-            if (cacheTurn < turnNum) {
-                blocksIterator.remove();
-                count++;
-            }
+    protected List<List<List<UUID>>> getBlocks(MCTSPlayer player, long state, Game game) {
+        List<List<List<UUID>>> blocks = caches.getBlocks().get(state);
+        if (blocks == null) {
+            blocks = player.getBlocks(game);
+            caches.getBlocks().put(state, blocks);
         }
-
-        return count;
+        return blocks;
     }
-    
+
     public static void logHitMiss() {
         if (USE_ACTION_CACHE) {
-            StringBuilder sb = new StringBuilder();
-            sb.append("Playables Cache -- Hits: ").append(playablesHit).append(" Misses: ").append(playablesMiss).append('\n');
-            sb.append("Attacks Cache -- Hits: ").append(attacksHit).append(" Misses: ").append(attacksMiss).append('\n');
-            sb.append("Blocks Cache -- Hits: ").append(blocksHit).append(" Misses: ").append(blocksMiss).append('\n');
-            logger.info(sb.toString());
+            logger.info(String.join("\n", CacheStats.getInfo()));
         }
-    }    
+    }
 }
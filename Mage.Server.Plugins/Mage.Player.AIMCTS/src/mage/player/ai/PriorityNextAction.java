@@ -10,13 +10,13 @@ import java.util.List;
 public class PriorityNextAction implements MCTSNodeNextAction{
 
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
+    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, long fullStateValue) {
         List<MCTSNode> children = new ArrayList<>();
         List<Ability> abilities;
         if (!MCTSNode.USE_ACTION_CACHE)
             abilities = player.getPlayableOptions(game);
         else
-            abilities = MCTSNode.getPlayables(player, fullStateValue, game);
+            abilities = node.getPlayables(player, fullStateValue, game);
         for (Ability ability: abilities) {
             Game sim = game.createSimulationForAI();
             MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
@@ -6,17 +6,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import static mage.player.ai.MCTSNode.getAttacks;
-
 public class SelectAttackersNextAction implements MCTSNodeNextAction{
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
+    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, long fullStateValue) {
         List<MCTSNode> children = new ArrayList<>();
         List<List<UUID>> attacks;
         if (!MCTSNode.USE_ACTION_CACHE)
             attacks = player.getAttacks(game);
         else
-            attacks = getAttacks(player, fullStateValue, game);
+            attacks = node.getAttacks(player, fullStateValue, game);
         UUID defenderId = game.getOpponents(player.getId(), true).iterator().next();
         for (List<UUID> attack: attacks) {
             Game sim = game.createSimulationForAI();
@@ -7,17 +7,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
-import static mage.player.ai.MCTSNode.getBlocks;
-
 public class SelectBlockersNextAction implements MCTSNodeNextAction{
     @Override
-    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, String fullStateValue) {
+    public List<MCTSNode> performNextAction(MCTSNode node, MCTSPlayer player, Game game, long fullStateValue) {
         List<MCTSNode> children = new ArrayList<>();
         List<List<List<UUID>>> blocks;
         if (!MCTSNode.USE_ACTION_CACHE)
             blocks = player.getBlocks(game);
         else
-            blocks = getBlocks(player, fullStateValue, game);
+            blocks = node.getBlocks(player, fullStateValue, game);
         for (List<List<UUID>> block : blocks) {
             Game sim = game.createSimulationForAI();
             MCTSPlayer simPlayer = (MCTSPlayer) sim.getPlayer(player.getId());
@@ -89,9 +89,9 @@ public class HumanPlayer extends PlayerImpl {
     // * keep only latest income feedback (if user sends multiple clicks/choices)
     // * HumanPlayer contains "response" object for threads sync and data exchange
     // * so sync logic:
-    // * - GAME thread: open response for income command and wait (go to sleep by response.wait)
+    // * - GAME thread: open response for income command and wait (go to sleep by response.waitAnswer)
     // * - CALL thread: on closed response - waiting open status of player's response object (if it's too long then cancel the answer)
-    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.notifyAll
+    // * - CALL thread: on opened response - save answer to player's response object and notify GAME thread about it by response.signalAnswer
     // * - GAME thread: on notify from response - check new answer value and process it (if it bad then repeat and wait the next one);
     private transient Boolean responseOpenedForAnswer = false; // GAME thread waiting new answer
     private transient long responseLastWaitingThreadId = 0;
@@ -272,7 +272,7 @@ public class HumanPlayer extends PlayerImpl {
             //waitResponseOpen(); // it's a macro action, no need it here?
             synchronized (response) {
                 response.copyFrom(action);
-                response.notifyAll();
+                response.signalAnswer();
                 macroTriggeredSelectionFlag = false;
                 return true;
             }
@@ -332,14 +332,12 @@ public class HumanPlayer extends PlayerImpl {
             responseOpenedForAnswer = true;
 
             loop = false;
-            synchronized (response) { // TODO: synchronized response smells bad here, possible deadlocks? Need research
-                try {
-                    response.wait(); // start waiting a response.notifyAll command from CALL thread (client answer)
-                } catch (InterruptedException ignore) {
-                } finally {
-                    responseOpenedForAnswer = false;
-                    game.pauseTimer(getTurnControlledBy());
-                }
+            try {
+                response.waitAnswer(); // start waiting a response.signalAnswer command from CALL thread (client answer)
+            } catch (InterruptedException ignore) {
+            } finally {
+                responseOpenedForAnswer = false;
+                game.pauseTimer(getTurnControlledBy());
             }
 
             // async command: concede by any player
@@ -2603,7 +2601,7 @@ public class HumanPlayer extends PlayerImpl {
         }
         synchronized (response) {
             response.setString(responseString);
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Got response string from player: " + getId());
         }
     }
@@ -2616,7 +2614,7 @@ public class HumanPlayer extends PlayerImpl {
         synchronized (response) {
             response.setManaType(manaType);
             response.setResponseManaPlayerId(manaTypePlayerId);
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Got response mana type from player: " + getId());
         }
     }
@@ -2628,7 +2626,7 @@ public class HumanPlayer extends PlayerImpl {
         }
         synchronized (response) {
             response.setUUID(responseUUID);
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Got response UUID from player: " + getId());
         }
     }
@@ -2640,7 +2638,7 @@ public class HumanPlayer extends PlayerImpl {
         }
         synchronized (response) {
             response.setBoolean(responseBoolean);
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Got response boolean from player: " + getId());
         }
     }
@@ -2652,7 +2650,7 @@ public class HumanPlayer extends PlayerImpl {
         }
         synchronized (response) {
             response.setInteger(responseInteger);
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Got response integer from player: " + getId());
         }
     }
@@ -2662,7 +2660,7 @@ public class HumanPlayer extends PlayerImpl {
         // abort must cancel any response and stop waiting immediately
         abort = true;
         synchronized (response) {
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Got cancel action from player: " + getId());
         }
     }
@@ -2677,7 +2675,7 @@ public class HumanPlayer extends PlayerImpl {
         synchronized (response) {
             response.setAsyncWantConcede(); // tell game that it must check conceding players
             if (stopCurrentChooseDialog) {
-                response.notifyAll(); // will force to stop a current waiting dialog (so game can continue)
+                response.signalAnswer(); // will force to stop a current waiting dialog (so game can continue)
             }
         }
     }
@@ -2687,7 +2685,7 @@ public class HumanPlayer extends PlayerImpl {
         // waitResponseOpen(); // cheat is async event, will be processed on first player's priority
         synchronized (response) {
             response.setAsyncWantCheat();
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Set cheat for waiting player: " + getId());
         }
     }
@@ -2698,7 +2696,7 @@ public class HumanPlayer extends PlayerImpl {
         // TODO: can be bugged and must be reworked, see wantConcede as example?!
         synchronized (response) {
             response.setInteger(0);
-            response.notifyAll();
+            response.signalAnswer();
             logger.debug("Got skip action from player: " + getId());
         }
     }
@@ -6,6 +6,8 @@ import mage.util.Copyable;
 
 import java.io.Serializable;
 import java.util.UUID;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Network: server side data for waiting a user's response like new choice
@@ -14,7 +16,7 @@ import java.util.UUID;
  * - one response object per user;
  * - support multiple data types;
  * - waiting and writing response on diff threads;
- * - start by response.wait (game thread) and end by response.notifyAll (network/call thread)
+ * - start by response.waitAnswer (game thread) and end by response.signalAnswer (network/call thread)
  * - user's request can income in diff order, so only one latest response allowed (except async commands like concede and cheat)
  *
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -38,6 +40,11 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
     private Boolean asyncWantConcede;
     private Boolean asyncWantCheat;
 
+    // threads sync: lock instead synchronized + wait, so waiting virtual game thread can free its carrier thread
+    private final transient ReentrantLock answerLock = new ReentrantLock();
+    private final transient Condition answerCondition = answerLock.newCondition();
+    private transient boolean answerSignaled = false;
+
     public PlayerResponse() {
         clear();
     }
@@ -88,6 +95,42 @@ public class PlayerResponse implements Serializable, Copyable<PlayerResponse> {
         this.responseManaPlayerId = null;
         this.asyncWantConcede = null;
         this.asyncWantCheat = null;
+
+        // signals from older responses must be ignored
+        answerLock.lock();
+        try {
+            this.answerSignaled = false;
+        } finally {
+            answerLock.unlock();
+        }
+    }
+
+    /**
+     * Game thread: wait for a signal from another thread (new answer, async command or abort)
+     */
+    public void waitAnswer() throws InterruptedException {
+        answerLock.lock();
+        try {
+            while (!answerSignaled) {
+                answerCondition.await();
+            }
+            answerSignaled = false;
+        } finally {
+            answerLock.unlock();
+        }
+    }
+
+    /**
+     * Any thread: wake up waiting game thread
+     */
+    public void signalAnswer() {
+        answerLock.lock();
+        try {
+            answerSignaled = true;
+            answerCondition.signalAll();
+        } finally {
+            answerLock.unlock();
+        }
     }
 
     public String getActiveAction() {
@@ -0,0 +1,17 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+
+import java.io.IOException;
+
+/**
+ * Network, server side: send commands/events to the client (transport independent part of the session)
+ */
+public interface CallbackChannel {
+
+    /**
+     * @param canComeInAnyOrder data can be sent in async mode
+     * @throws IOException on connection problems (session must be disconnected, client must reconnect)
+     */
+    void sendCallback(ClientCallback call, boolean canComeInAnyOrder) throws IOException;
+}
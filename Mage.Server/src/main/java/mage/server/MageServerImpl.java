@@ -395,6 +395,17 @@ public class MageServerImpl implements MageServer {
         return null;
     }
 
+    @Override
+    //FIXME: why no sessionId here???
+    public LobbyUpdateView roomGetLobbyUpdate(UUID roomId, long knownVersion) throws MageException {
+        try {
+            return managerFactory.gamesRoomManager().getRoom(roomId).map(room -> room.getLobbyUpdate(knownVersion)).orElse(null);
+        } catch (Exception ex) {
+            handleException(ex);
+        }
+        return null;
+    }
+
     @Override
     //FIXME: why no sessionId here???
     public List<MatchView> roomGetFinishedMatches(UUID roomId) throws MageException {
@@ -10,6 +10,7 @@ import mage.cards.repository.RepositoryUtil;
 import mage.game.match.MatchType;
 import mage.game.tournament.TournamentType;
 import mage.interfaces.MageServer;
+import mage.interfaces.callback.ClientCallback;
 import mage.remote.Connection;
 import mage.remote.SessionImpl;
 import mage.server.draft.CubeFactory;
@@ -29,8 +30,7 @@ import mage.utils.MageVersion;
 import mage.utils.SystemUtil;
 import org.apache.log4j.Logger;
 import org.jboss.remoting.*;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
-import org.jboss.remoting.callback.ServerInvokerCallbackHandler;
+import org.jboss.remoting.callback.*;
 import org.jboss.remoting.transport.Connector;
 import org.jboss.remoting.transport.bisocket.BisocketServerInvoker;
 import org.jboss.remoting.transport.socket.SocketWrapper;
@@ -63,6 +63,8 @@ public final class Main {
     // - if maxPoolSize reached then new clients will freeze in connection dialog until backlog queue overflow;
     // - so for active server must increase maxPoolSize to bigger value like "max online * 20"
     // - worker idle timeout will free unused worker thread, so new client can connect again;
+    // - nio transport (see transport in config) uses single selector thread for all connections and maxPoolSize workers
+    //   for all clients, so no needs in "max online * 20" there;
     private static final int SERVER_WORKER_THREAD_IDLE_TIMEOUT_SECS = 5 * 60; // no needs to config, must be enabled for all
 
     // arg settings can be setup by run script or IDE's program arguments like -xxx=yyy
@@ -82,6 +84,7 @@ public final class Main {
 
     public static final PluginClassLoader classLoader = new PluginClassLoader();
     private static TransporterServer server;
+    private static NioServer nioServer;
 
     // Special test mode:
     // - fast game buttons;
@@ -263,6 +266,7 @@ public final class Main {
         logger.info("Config - max pool size   : " + config.getMaxPoolSize());
         logger.info("Config - num accp.threads: " + config.getNumAcceptThreads());
         logger.info("Config - second.bind port: " + config.getSecondaryBindPort());
+        logger.info("Config - transport       : " + config.getTransport());
         logger.info("Config - users registr.:   " + (config.isAuthenticationActivated() ? "true" : "false"));
         logger.info("Config - users anon:       " + (!config.isAuthenticationActivated() ? "true" : "false"));
         logger.info("Config - mailgun api key : " + config.getMailgunApiKey());
@@ -287,6 +291,10 @@ public final class Main {
         connection.setHost(config.getServerAddress());
         connection.setPort(config.getPort());
         final ManagerFactory managerFactory = new MainManagerFactory(config);
+        if (Connection.TransportType.valueByText(config.getTransport()) == Connection.TransportType.NIO) {
+            startNioServer(managerFactory, connection, adminPassword);
+            return;
+        }
         try {
             // Parameter: serializationtype => jboss
             InvokerLocator serverLocator = new InvokerLocator(connection.getURI());
@@ -313,6 +321,25 @@ public final class Main {
         }
     }
 
+    private static void startNioServer(ManagerFactory managerFactory, Connection connection, String adminPassword) {
+        // nio transport: same server's commands and callbacks, but without jboss's threads per connection
+        // if server already started then port binding will fail
+        ConfigSettings config = managerFactory.configSettings();
+        try {
+            MageServerImpl mageServer = new MageServerImpl(managerFactory, adminPassword, testMode, detailsMode);
+            nioServer = new NioServer(managerFactory, mageServer, testMode ? 3600 * 1000 : config.getLeasePeriod());
+            nioServer.start(config.getServerAddress(), config.getPort());
+            logger.info("Started MAGE server (nio transport) - listening on " + connection.toString());
+
+            if (testMode) {
+                logger.info("MAGE server running in test mode");
+            }
+            initStatistics();
+        } catch (Exception ex) {
+            logger.fatal("Failed to start server (nio transport) - " + connection.toString(), ex);
+        }
+    }
+
     static void initStatistics() {
         ServerMessagesUtil.instance.setStartDate(System.currentTimeMillis());
     }
@@ -347,8 +374,15 @@ public final class Main {
         @Override
         public void handleConnectionException(Throwable throwable, Client client) {
             // called on client disconnect or on failed network (depends on server config's leasePeriod)
+            processLostConnection(managerFactory, client.getSessionId(), throwable);
+        }
 
-            String sessionId = client.getSessionId();
+        /**
+         * Shared by all transports
+         *
+         * @param throwable null on lease timeout
+         */
+        static void processLostConnection(ManagerFactory managerFactory, String sessionId, Throwable throwable) {
             Session session = managerFactory.sessionManager().getSession(sessionId).orElse(null);
             if (session == null) {
                 logger.debug("Connection error, session not found : " + sessionId + " - " + throwable);
@@ -373,19 +407,19 @@ public final class Main {
                 // no need to keep session
                 logger.info("CLIENT DISCONNECTED - " + sessionInfo);
                 logger.debug("- cause: client called disconnect command");
-                managerFactory.sessionManager().disconnect(client.getSessionId(), DisconnectReason.LostConnection, true);
+                managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
             } else if (throwable == null) {
                 // lease timeout (ping), so server lost connection with a client
                 // must keep tables
                 logger.info("LOST CONNECTION (bad network) - " + sessionInfo);
                 logger.debug("- cause: lease expired");
-                managerFactory.sessionManager().disconnect(client.getSessionId(), DisconnectReason.LostConnection, true);
+                managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
             } else {
                 // unknown error
                 // must keep tables
                 logger.info("LOST CONNECTION (unknown) - " + sessionInfo);
                 logger.debug("- cause: unknown error - " + throwable);
-                managerFactory.sessionManager().disconnect(client.getSessionId(), DisconnectReason.LostConnection, true);
+                managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.LostConnection, true);
             }
         }
     }
@@ -462,7 +496,7 @@ public final class Main {
             ServerInvokerCallbackHandler handler = (ServerInvokerCallbackHandler) callbackHandler;
             try {
                 String sessionId = handler.getClientSessionId();
-                managerFactory.sessionManager().createSession(sessionId, callbackHandler);
+                managerFactory.sessionManager().createSession(sessionId, new MageCallbackChannel((AsynchInvokerCallbackHandler) callbackHandler));
             } catch (Throwable ex) {
                 logger.fatal("", ex);
             }
@@ -507,6 +541,27 @@ public final class Main {
         }
     }
 
+    /**
+     * Network, server side: send callbacks to the client by jboss transport
+     */
+    static class MageCallbackChannel implements CallbackChannel {
+
+        private final AsynchInvokerCallbackHandler callbackHandler;
+
+        public MageCallbackChannel(AsynchInvokerCallbackHandler callbackHandler) {
+            this.callbackHandler = callbackHandler;
+        }
+
+        @Override
+        public void sendCallback(ClientCallback call, boolean canComeInAnyOrder) throws IOException {
+            try {
+                callbackHandler.handleCallbackOneway(new Callback(call), canComeInAnyOrder);
+            } catch (HandleCallbackException ex) {
+                throw new IOException(ex);
+            }
+        }
+    }
+
     private static Class<?> loadPlugin(Plugin plugin) {
         try {
             logger.debug("Loading plugin: " + plugin.getClassName());
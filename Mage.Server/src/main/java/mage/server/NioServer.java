@@ -0,0 +1,331 @@
+package mage.server;
+
+import mage.MageException;
+import mage.interfaces.MageServer;
+import mage.remote.nio.NioFrames;
+import mage.remote.nio.NioMessage;
+import mage.server.managers.ManagerFactory;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
+import org.apache.log4j.Logger;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.nio.channels.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Network, server side: nio transport (alternative to jboss's bisocket transport, see transport in server's config)
+ * <p>
+ * Single selector thread serves all connections, so memory and threads don't grow with online users:
+ * - income frames: selector reads raw data only, decoders deserialize it (one decoder per connection at a time to keep
+ * commands order), commands from clients executes by limited worker threads (maxPoolSize from config);
+ * - outcome frames: command results and callbacks, each connection has own write queue;
+ * <p>
+ * Backpressure:
+ * - frames from not connected clients are limited to few KB, read buffer grows while data comes (not by frame's header);
+ * - too many commands in progress from one client: stop reading from it until commands are done;
+ * - too much data in the write queue or write timeout (slow or freezed client): close connection, client must reconnect;
+ * <p>
+ * Connection monitoring: client must send lease pings, server closes connection without it (see leasePeriod in config)
+ */
+public class NioServer {
+
+    private static final Logger logger = Logger.getLogger(NioServer.class);
+
+    static final int MAX_CALLS_IN_PROGRESS_PER_CONNECTION = 16;
+    static final int MAX_CLIENT_FRAME_SIZE = 8 * 1024 * 1024; // commands from connected clients
+    static final long MAX_WRITE_QUEUE_BYTES = 8 * 1024 * 1024;
+    private static final int LEASE_CHECK_PERIOD_MILLIS = 1000;
+    private static final int LEASE_EXPIRE_PERIODS = 2; // same as jboss: lost connection after two missing lease periods
+
+    private final ManagerFactory managerFactory;
+    private final MageServer target;
+    private final int leasePeriodMillis;
+    private final int writeTimeoutMillis;
+    private final Map<String, Method> methods = new HashMap<>(); // by signature
+    private final ThreadPoolExecutor workers;
+    private final ThreadPoolExecutor decoders;
+    private final Queue<NioServerConnection> changedConnections = new ConcurrentLinkedQueue<>();
+
+    private Selector selector;
+    private ServerSocketChannel serverChannel;
+    private volatile boolean running = false;
+    private long lastLeaseCheck = 0;
+
+    public NioServer(ManagerFactory managerFactory, MageServer target, int leasePeriodMillis) {
+        this.managerFactory = managerFactory;
+        this.target = target;
+        this.leasePeriodMillis = leasePeriodMillis;
+        this.writeTimeoutMillis = managerFactory.configSettings().getSocketWriteTimeout();
+        for (Method method : MageServer.class.getMethods()) {
+            methods.put(NioFrames.getSignature(method), method);
+        }
+
+        int maxWorkers = managerFactory.configSettings().getMaxPoolSize();
+        this.workers = new ThreadPoolExecutor(maxWorkers, maxWorkers, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST + " NIO"));
+        this.workers.allowCoreThreadTimeOut(true);
+
+        // decoders do cpu work only, so it's separated from workers (slow commands can't stop lease pings)
+        int maxDecoders = Runtime.getRuntime().availableProcessors();
+        this.decoders = new ThreadPoolExecutor(maxDecoders, maxDecoders, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_NIO_DECODER));
+        this.decoders.allowCoreThreadTimeOut(true);
+    }
+
+    public void start(String host, int port) throws IOException {
+        selector = Selector.open();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.configureBlocking(false);
+        serverChannel.socket().setReuseAddress(true);
+        serverChannel.bind(new InetSocketAddress(host, port), managerFactory.configSettings().getBacklogSize());
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+
+        running = true;
+        Thread selectorThread = new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_NIO_SELECTOR, false).newThread(this::processSelector);
+        selectorThread.start();
+    }
+
+    public void stop() {
+        running = false;
+        if (selector != null) {
+            selector.wakeup();
+        }
+        decoders.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public int getPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Connection's reading or writing state changed (can be called from any thread)
+     */
+    void updateInterests(NioServerConnection connection) {
+        changedConnections.add(connection);
+        selector.wakeup();
+    }
+
+    private void processSelector() {
+        List<byte[]> frames = new ArrayList<>();
+        while (running) {
+            try {
+                selector.select(LEASE_CHECK_PERIOD_MILLIS);
+
+                NioServerConnection changed;
+                while ((changed = changedConnections.poll()) != null) {
+                    changed.updateInterestOps();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    NioServerConnection connection = (NioServerConnection) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            frames.clear();
+                            connection.read(frames);
+                            if (!frames.isEmpty()) {
+                                // reading state will be updated after all read frames
+                                frames.forEach(frame -> connection.startCall());
+                                if (connection.addIncomeFrames(frames)) {
+                                    decoders.execute(() -> processFrames(connection));
+                                }
+                            }
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            connection.write();
+                        }
+                        connection.updateInterestOps();
+                    } catch (IOException | CancelledKeyException e) {
+                        closeConnection(connection, e);
+                    }
+                }
+
+                checkConnections();
+            } catch (Throwable e) {
+                // selector must work all the time
+                logger.error("Nio server: selector error " + e, e);
+            }
+        }
+
+        // stop
+        for (SelectionKey key : selector.keys()) {
+            if (key.attachment() instanceof NioServerConnection) {
+                ((NioServerConnection) key.attachment()).close();
+            }
+        }
+        try {
+            serverChannel.close();
+            selector.close();
+        } catch (IOException ignore) {
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        channel.socket().setTcpNoDelay(true);
+        channel.socket().setKeepAlive(true);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        String host = ((InetSocketAddress) channel.getRemoteAddress()).getAddress().getHostAddress();
+        key.attach(new NioServerConnection(this, channel, key, host));
+    }
+
+    /**
+     * Decode and process all income frames of the connection (decoder thread)
+     */
+    private void processFrames(NioServerConnection connection) {
+        byte[] frame;
+        while ((frame = connection.pollIncomeFrame()) != null) {
+            boolean isCall = false;
+            try {
+                NioMessage message = NioFrames.decode(frame, 0, frame.length);
+                isCall = message.getType() == NioMessage.Type.CALL;
+                processMessage(connection, message);
+            } catch (Throwable e) {
+                closeConnection(connection, e);
+            } finally {
+                // calls will be finished by workers
+                if (!isCall && connection.finishCall()) {
+                    updateInterests(connection);
+                }
+            }
+        }
+    }
+
+    private void processMessage(NioServerConnection connection, NioMessage message) throws IOException {
+        switch (message.getType()) {
+            case CONNECT:
+                if (connection.getSessionId() == null) {
+                    // TODO: add ban by IP here?
+                    String sessionId = UUID.randomUUID().toString();
+                    connection.setSessionId(sessionId);
+                    Session session = managerFactory.sessionManager().createSession(sessionId, connection);
+                    session.setHost(connection.getHost());
+                }
+                connection.send(NioMessage.connected(connection.getSessionId()));
+                break;
+            case PING:
+                connection.send(NioMessage.ping());
+                break;
+            case CALL:
+                workers.execute(() -> processCall(connection, message));
+                break;
+            case DISCONNECT:
+                connection.setClosedByClient(Boolean.TRUE.equals(message.getData()));
+                closeConnection(connection, null);
+                break;
+            default:
+                throw new IOException("Unsupported message from client: " + message.getInfo());
+        }
+    }
+
+    private void processCall(NioServerConnection connection, NioMessage message) {
+        try {
+            NioMessage result;
+            Method method = methods.get(message.getMethod());
+            if (method == null) {
+                // possible reason: different client and server versions
+                result = NioMessage.error(message.getCallId(), new NoSuchMethodException(message.getMethod()));
+            } else {
+                try {
+                    result = NioMessage.result(message.getCallId(), method.invoke(target, message.getArgs()));
+                } catch (InvocationTargetException e) {
+                    result = NioMessage.error(message.getCallId(), e.getCause());
+                } catch (IllegalAccessException | IllegalArgumentException e) {
+                    result = NioMessage.error(message.getCallId(), e);
+                }
+            }
+            sendResult(connection, result);
+        } catch (Throwable e) {
+            logger.error("Nio server: command processing error - " + message.getInfo(), e);
+        } finally {
+            if (connection.finishCall()) {
+                updateInterests(connection);
+            }
+        }
+    }
+
+    private void sendResult(NioServerConnection connection, NioMessage result) {
+        try {
+            connection.send(result);
+        } catch (IOException e) {
+            if (connection.isClosed()) {
+                // client disconnected before result, nothing to do
+                return;
+            }
+            if (result.getError() == null) {
+                logger.error("Nio server: can't send result - " + result.getInfo() + " - " + e, e);
+                return;
+            }
+            // error can contains not serializable data
+            try {
+                connection.send(NioMessage.error(result.getCallId(), new MageException("Server error: " + result.getError())));
+            } catch (IOException ignore) {
+            }
+        }
+    }
+
+    private void checkConnections() {
+        long now = System.currentTimeMillis();
+        if (now - lastLeaseCheck < LEASE_CHECK_PERIOD_MILLIS) {
+            return;
+        }
+        lastLeaseCheck = now;
+        for (SelectionKey key : selector.keys()) {
+            if (!(key.attachment() instanceof NioServerConnection)) {
+                continue;
+            }
+            NioServerConnection connection = (NioServerConnection) key.attachment();
+            if (now - connection.getLastReadTime() > (long) leasePeriodMillis * LEASE_EXPIRE_PERIODS) {
+                // lease expired
+                closeConnection(connection, null);
+            } else if (connection.isWriteTimeout(now, writeTimeoutMillis)) {
+                closeConnection(connection, new IOException("Write timeout"));
+            }
+        }
+    }
+
+    /**
+     * Can be called from any thread
+     *
+     * @param error null on client's disconnect or lease timeout
+     */
+    void closeConnection(NioServerConnection connection, Throwable error) {
+        if (!connection.close()) {
+            return;
+        }
+        String sessionId = connection.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+
+        // disconnect can process user's tables and games, so run it outside the selector thread
+        if (connection.isClosedByClient()) {
+            if (!connection.isKeepSessionOnClose()) {
+                workers.execute(() -> managerFactory.sessionManager().disconnect(sessionId, DisconnectReason.DisconnectedByUser, true));
+            }
+            // if user want to keep session then server will keep it until inactive timeout
+        } else {
+            workers.execute(() -> Main.MageServerConnectionListener.processLostConnection(managerFactory, sessionId, error));
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package mage.server;
+
+import mage.interfaces.callback.ClientCallback;
+import mage.remote.nio.NioFrames;
+import mage.remote.nio.NioMessage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Network, server side: single client connection for nio transport
+ * <p>
+ * Reads and writes must be called from selector thread only, send can be called from any thread
+ */
+class NioServerConnection implements CallbackChannel {
+
+    private static final int READ_BUFFER_SIZE = 8 * 1024; // grows for big frames while data comes
+
+    private final NioServer server;
+    private final SocketChannel channel;
+    private final SelectionKey key;
+    private final String host;
+
+    private ByteBuffer readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+    private volatile long lastReadTime;
+
+    // write queue (all access under lock)
+    private final ArrayDeque<ByteBuffer> writeQueue = new ArrayDeque<>();
+    private long writeQueueBytes = 0;
+    private long lastWriteTime = 0; // last write progress for write timeout
+    private boolean closed = false;
+
+    // income frames waiting for decode, processing by one decoder thread at a time to keep commands order
+    private final Object incomeLock = new Object();
+    private final ArrayDeque<byte[]> incomeFrames = new ArrayDeque<>();
+    private boolean incomeProcessing = false;
+
+    private final AtomicInteger callsInProgress = new AtomicInteger();
+    private volatile String sessionId = null;
+    private volatile boolean closedByClient = false;
+    private volatile boolean keepSessionOnClose = false;
+
+    NioServerConnection(NioServer server, SocketChannel channel, SelectionKey key, String host) {
+        this.server = server;
+        this.channel = channel;
+        this.key = key;
+        this.host = host;
+        this.lastReadTime = System.currentTimeMillis();
+    }
+
+    @Override
+    public void sendCallback(ClientCallback call, boolean canComeInAnyOrder) throws IOException {
+        // all frames are sent in same order, so async mode is not required
+        send(NioMessage.callback(call));
+    }
+
+    void send(NioMessage message) throws IOException {
+        ByteBuffer frame = NioFrames.encode(message); // serialize in caller's thread
+        boolean needWrite = false;
+        boolean overflow = false;
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Connection closed");
+            }
+            if (writeQueueBytes + frame.remaining() > NioServer.MAX_WRITE_QUEUE_BYTES) {
+                overflow = true;
+            } else {
+                needWrite = writeQueue.isEmpty();
+                if (needWrite) {
+                    lastWriteTime = System.currentTimeMillis();
+                }
+                writeQueue.add(frame);
+                writeQueueBytes += frame.remaining();
+            }
+        }
+        if (overflow) {
+            // slow or freezed client: it's same as write timeout in jboss, so client must reconnect
+            IOException error = new IOException("Too slow connection, write queue overflow");
+            server.closeConnection(this, error);
+            throw error;
+        }
+        if (needWrite) {
+            server.updateInterests(this);
+        }
+    }
+
+    /**
+     * Read all available frames without decode (selector thread only)
+     */
+    void read(List<byte[]> frames) throws IOException {
+        int count = channel.read(readBuffer);
+        if (count < 0) {
+            throw new EOFException("Connection closed by client");
+        }
+        lastReadTime = System.currentTimeMillis();
+
+        readBuffer.flip();
+        int waitingFrameSize = 0;
+        while (readBuffer.remaining() >= NioFrames.HEADER_SIZE) {
+            int size = readBuffer.getInt(readBuffer.position());
+            NioFrames.checkFrameSize(size, getMaxFrameSize());
+            if (readBuffer.remaining() < NioFrames.HEADER_SIZE + size) {
+                waitingFrameSize = NioFrames.HEADER_SIZE + size;
+                break;
+            }
+            byte[] data = new byte[size];
+            readBuffer.position(readBuffer.position() + NioFrames.HEADER_SIZE);
+            readBuffer.get(data);
+            frames.add(data);
+        }
+
+        if (!readBuffer.hasRemaining() && readBuffer.capacity() > READ_BUFFER_SIZE) {
+            // free memory after big frame
+            readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            return;
+        }
+        readBuffer.compact();
+        if (!readBuffer.hasRemaining() && waitingFrameSize > readBuffer.capacity()) {
+            // big frame: grow buffer step by step while data comes, so a fake frame size can't take the memory
+            ByteBuffer bigBuffer = ByteBuffer.allocate(Math.min(waitingFrameSize, readBuffer.capacity() * 2));
+            readBuffer.flip();
+            bigBuffer.put(readBuffer);
+            readBuffer = bigBuffer;
+        }
+    }
+
+    /**
+     * Not connected clients can send a connect command only, so there are no needs in big frames
+     */
+    private int getMaxFrameSize() {
+        return sessionId == null ? NioFrames.MAX_HANDSHAKE_FRAME_SIZE : NioServer.MAX_CLIENT_FRAME_SIZE;
+    }
+
+    /**
+     * @return true if income frames must be processed by a new decoder task
+     */
+    boolean addIncomeFrames(List<byte[]> frames) {
+        synchronized (incomeLock) {
+            incomeFrames.addAll(frames);
+            if (incomeProcessing) {
+                return false;
+            }
+            incomeProcessing = true;
+            return true;
+        }
+    }
+
+    /**
+     * @return next income frame or null if all frames processed (decoder task must stop)
+     */
+    byte[] pollIncomeFrame() {
+        synchronized (incomeLock) {
+            byte[] res = incomeFrames.poll();
+            if (res == null) {
+                incomeProcessing = false;
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Write queued frames as much as possible (selector thread only)
+     */
+    synchronized void write() throws IOException {
+        while (!writeQueue.isEmpty()) {
+            ByteBuffer frame = writeQueue.peek();
+            int count = channel.write(frame);
+            if (count > 0) {
+                writeQueueBytes -= count;
+                lastWriteTime = System.currentTimeMillis();
+            }
+            if (frame.hasRemaining()) {
+                // socket's buffer is full, wait next write event
+                return;
+            }
+            writeQueue.poll();
+        }
+    }
+
+    /**
+     * Selector's events for the connection (selector thread only)
+     */
+    void updateInterestOps() {
+        if (!key.isValid()) {
+            return;
+        }
+        int ops = 0;
+        if (callsInProgress.get() < NioServer.MAX_CALLS_IN_PROGRESS_PER_CONNECTION) {
+            // backpressure: do not read new commands until old commands are processed
+            ops |= SelectionKey.OP_READ;
+        }
+        synchronized (this) {
+            if (!writeQueue.isEmpty()) {
+                ops |= SelectionKey.OP_WRITE;
+            }
+        }
+        try {
+            key.interestOps(ops);
+        } catch (CancelledKeyException ignore) {
+            // closed from another thread
+        }
+    }
+
+    /**
+     * @return false if connection already closed
+     */
+    synchronized boolean close() {
+        if (closed) {
+            return false;
+        }
+        closed = true;
+        synchronized (incomeLock) {
+            incomeFrames.clear();
+        }
+        writeQueue.clear();
+        writeQueueBytes = 0;
+        key.cancel();
+        try {
+            channel.close();
+        } catch (IOException ignore) {
+        }
+        return true;
+    }
+
+    synchronized boolean isClosed() {
+        return closed;
+    }
+
+    synchronized boolean isWriteTimeout(long now, int writeTimeoutMillis) {
+        return !writeQueue.isEmpty() && now - lastWriteTime > writeTimeoutMillis;
+    }
+
+    long getLastReadTime() {
+        return lastReadTime;
+    }
+
+    /**
+     * Income frame starts processing (it's a call in progress until decoded and executed)
+     */
+    void startCall() {
+        callsInProgress.incrementAndGet();
+    }
+
+    /**
+     * @return true if connection can read commands again
+     */
+    boolean finishCall() {
+        return callsInProgress.decrementAndGet() == NioServer.MAX_CALLS_IN_PROGRESS_PER_CONNECTION - 1;
+    }
+
+    String getSessionId() {
+        return sessionId;
+    }
+
+    void setSessionId(String sessionId) {
+        this.sessionId = sessionId;
+    }
+
+    String getHost() {
+        return host;
+    }
+
+    boolean isClosedByClient() {
+        return closedByClient;
+    }
+
+    boolean isKeepSessionOnClose() {
+        return keepSessionOnClose;
+    }
+
+    void setClosedByClient(boolean keepSession) {
+        this.closedByClient = true;
+        this.keepSessionOnClose = keepSession;
+    }
+}
@@ -13,11 +13,8 @@ import mage.util.RandomUtil;
 import mage.util.ThreadUtils;
 import mage.utils.SystemUtil;
 import org.apache.log4j.Logger;
-import org.jboss.remoting.callback.AsynchInvokerCallbackHandler;
-import org.jboss.remoting.callback.Callback;
-import org.jboss.remoting.callback.HandleCallbackException;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
+import java.io.IOException;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -68,17 +65,17 @@ public class Session {
     private final AtomicInteger messageId = new AtomicInteger(0);
     private final Date timeConnected;
     private boolean isAdmin = false;
-    private final AsynchInvokerCallbackHandler callbackHandler;
+    private final CallbackChannel callbackChannel;
     private boolean valid = true;
 
     private final ReentrantLock lock;
     private final ReentrantLock callBackLock;
     private String lastCallbackInfo = "";
 
-    public Session(ManagerFactory managerFactory, String sessionId, InvokerCallbackHandler callbackHandler) {
+    public Session(ManagerFactory managerFactory, String sessionId, CallbackChannel callbackChannel) {
         this.managerFactory = managerFactory;
         this.sessionId = sessionId;
-        this.callbackHandler = (AsynchInvokerCallbackHandler) callbackHandler;
+        this.callbackChannel = callbackChannel;
         this.isAdmin = false;
         this.timeConnected = new Date();
         this.lock = new ReentrantLock();
@@ -427,8 +424,10 @@ public class Session {
 
     /**
      * Send event/command to the client
+     *
+     * @return false if callback was not sent (connection problems)
      */
-    public void fireCallback(final ClientCallback call) {
+    public boolean fireCallback(final ClientCallback call) {
         boolean lockSet = false; // TODO: research about locks, why it here? 2023-12-06
 
         try {
@@ -436,10 +435,10 @@ public class Session {
                 lastCallbackInfo = call.getInfo();
                 call.setMessageId(messageId.incrementAndGet());
                 lockSet = true;
-                Callback callback = new Callback(call);
                 boolean sendAsync = SUPER_DUPER_BUGGY_AND_FASTEST_ASYNC_CONNECTION
                         && call.getMethod().getType().canComeInAnyOrder();
-                callbackHandler.handleCallbackOneway(callback, sendAsync);
+                callbackChannel.sendCallback(call, sendAsync);
+                return true;
             }
         } catch (InterruptedException ex) {
             // already sending another command (connection problem?)
@@ -452,7 +451,7 @@ public class Session {
                 logger.warn("SESSION LOCK, possible connection problem - fireCallback - userId: "
                         + userId + ", prev call: " + lastCallbackInfo + ", current call: " + call.getInfo(), ex);
             }
-        } catch (HandleCallbackException ex) {
+        } catch (IOException ex) {
             // general error
             // can raise on server freeze or normal connection problem from a client side
             // no need to print a full stack log here
@@ -472,6 +471,7 @@ public class Session {
                 callBackLock.unlock();
             }
         }
+        return false;
     }
 
     public UUID getUserId() {
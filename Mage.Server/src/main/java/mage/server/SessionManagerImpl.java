@@ -6,7 +6,6 @@ import mage.server.managers.ManagerFactory;
 import mage.server.managers.SessionManager;
 import mage.util.ThreadUtils;
 import org.apache.log4j.Logger;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,9 +32,10 @@ public class SessionManagerImpl implements SessionManager {
     }
 
     @Override
-    public void createSession(String sessionId, InvokerCallbackHandler callbackHandler) {
-        Session session = new Session(managerFactory, sessionId, callbackHandler);
+    public Session createSession(String sessionId, CallbackChannel callbackChannel) {
+        Session session = new Session(managerFactory, sessionId, callbackChannel);
         sessions.put(sessionId, session);
+        return session;
     }
 
     @Override
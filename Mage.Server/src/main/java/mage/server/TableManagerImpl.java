@@ -14,8 +14,11 @@ import mage.game.tournament.TournamentOptions;
 import mage.game.tournament.TournamentPlayer;
 import mage.players.PlayerType;
 import mage.server.game.GameController;
+import mage.server.game.LobbyChanges;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.TableManager;
+import mage.util.CacheStats;
+import mage.watchers.WatcherStats;
 import org.apache.log4j.Logger;
 
 import java.text.DateFormat;
@@ -81,6 +84,7 @@ public class TableManagerImpl implements TableManager {
         } finally {
             w.unlock();
         }
+        LobbyChanges.tableChanged();
     }
 
     private void putControllers(UUID controllerId, TableController tableController) {
@@ -143,7 +147,11 @@ public class TableManagerImpl implements TableManager {
     @Override
     public boolean joinTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws MageException {
         if (controllers.containsKey(tableId)) {
-            return controllers.get(tableId).joinTable(userId, name, playerType, skill, deckList, password);
+            try {
+                return controllers.get(tableId).joinTable(userId, name, playerType, skill, deckList, password);
+            } finally {
+                LobbyChanges.tableChanged();
+            }
         }
         return false;
     }
@@ -151,7 +159,11 @@ public class TableManagerImpl implements TableManager {
     @Override
     public boolean joinTournament(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws GameException {
         if (controllers.containsKey(tableId)) {
-            return controllers.get(tableId).joinTournament(userId, name, playerType, skill, deckList, password);
+            try {
+                return controllers.get(tableId).joinTournament(userId, name, playerType, skill, deckList, password);
+            } finally {
+                LobbyChanges.tableChanged();
+            }
         }
         return false;
     }
@@ -159,7 +171,11 @@ public class TableManagerImpl implements TableManager {
     @Override
     public boolean submitDeck(UUID userId, UUID tableId, DeckCardLists deckList) throws MageException {
         if (controllers.containsKey(tableId)) {
-            return controllers.get(tableId).submitDeck(userId, deckList);
+            try {
+                return controllers.get(tableId).submitDeck(userId, deckList);
+            } finally {
+                LobbyChanges.tableChanged();
+            }
         }
         managerFactory.userManager().getUser(userId).ifPresent(user -> {
             user.removeSideboarding(tableId);
@@ -189,6 +205,7 @@ public class TableManagerImpl implements TableManager {
                 logger.error("TableManagerImpl.userQuitTournamentSubTables table == null - userId " + userId);
             }
         }
+        LobbyChanges.tableChanged();
     }
 
     // removeUserFromAllTablesAndChat user from all sub tables of a tournament
@@ -201,6 +218,7 @@ public class TableManagerImpl implements TableManager {
                 }
             }
         }
+        LobbyChanges.tableChanged();
     }
 
     @Override
@@ -231,6 +249,7 @@ public class TableManagerImpl implements TableManager {
         TableController tableController = controllers.get(tableId);
         if (tableController != null) {
             tableController.leaveTable(userId);
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -255,6 +274,7 @@ public class TableManagerImpl implements TableManager {
             controllers.get(tableId).startMatch(userId);
             // chat of start dialog can be killed
             managerFactory.chatManager().destroyChatSession(controllers.get(tableId).getChatId());
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -268,6 +288,7 @@ public class TableManagerImpl implements TableManager {
     public void startTournamentSubMatch(UUID roomId, UUID tableId) {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).startMatch();
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -276,6 +297,7 @@ public class TableManagerImpl implements TableManager {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).startTournament(userId);
             managerFactory.chatManager().destroyChatSession(controllers.get(tableId).getChatId());
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -283,6 +305,7 @@ public class TableManagerImpl implements TableManager {
     public void startDraft(UUID tableId, Draft draft) {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).startDraft(draft);
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -300,6 +323,7 @@ public class TableManagerImpl implements TableManager {
             if (controllers.get(tableId).endGameAndStartNextGame()) {
                 removeTable(tableId);
             }
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -307,6 +331,7 @@ public class TableManagerImpl implements TableManager {
     public void endDraft(UUID tableId, Draft draft) {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).endDraft(draft);
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -314,6 +339,7 @@ public class TableManagerImpl implements TableManager {
     public void endTournament(UUID tableId, Tournament tournament) {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).endTournament(tournament);
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -321,6 +347,7 @@ public class TableManagerImpl implements TableManager {
     public void swapSeats(UUID tableId, UUID userId, int seatNum1, int seatNum2) {
         if (controllers.containsKey(tableId) && isTableOwner(tableId, userId)) {
             controllers.get(tableId).swapSeats(seatNum1, seatNum2);
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -328,6 +355,7 @@ public class TableManagerImpl implements TableManager {
     public void construct(UUID tableId) {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).construct();
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -335,6 +363,7 @@ public class TableManagerImpl implements TableManager {
     public void initTournament(UUID tableId) {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).initTournament();
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -342,6 +371,7 @@ public class TableManagerImpl implements TableManager {
     public void addPlayer(UUID userId, UUID tableId, TournamentPlayer player) throws GameException {
         if (controllers.containsKey(tableId)) {
             controllers.get(tableId).addPlayer(userId, player.getPlayer(), player.getPlayerType(), player.getDeck());
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -384,7 +414,7 @@ public class TableManagerImpl implements TableManager {
                 }
                 managerFactory.gamesRoomManager().removeTable(tableId);
             }
-
+            LobbyChanges.tableChanged();
         }
     }
 
@@ -418,6 +448,15 @@ public class TableManagerImpl implements TableManager {
         for (Entry<UUID, GameController> entry : managerFactory.gameManager().getGameController().entrySet()) {
             logger.debug(entry.getKey() + entry.getValue().getPlayerNameList());
         }
+        if (WatcherStats.isEnabled()) {
+            logger.debug("------- Watchers (top 20 by handled events) ---------------------------------");
+            WatcherStats.getInfo(20).forEach(logger::debug);
+        }
+        List<String> cachesInfo = CacheStats.getInfo();
+        if (!cachesInfo.isEmpty()) {
+            logger.debug("------- Caches ----------------------------------------------------");
+            cachesInfo.forEach(logger::debug);
+        }
         logger.debug("--- Server state END ------------------------------------------");
     }
 
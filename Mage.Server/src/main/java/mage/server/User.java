@@ -13,6 +13,7 @@ import mage.players.net.UserData;
 import mage.server.draft.DraftSession;
 import mage.server.game.GameController;
 import mage.server.game.GameSessionPlayer;
+import mage.server.game.LobbyChanges;
 import mage.server.managers.ManagerFactory;
 import mage.server.rating.GlickoRating;
 import mage.server.rating.GlickoRatingSystem;
@@ -256,12 +257,16 @@ public class User {
         return " (online: " + connTime + "; seen: " + lastSecs + " sec ago)";
     }
 
-    public void fireCallback(final ClientCallback call) {
+    /**
+     * @return false if callback was not sent (user disconnected or connection problems)
+     */
+    public boolean fireCallback(final ClientCallback call) {
         if (isConnected()) {
-            managerFactory.sessionManager().getSession(sessionId).ifPresent(session
-                    -> session.fireCallback(call)
-            );
+            return managerFactory.sessionManager().getSession(sessionId)
+                    .map(session -> session.fireCallback(call))
+                    .orElse(false);
         }
+        return false;
     }
 
     public void ccJoinedTable(final UUID roomId, final UUID currentTableId, final UUID parentTableId, boolean isTournament) {
@@ -387,7 +392,7 @@ public class User {
             this.pingInfo = pingInfo;
         }
         lastActivity = new Date();
-        setUserState(UserState.Connected);
+        setUserState(UserState.Connected); // lobby's change with ping info
     }
 
     public boolean isExpired(Date expired) {
@@ -558,6 +563,7 @@ public class User {
             this.userData = userData;
             resetUserStats();
         }
+        LobbyChanges.userChanged();
     }
 
     public UserData getUserData() {
@@ -678,6 +684,7 @@ public class User {
 
     public void setUserState(UserState userState) {
         this.userState = userState;
+        LobbyChanges.userChanged();
     }
 
     public String getPingInfo() {
@@ -715,6 +722,7 @@ public class User {
             userData.setConstructedRating(GlickoRatingSystem.getDefaultDisplayedRating());
             userData.setLimitedRating(GlickoRatingSystem.getDefaultDisplayedRating());
         }
+        LobbyChanges.userChanged();
     }
 
     public String getMatchHistory() {
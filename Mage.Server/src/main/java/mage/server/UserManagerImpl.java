@@ -1,5 +1,6 @@
 package mage.server;
 
+import mage.server.game.LobbyChanges;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.UserManager;
 import mage.server.record.UserStats;
@@ -73,6 +74,7 @@ public class UserManagerImpl implements UserManager {
         } finally {
             w.unlock();
         }
+        LobbyChanges.userChanged();
         return Optional.of(user);
     }
 
@@ -258,6 +260,9 @@ public class UserManagerImpl implements UserManager {
             } finally {
                 w.unlock();
             }
+            if (!usersToRemove.isEmpty()) {
+                LobbyChanges.userChanged();
+            }
             logger.debug("End Check Expired");
         } catch (Exception ex) {
             handleException(ex);
@@ -280,6 +285,7 @@ public class UserManagerImpl implements UserManager {
             } finally {
                 w.unlock();
             }
+            LobbyChanges.userChanged();
         } catch (Exception e) {
             handleException(e);
         }
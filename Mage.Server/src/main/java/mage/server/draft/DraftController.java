@@ -8,6 +8,7 @@ import mage.game.events.PlayerQueryEvent;
 import mage.game.events.TableEvent;
 import mage.players.Player;
 import mage.server.game.GameController;
+import mage.server.game.LobbyChanges;
 import mage.server.managers.ManagerFactory;
 import mage.util.ThreadUtils;
 import mage.view.DraftPickView;
@@ -55,6 +56,7 @@ public class DraftController {
                                 endDraft();
                                 break;
                         }
+                        LobbyChanges.tableChanged(); // draft's progress
                     } catch (MageException ex) {
                         logger.fatal("Table event listener error", ex);
                     }
@@ -24,6 +24,7 @@ import mage.server.Main;
 import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.util.MultiAmountMessage;
+import mage.util.SerializationCodec;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import mage.utils.StreamUtils;
@@ -41,7 +42,6 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
-import java.util.zip.GZIPOutputStream;
 
 /**
  * @author BetaSteward_at_googlemail.com, JayDi85
@@ -50,6 +50,7 @@ public class GameController implements GameCallback {
 
     private static final int GAME_TIMEOUTS_CHECK_JOINING_STATUS_EVERY_SECS = 10; // checks and inform players about joining status
     private static final int GAME_TIMEOUTS_CANCEL_PLAYER_GAME_JOINING_AFTER_INACTIVE_SECS = 2 * 60; // leave player from game if it don't join and inactive on server
+    private static final SerializationCodec SAVED_GAME_CODEC = SerializationCodec.COMPACT_GZIP; // saved games are used by same server version only
 
     private final ExecutorService gameExecutor;
     private static final Logger logger = Logger.getLogger(GameController.class);
@@ -66,6 +67,7 @@ public class GameController implements GameCallback {
 
     private final ConcurrentMap<UUID, GameSessionWatcher> watchers = new ConcurrentHashMap<>();
     private final ReadWriteLock gameWatchersLock = new ReentrantReadWriteLock();
+    private final GameViewDeltaEncoder watchersViewEncoder = new GameViewDeltaEncoder(); // same views for all watchers
 
     private final ConcurrentMap<UUID, PriorityTimer> timers = new ConcurrentHashMap<>();
 
@@ -819,11 +821,13 @@ public class GameController implements GameCallback {
 
     private synchronized void updateGame() {
         updatePriorityTimers();
+        // all sessions use same game copy, all watchers use same serialized view
+        GameViewCache gameViewCache = new GameViewCache(game, watchersViewEncoder);
         for (final GameSessionPlayer gameSession : getGameSessions()) {
-            gameSession.update();
+            gameSession.update(gameViewCache);
         }
         for (final GameSessionWatcher gameWatcher : getGameSessionWatchers()) {
-            gameWatcher.update();
+            gameWatcher.update(gameViewCache);
         }
     }
 
@@ -987,7 +991,9 @@ public class GameController implements GameCallback {
         try {
             file = new FileOutputStream("saved/" + game.getId().toString() + ".game");
             buffer = new BufferedOutputStream(file);
-            output = new ObjectOutputStream(new GZIPOutputStream(buffer));
+            // format name goes first, so loader can find the used codec
+            new DataOutputStream(buffer).writeUTF(SAVED_GAME_CODEC.getName());
+            output = SAVED_GAME_CODEC.createOutput(buffer);
             output.writeObject(game);
             output.writeObject(game.getGameStates());
             logger.debug("Saved game:" + game.getId());
@@ -995,9 +1001,10 @@ public class GameController implements GameCallback {
         } catch (IOException ex) {
             logger.fatal("Cannot save game.", ex);
         } finally {
-            StreamUtils.closeQuietly(file);
+            // close order: compressed data must be written before file closing
             StreamUtils.closeQuietly(output);
             StreamUtils.closeQuietly(buffer);
+            StreamUtils.closeQuietly(file);
         }
         return false;
     }
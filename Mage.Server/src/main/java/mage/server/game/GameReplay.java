@@ -4,17 +4,17 @@ import mage.game.Game;
 import mage.game.GameState;
 import mage.game.GameStates;
 import mage.server.Main;
-import mage.util.CopierObjectInputStream;
+import mage.util.SerializationCodec;
 import org.apache.log4j.Logger;
 
 import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectInput;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.UUID;
-import java.util.zip.GZIPInputStream;
 
 /**
  * Replay system, outdated and not used. TODO: delete
@@ -58,13 +58,18 @@ public class GameReplay {
 
     private Game loadGame(UUID gameId) {
         try (InputStream file = Files.newInputStream(Paths.get("saved/" + gameId.toString() + ".game"));
-             InputStream buffer = new BufferedInputStream(file);
-             InputStream gzip = new GZIPInputStream(buffer);
-             ObjectInput input = new CopierObjectInputStream(Main.classLoader, gzip)) {
-            Game loadGame = (Game) input.readObject();
-            GameStates states = (GameStates) input.readObject();
-            loadGame.loadGameStates(states);
-            return loadGame;
+             InputStream buffer = new BufferedInputStream(file)) {
+            String codecName = new DataInputStream(buffer).readUTF();
+            SerializationCodec codec = SerializationCodec.findByName(codecName);
+            if (codec == null) {
+                throw new IOException("Unknown saved game format: " + codecName);
+            }
+            try (ObjectInput input = codec.createInput(buffer, Main.classLoader)) {
+                Game loadGame = (Game) input.readObject();
+                GameStates states = (GameStates) input.readObject();
+                loadGame.loadGameStates(states);
+                return loadGame;
+            }
         } catch (ClassNotFoundException e) {
             logger.fatal("Cannot load game. Class not found.", e);
         } catch (IOException e) {
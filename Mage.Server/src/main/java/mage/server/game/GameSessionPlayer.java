@@ -21,6 +21,7 @@ import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -48,7 +49,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     public void ask(final String question, final Map<String, Serializable> options) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getGameView(), options, question)))
+            userManager.getUser(userId).ifPresent(user -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_ASK, game.getId(), new GameClientMessage(getGameViewForCallback(false), options, question)))
             );
         }
     }
@@ -56,7 +57,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void target(final String question, final CardsView cardView, final Set<UUID> targets, final boolean required, final Map<String, Serializable> options) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> {
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getGameView(), options, question, cardView, targets, required)));
+                fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_TARGET, game.getId(), new GameClientMessage(getGameViewForCallback(false), options, question, cardView, targets, required)));
             });
 
         }
@@ -64,7 +65,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
 
     public void select(final String message, final Map<String, Serializable> options) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getGameView(), options, message))));
+            userManager.getUser(userId).ifPresent(user -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_SELECT, game.getId(), new GameClientMessage(getGameViewForCallback(false), options, message))));
         }
     }
 
@@ -79,7 +80,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void choosePile(final String message, final CardsView pile1, final CardsView pile2) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_PILE, game.getId(), new GameClientMessage(getGameView(), null, message, pile1, pile2))));
+                    -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_PILE, game.getId(), new GameClientMessage(getGameViewForCallback(false), null, message, pile1, pile2))));
         }
 
     }
@@ -87,7 +88,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void chooseChoice(final Choice choice) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_CHOICE, game.getId(), new GameClientMessage(getGameView(), null, choice))));
+                    -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_CHOOSE_CHOICE, game.getId(), new GameClientMessage(getGameViewForCallback(false), null, choice))));
         }
 
     }
@@ -95,14 +96,14 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void playMana(final String message, final Map<String, Serializable> options) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getGameView(), options, message))));
+                    -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_PLAY_MANA, game.getId(), new GameClientMessage(getGameViewForCallback(false), options, message))));
         }
     }
 
     public void playXMana(final String message) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getGameView(), null, message))));
+                    -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_PLAY_XMANA, game.getId(), new GameClientMessage(getGameViewForCallback(false), null, message))));
 
         }
     }
@@ -110,7 +111,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
     public void getAmount(final String message, final int min, final int max) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> {
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_GET_AMOUNT, game.getId(), new GameClientMessage(getGameView(), null, message, min, max)));
+                fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_GET_AMOUNT, game.getId(), new GameClientMessage(getGameViewForCallback(false), null, message, min, max)));
             });
         }
     }
@@ -119,7 +120,7 @@ public class GameSessionPlayer extends GameSessionWatcher {
             final Map<String, Serializable> options) {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user
-                    -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_GET_MULTI_AMOUNT, game.getId(), new GameClientMessage(getGameView(), options, messages, min, max))));
+                    -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_GET_MULTI_AMOUNT, game.getId(), new GameClientMessage(getGameViewForCallback(false), options, messages, min, max))));
         }
     }
 
@@ -196,8 +197,14 @@ public class GameSessionPlayer extends GameSessionWatcher {
     }
 
     @Override
-    public GameView getGameView() {
-        return prepareGameView(game, playerId, userId);
+    protected boolean canUseSharedView(Game sourceGame) {
+        // player's view contains own hand and playable objects
+        return false;
+    }
+
+    @Override
+    protected GameView getGameView(GameViewCache gameViewCache) {
+        return createGameView(gameViewCache.getSourceGame(), gameViewCache::getPlayableGame, playerId, userId);
     }
 
     /**
@@ -212,6 +219,13 @@ public class GameSessionPlayer extends GameSessionWatcher {
         // game view calculation can take some time and can be called from non-game thread,
         // so use copy for thread save (protection from ConcurrentModificationException)
         Game sourceGame = game.copy();
+        return createGameView(sourceGame, () -> sourceGame, playerId, userId);
+    }
+
+    /**
+     * @param playableGame game for playable objects calculation (it can be changed by abilities simulation)
+     */
+    private static GameView createGameView(Game sourceGame, Supplier<Game> playableGame, UUID playerId, UUID userId) {
         GameView gameView = new GameView(sourceGame.getState(), sourceGame, playerId, null);
 
         // playable info (if opponent under control then show opponent's playable)
@@ -219,7 +233,8 @@ public class GameSessionPlayer extends GameSessionWatcher {
         Player priorityPlayer = sourceGame.getPlayer(sourceGame.getPriorityPlayerId());
         Player controllingPlayer = priorityPlayer == null ? null : sourceGame.getPlayer(priorityPlayer.getTurnControlledBy());
         if (controllingPlayer != null && player == controllingPlayer) {
-            gameView.setCanPlayObjects(priorityPlayer.getPlayableObjects(sourceGame, Zone.ALL));
+            Game gameForPlayable = playableGame.get();
+            gameView.setCanPlayObjects(gameForPlayable.getPlayer(priorityPlayer.getId()).getPlayableObjects(gameForPlayable, Zone.ALL));
         }
 
         processControlledPlayers(sourceGame, player, gameView);
@@ -10,6 +10,7 @@ import mage.server.managers.UserManager;
 import mage.view.GameClientMessage;
 import mage.view.GameEndView;
 import mage.view.GameView;
+import mage.view.GameViewDeltaEncoder;
 import mage.view.SimpleCardsView;
 import org.apache.log4j.Logger;
 
@@ -30,6 +31,8 @@ public class GameSessionWatcher {
     protected final Game game;
     protected boolean killed = false;
     protected final boolean isPlayer;
+    private final GameViewDeltaEncoder gameViewEncoder = new GameViewDeltaEncoder();
+    private int sharedViewVersion = 0; // last received view from the shared watchers views (0 - personal or unknown)
 
     public GameSessionWatcher(UserManager userManager, UUID userId, Game game, boolean isPlayer) {
         this.userManager = userManager;
@@ -44,30 +47,63 @@ public class GameSessionWatcher {
             if (user.isPresent()) {
                 // TODO: can be called outside of the game thread, e.g. user start watching already running game
                 //    possible fix: getGameView must use last cached value in non game thread call (split by sessions)
-                user.get().fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameView()));
+                // client starts from a scratch (e.g. reconnect), so it can't use old views for delta
+                gameViewEncoder.reset();
+                fireGameCallback(user.get(), new ClientCallback(ClientCallbackMethod.GAME_INIT, game.getId(), getGameViewForCallback(false)));
                 return true;
             }
         }
         return false;
     }
 
-    public void update() {
+    /**
+     * Non-critical game update
+     *
+     * @param gameViewCache shared data for all sessions of the current update
+     */
+    public void update(GameViewCache gameViewCache) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), getGameView())));
+            userManager.getUser(userId).ifPresent(user -> {
+                if (canUseSharedView(gameViewCache.getSourceGame())) {
+                    fireSharedGameCallback(user, gameViewCache);
+                } else {
+                    fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), gameViewEncoder.encodeDelta(getGameView(gameViewCache))));
+                }
+            });
         }
 
     }
 
+    /**
+     * Watcher without personal data can get same view as other watchers
+     */
+    protected boolean canUseSharedView(Game sourceGame) {
+        for (Player player : sourceGame.getPlayers().values()) {
+            if (player.hasUserPermissionToSeeHand(userId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void fireSharedGameCallback(User user, GameViewCache gameViewCache) {
+        Object data = gameViewCache.getWatchersViewData(sharedViewVersion);
+        boolean sent = user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE, game.getId(), data));
+        // client's last view is not from the personal encoder anymore, so next personal view must be full
+        gameViewEncoder.reset();
+        sharedViewVersion = sent ? gameViewCache.getWatchersVersion() : 0;
+    }
+
     public void inform(final String message) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameView(), null, message))));
+            userManager.getUser(userId).ifPresent(user -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_UPDATE_AND_INFORM, game.getId(), new GameClientMessage(getGameViewForCallback(false), null, message))));
         }
 
     }
 
     public void informPersonal(final String message) {
         if (!killed) {
-            userManager.getUser(userId).ifPresent(user -> user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameView(), null, message))));
+            userManager.getUser(userId).ifPresent(user -> fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_INFORM_PERSONAL, game.getId(), new GameClientMessage(getGameViewForCallback(false), null, message))));
         }
 
     }
@@ -76,7 +112,7 @@ public class GameSessionWatcher {
         if (!killed) {
             userManager.getUser(userId).ifPresent(user -> {
                 user.removeGameWatchInfo(game.getId());
-                user.fireCallback(new ClientCallback(ClientCallbackMethod.GAME_OVER, game.getId(), new GameClientMessage(getGameView(), null, message)));
+                fireGameCallback(user, new ClientCallback(ClientCallbackMethod.GAME_OVER, game.getId(), new GameClientMessage(getGameViewForCallback(false), null, message)));
             });
         }
     }
@@ -99,15 +135,36 @@ public class GameSessionWatcher {
     }
 
     public GameView getGameView() {
-        // game view calculation can take some time and can be called from non-game thread,
-        // so use copy for thread save (protection from ConcurrentModificationException)
-        Game sourceGame = game.copy();
+        return getGameView(new GameViewCache(game));
+    }
 
-        GameView gameView = new GameView(sourceGame.getState(), sourceGame, null, userId);
-        processWatchedHands(sourceGame, userId, gameView);
+    protected GameView getGameView(GameViewCache gameViewCache) {
+        GameView gameView = gameViewCache.getWatcherView();
+        processWatchedHands(gameViewCache.getSourceGame(), userId, gameView);
         return gameView;
     }
 
+    /**
+     * Game view for client's callbacks. Non-critical updates can be sent as delta
+     * (changed cards only), see {@link GameViewDeltaEncoder}
+     */
+    protected GameView getGameViewForCallback(boolean useDelta) {
+        GameView gameView = getGameView();
+        return useDelta ? gameViewEncoder.encodeDelta(gameView) : gameViewEncoder.encodeFull(gameView);
+    }
+
+    /**
+     * Callback with game view, see {@link GameViewDeltaEncoder}
+     */
+    protected void fireGameCallback(User user, ClientCallback callback) {
+        // client's last view is not from the shared watchers views anymore
+        sharedViewVersion = 0;
+        if (!user.fireCallback(callback)) {
+            // client didn't get the view, so next delta can't use it as a base
+            gameViewEncoder.reset();
+        }
+    }
+
     protected static void processWatchedHands(Game game, UUID userId, GameView gameView) {
         gameView.getWatchedHands().clear();
         for (Player player : game.getPlayers().values()) {
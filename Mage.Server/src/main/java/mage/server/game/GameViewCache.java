@@ -0,0 +1,93 @@
+package mage.server.game;
+
+import mage.game.Game;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewDeltaEncoder;
+
+/**
+ * Shared data for a single game update: one game copy for all sessions and one serialized view for all watchers
+ * <p>
+ * Game view calculation is expensive, so it must not be repeated for each user:
+ * - watchers without personal data (e.g. watched hands) get same compressed view (delta or full), see {@link #getWatchersViewData};
+ * - sessions with personal data calculate own views from the shared game copy;
+ * - playable objects calculation can change the game (e.g. mana abilities simulation), so it uses own game copy
+ * (calculation reuses it instead own copy).
+ */
+public class GameViewCache {
+
+    private final Game sourceGame;
+
+    private final GameViewDeltaEncoder watchersEncoder; // shared by all watchers of the game
+    private Object watchersDeltaData = null; // compressed view with changed cards only
+    private Object watchersFullData = null; // compressed view with all cards
+    private int watchersVersion = 0;
+    private int watchersBaseVersion = 0;
+
+    public GameViewCache(Game game) {
+        this(game, new GameViewDeltaEncoder());
+    }
+
+    /**
+     * @param watchersEncoder encoder for watcher views, must be same for all updates of the game
+     */
+    public GameViewCache(Game game, GameViewDeltaEncoder watchersEncoder) {
+        // game view calculation can take some time and can be called from non-game thread,
+        // so use copy for thread save (protection from ConcurrentModificationException)
+        this.sourceGame = game.copy();
+        this.watchersEncoder = watchersEncoder;
+    }
+
+    /**
+     * Game copy for view calculation, must be used for read only
+     */
+    public Game getSourceGame() {
+        return sourceGame;
+    }
+
+    /**
+     * Game copy for a single playable objects calculation (it can be changed by abilities simulation),
+     * the calculation uses it without own copy, so each call returns a new copy
+     */
+    public Game getPlayableGame() {
+        return sourceGame.createSimulationForSinglePlayableCalc();
+    }
+
+    /**
+     * Base view for watchers (without personal data), each call returns a new object
+     */
+    public GameView getWatcherView() {
+        return new GameView(sourceGame.getState(), sourceGame, null, null);
+    }
+
+    /**
+     * Watchers view for callbacks, same data for all watchers without personal data
+     *
+     * @param clientVersion version of the last shared view received by client (0 for unknown)
+     * @return compressed game view, must be sent as is
+     */
+    public synchronized Object getWatchersViewData(int clientVersion) {
+        if (watchersDeltaData == null) {
+            GameView gameView = watchersEncoder.encodeDelta(getWatcherView());
+            watchersVersion = gameView.getDeltaVersion();
+            watchersBaseVersion = gameView.getDeltaBaseVersion();
+            watchersDeltaData = CompressUtil.compress(gameView);
+        }
+        if (watchersBaseVersion == 0 || clientVersion == watchersBaseVersion) {
+            return watchersDeltaData;
+        }
+
+        // client without the last shared view (new watcher, lost callback or personal view)
+        if (watchersFullData == null) {
+            watchersFullData = CompressUtil.compress(watchersEncoder.encodeFullAsLast(getWatcherView()));
+        }
+        return watchersFullData;
+    }
+
+    /**
+     * Version of the watchers view, call it after {@link #getWatchersViewData}
+     */
+    public synchronized int getWatchersVersion() {
+        return watchersVersion;
+    }
+}
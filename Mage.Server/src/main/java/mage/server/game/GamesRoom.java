@@ -9,6 +9,7 @@ import mage.game.match.MatchOptions;
 import mage.game.tournament.TournamentOptions;
 import mage.players.PlayerType;
 import mage.server.Room;
+import mage.view.LobbyUpdateView;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
@@ -24,6 +25,13 @@ import java.util.UUID;
 public interface GamesRoom extends Room {
 
     List<TableView> getTables();
+
+    /**
+     * @param knownVersion client's lobby version, use 0 for full update
+     * @return added, changed and removed tables and matches since known version or null if nothing changed
+     */
+    LobbyUpdateView getLobbyUpdate(long knownVersion);
+
     List<MatchView> getFinished();
     List<RoomUsersView> getRoomUsersInfo();
     boolean joinTable(UUID userId, UUID tableId, String name, PlayerType playerType, int skill, DeckCardLists deckList, String password) throws MageException;
@@ -13,6 +13,7 @@ import mage.server.User;
 import mage.server.managers.ManagerFactory;
 import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
+import mage.view.LobbyUpdateView;
 import mage.view.MatchView;
 import mage.view.RoomUsersView;
 import mage.view.TableView;
@@ -34,11 +35,17 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     private static final Logger LOGGER = Logger.getLogger(GamesRoomImpl.class);
 
     private static final int MAX_FINISHED_TABLES = 25;
+    // tables check without known changes (game and tournament threads can change table's data between server calls)
+    private static final int FORCED_TABLES_CHECK_INTERVAL = 15; // 30 secs
 
     // server's lobby
-    private static List<TableView> lobbyTables = new ArrayList<>();
-    private static List<MatchView> lobbyMatches = new ArrayList<>();
+    private final GamesRoomLobby lobby = new GamesRoomLobby();
     private static List<RoomUsersView> lobbyUsers = new ArrayList<>();
+    // lobby's data versions from the last update, see LobbyChanges
+    private long lobbyTablesVersion = -1;
+    private long lobbyUsersVersion = -1;
+    private boolean lobbyHasDisconnectedUsers = false; // disconnect info shows time, so it must be updated each time
+    private int updatesWithoutTablesCheck = 0;
     private static final ScheduledExecutorService UPDATE_LOBBY_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
             new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_LOBBY_REFRESH)
     );
@@ -58,25 +65,50 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 LOGGER.fatal("Games room update error: " + e.getMessage(), e);
             }
 
-        }, 2, 2, TimeUnit.SECONDS); // TODO: is it ok for performance?
+        }, 2, 2, TimeUnit.SECONDS); // unchanged lobby skips update, see LobbyChanges and GamesRoomLobby
     }
 
     @Override
     public List<TableView> getTables() {
-        return lobbyTables;
+        return lobby.getTables();
+    }
+
+    @Override
+    public LobbyUpdateView getLobbyUpdate(long knownVersion) {
+        return lobby.getUpdate(knownVersion);
     }
 
     private void updateLobby() {
+        // versions must be read before data, so changes during the update will be processed in the next one
+        long tablesVersion = LobbyChanges.getTablesVersion();
+        long usersVersion = LobbyChanges.getUsersVersion();
+        updatesWithoutTablesCheck++;
+        boolean needTables = tablesVersion != lobbyTablesVersion || updatesWithoutTablesCheck >= FORCED_TABLES_CHECK_INTERVAL;
+        boolean needUsers = needTables || lobbyHasDisconnectedUsers || usersVersion != lobbyUsersVersion;
+
+        if (needTables) {
+            lobbyTablesVersion = tablesVersion;
+            updatesWithoutTablesCheck = 0;
+            updateLobbyTables();
+        }
+        if (needUsers) {
+            lobbyUsersVersion = usersVersion;
+            updateLobbyUsers();
+        }
+    }
+
+    private void updateLobbyTables() {
         // tables and matches
         List<Table> allTables = new ArrayList<>(tables.values());
         allTables.sort(new TableListSorter());
-        List<MatchView> matchList = new ArrayList<>();
-        List<TableView> tableList = new ArrayList<>();
+        List<Table> lobbyTables = new ArrayList<>(allTables.size());
+        int finishedCount = 0;
         for (Table table : allTables) {
             if (table.getState() != TableState.FINISHED) {
-                tableList.add(new TableView(table));
-            } else if (matchList.size() < MAX_FINISHED_TABLES) {
-                matchList.add(new MatchView(table));
+                lobbyTables.add(table);
+            } else if (finishedCount < MAX_FINISHED_TABLES) {
+                lobbyTables.add(table);
+                finishedCount++;
             } else {
                 // more since 50 matches finished since this match so removeUserFromAllTablesAndChat it
                 if (table.isTournament()) {
@@ -85,13 +117,16 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 this.removeTable(table.getId());
             }
         }
-        lobbyTables = tableList;
-        lobbyMatches = matchList;
+        lobby.update(lobbyTables);
+    }
 
-        // users
+    private void updateLobbyUsers() {
+        // users (game info, history and stats depend on tables too)
         List<UsersView> users = new ArrayList<>();
+        boolean hasDisconnectedUsers = false;
         for (User user : managerFactory.userManager().getUsers()) {
             if (user.isOnlineUser()) {
+                hasDisconnectedUsers |= user.getUserState() == User.UserState.Disconnected;
                 try {
                     users.add(new UsersView(user.getUserData().getFlagName(), user.getName(),
                             user.getMatchHistory(), user.getMatchQuitRatio(), user.getTourneyHistory(),
@@ -123,11 +158,12 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
                 managerFactory.configSettings().getMaxGameThreads()
         ));
         lobbyUsers = roomUserInfo;
+        lobbyHasDisconnectedUsers = hasDisconnectedUsers;
     }
 
     @Override
     public List<MatchView> getFinished() {
-        return lobbyMatches;
+        return lobby.getMatches();
     }
 
     @Override
@@ -143,6 +179,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     public TableView createTable(UUID userId, MatchOptions options) {
         Table table = managerFactory.tableManager().createTable(this.getRoomId(), userId, options);
         tables.put(table.getId(), table);
+        LobbyChanges.tableChanged();
         return new TableView(table);
     }
 
@@ -159,6 +196,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     public TableView createTournamentTable(UUID userId, TournamentOptions options) {
         Table table = managerFactory.tableManager().createTournamentTable(this.getRoomId(), userId, options);
         tables.put(table.getId(), table);
+        LobbyChanges.tableChanged();
         return new TableView(table);
     }
 
@@ -173,6 +211,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
     @Override
     public void removeTable(UUID userId, UUID tableId) {
         tables.remove(tableId);
+        LobbyChanges.tableChanged();
     }
 
     @Override
@@ -181,6 +220,7 @@ public class GamesRoomImpl extends RoomImpl implements GamesRoom, Serializable {
         if (table != null) {
             table.cleanUp();
             tables.remove(tableId);
+            LobbyChanges.tableChanged();
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Table removed: " + tableId);
             }
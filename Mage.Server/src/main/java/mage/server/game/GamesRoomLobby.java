@@ -0,0 +1,228 @@
+package mage.server.game;
+
+import mage.constants.TableState;
+import mage.game.Seat;
+import mage.game.Table;
+import mage.game.draft.Draft;
+import mage.game.match.Match;
+import mage.game.match.MatchPlayer;
+import mage.game.tournament.Tournament;
+import mage.game.tournament.TournamentPlayer;
+import mage.view.LobbyUpdateView;
+import mage.view.MatchView;
+import mage.view.TableView;
+
+import java.util.*;
+
+/**
+ * Server's lobby: incremental tables and finished matches lists
+ * <p>
+ * Table's views rebuild on table changes only (see getTableStamp), each change increases lobby's version,
+ * so clients can load added, changed and removed rows since own version. Unchanged lobby doesn't create new views.
+ * <p>
+ * Games room calls update on known tables changes only, see {@link LobbyChanges}.
+ */
+public class GamesRoomLobby {
+
+    private static final int MAX_REMOVED_HISTORY = 1000; // older client's versions will get full update
+
+    private static class Entry {
+        long stamp;
+        long version;
+        TableView table; // active table
+        MatchView match; // finished table
+    }
+
+    private static class Removed {
+        final UUID tableId;
+        final boolean finished;
+        final long version;
+
+        Removed(UUID tableId, boolean finished, long version) {
+            this.tableId = tableId;
+            this.finished = finished;
+            this.version = version;
+        }
+    }
+
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final ArrayDeque<Removed> removedHistory = new ArrayDeque<>();
+    // versions start from time, so client's versions from old server's instance will be too old after restart
+    private long version = System.currentTimeMillis();
+    private long removedHistoryStartVersion = version; // removes before that version are lost
+
+    private List<TableView> tables = Collections.emptyList();
+    private List<MatchView> matches = Collections.emptyList();
+
+    /**
+     * Refresh lobby by current tables
+     *
+     * @param sortedTables all lobby's tables in lobby's order
+     */
+    public synchronized void update(List<Table> sortedTables) {
+        long newVersion = version + 1;
+        boolean changed = false;
+
+        // added and changed
+        Set<UUID> actualIds = new HashSet<>(sortedTables.size());
+        for (Table table : sortedTables) {
+            actualIds.add(table.getId());
+            long stamp = getTableStamp(table);
+            boolean finished = table.getState() == TableState.FINISHED;
+            Entry entry = entries.get(table.getId());
+            if (entry == null) {
+                entry = new Entry();
+                entries.put(table.getId(), entry);
+            } else if (entry.stamp == stamp) {
+                continue;
+            } else if (entry.table != null && finished) {
+                // moved from tables to matches
+                addRemoved(table.getId(), false, newVersion);
+            }
+            entry.stamp = stamp;
+            entry.version = newVersion;
+            entry.table = finished ? null : new TableView(table);
+            entry.match = finished ? new MatchView(table) : null;
+            changed = true;
+        }
+
+        // removed
+        Iterator<Map.Entry<UUID, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<UUID, Entry> entry = it.next();
+            if (!actualIds.contains(entry.getKey())) {
+                addRemoved(entry.getKey(), entry.getValue().match != null, newVersion);
+                it.remove();
+                changed = true;
+            }
+        }
+
+        if (!changed) {
+            return;
+        }
+        version = newVersion;
+        List<TableView> newTables = new ArrayList<>();
+        List<MatchView> newMatches = new ArrayList<>();
+        for (Table table : sortedTables) {
+            Entry entry = entries.get(table.getId());
+            if (entry.table != null) {
+                newTables.add(entry.table);
+            } else {
+                newMatches.add(entry.match);
+            }
+        }
+        tables = newTables;
+        matches = newMatches;
+    }
+
+    private void addRemoved(UUID tableId, boolean finished, long removedVersion) {
+        removedHistory.add(new Removed(tableId, finished, removedVersion));
+        while (removedHistory.size() > MAX_REMOVED_HISTORY) {
+            removedHistoryStartVersion = removedHistory.poll().version;
+        }
+    }
+
+    public synchronized List<TableView> getTables() {
+        return tables;
+    }
+
+    public synchronized List<MatchView> getMatches() {
+        return matches;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * @param knownVersion client's version, use 0 for full update
+     * @return changes since known version or null if nothing changed
+     */
+    public synchronized LobbyUpdateView getUpdate(long knownVersion) {
+        if (knownVersion == version) {
+            return null;
+        }
+
+        // unknown or too old version (e.g. server restart)
+        boolean fullUpdate = knownVersion <= 0 || knownVersion > version || knownVersion < removedHistoryStartVersion;
+
+        List<TableView> changedTables = new ArrayList<>();
+        List<MatchView> changedMatches = new ArrayList<>();
+        List<UUID> removedTables = new ArrayList<>();
+        List<UUID> removedMatches = new ArrayList<>();
+        if (fullUpdate) {
+            changedTables.addAll(tables);
+            changedMatches.addAll(matches);
+        } else {
+            for (TableView table : tables) {
+                if (entries.get(table.getTableId()).version > knownVersion) {
+                    changedTables.add(table);
+                }
+            }
+            for (MatchView match : matches) {
+                if (entries.get(match.getTableId()).version > knownVersion) {
+                    changedMatches.add(match);
+                }
+            }
+            Iterator<Removed> it = removedHistory.descendingIterator();
+            while (it.hasNext()) {
+                Removed removed = it.next();
+                if (removed.version <= knownVersion) {
+                    break;
+                }
+                if (removed.finished) {
+                    removedMatches.add(removed.tableId);
+                } else {
+                    removedTables.add(removed.tableId);
+                }
+            }
+        }
+        return new LobbyUpdateView(version, fullUpdate, changedTables, removedTables, changedMatches, removedMatches);
+    }
+
+    /**
+     * Cheap table's fingerprint without views creation: any visible change in the lobby must change it
+     */
+    private static long getTableStamp(Table table) {
+        long stamp = 17;
+        stamp = 31 * stamp + (table.getState() == null ? -1 : table.getState().ordinal());
+        stamp = 31 * stamp + Objects.hashCode(table.getName());
+        stamp = 31 * stamp + Objects.hashCode(table.getControllerName());
+        for (Seat seat : table.getSeats()) {
+            stamp = 31 * stamp + (seat.getPlayer() == null ? 0 : seat.getPlayer().getId().hashCode());
+        }
+        if (table.isTournament()) {
+            Tournament tournament = table.getTournament();
+            if (tournament != null) {
+                stamp = 31 * stamp + tournament.getRounds().size();
+                stamp = 31 * stamp + Objects.hashCode(tournament.getStartTime());
+                stamp = 31 * stamp + Objects.hashCode(tournament.getEndTime());
+                for (TournamentPlayer player : tournament.getPlayers()) {
+                    stamp = 31 * stamp + player.getPlayer().getId().hashCode();
+                    stamp = 31 * stamp + player.getPoints();
+                    stamp = 31 * stamp + Objects.hashCode(player.getResults());
+                }
+                Draft draft = tournament.getDraft();
+                if (draft != null) {
+                    stamp = 31 * stamp + draft.getBoosterNum();
+                    stamp = 31 * stamp + draft.getCardNum();
+                }
+            }
+        } else {
+            Match match = table.getMatch();
+            if (match != null) {
+                stamp = 31 * stamp + match.getGames().size();
+                stamp = 31 * stamp + match.getDraws();
+                stamp = 31 * stamp + (match.isReplayAvailable() ? 1 : 0);
+                stamp = 31 * stamp + Objects.hashCode(match.getStartTime());
+                stamp = 31 * stamp + Objects.hashCode(match.getEndTime());
+                for (MatchPlayer player : match.getPlayers()) {
+                    stamp = 31 * stamp + (player.getPlayer() == null ? 0 : player.getPlayer().getId().hashCode());
+                    stamp = 31 * stamp + player.getWins();
+                    stamp = 31 * stamp + (player.hasQuit() ? 1 : 0);
+                }
+            }
+        }
+        return stamp;
+    }
+}
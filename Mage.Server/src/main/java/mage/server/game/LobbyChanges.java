@@ -0,0 +1,35 @@
+package mage.server.game;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server's lobby changes from any thread: tables (create, join, start, end, tournament and draft steps) and
+ * online users (connect, disconnect, ping)
+ * <p>
+ * Lobby refresh skips unchanged data by versions (no tables scan and no users list rebuild), so any lobby's
+ * visible change must call it after the change (refresh can run in the middle of the change).
+ */
+public final class LobbyChanges {
+
+    private static final AtomicLong tablesVersion = new AtomicLong();
+    private static final AtomicLong usersVersion = new AtomicLong();
+
+    private LobbyChanges() {
+    }
+
+    public static void tableChanged() {
+        tablesVersion.incrementAndGet();
+    }
+
+    public static void userChanged() {
+        usersVersion.incrementAndGet();
+    }
+
+    public static long getTablesVersion() {
+        return tablesVersion.get();
+    }
+
+    public static long getUsersVersion() {
+        return usersVersion.get();
+    }
+}
@@ -24,6 +24,8 @@ public interface ConfigSettings {
 
     int getBacklogSize();
 
+    String getTransport();
+
     int getMaxGameThreads();
 
     int getMaxSecondsIdle();
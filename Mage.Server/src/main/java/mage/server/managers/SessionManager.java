@@ -2,10 +2,10 @@ package mage.server.managers;
 
 import mage.MageException;
 import mage.players.net.UserData;
+import mage.server.CallbackChannel;
 import mage.server.DisconnectReason;
 import mage.server.Session;
 import mage.server.User;
-import org.jboss.remoting.callback.InvokerCallbackHandler;
 
 import java.util.Optional;
 
@@ -13,7 +13,7 @@ public interface SessionManager {
 
     Optional<Session> getSession(String sessionId);
 
-    void createSession(String sessionId, InvokerCallbackHandler callbackHandler);
+    Session createSession(String sessionId, CallbackChannel callbackChannel);
 
     boolean registerUser(String sessionId, String userName, String password, String email) throws MageException;
 
@@ -21,6 +21,7 @@ import mage.game.tournament.TournamentPlayer;
 import mage.players.PlayerType;
 import mage.server.User;
 import mage.server.draft.DraftController;
+import mage.server.game.LobbyChanges;
 import mage.server.managers.ManagerFactory;
 import mage.server.managers.TableManager;
 import mage.util.ThreadUtils;
@@ -104,6 +105,7 @@ public class TournamentController {
                             endTournament();
                             break;
                     }
+                    LobbyChanges.tableChanged(); // rounds, points and results
                 }
         );
         tournament.addPlayerQueryEventListener(
@@ -51,6 +51,11 @@ public class ConfigWrapper implements ConfigSettings {
         return config.getServer().getBacklogSize().intValue();
     }
 
+    public String getTransport() {
+        String transport = config.getServer().getTransport();
+        return transport == null || transport.isEmpty() ? "bisocket" : transport;
+    }
+
     public int getMaxGameThreads() {
         return config.getServer().getMaxGameThreads().intValue();
     }
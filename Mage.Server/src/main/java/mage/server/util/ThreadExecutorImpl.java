@@ -6,6 +6,9 @@ import mage.util.ThreadUtils;
 import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
 
 /**
@@ -19,6 +22,10 @@ public class ThreadExecutorImpl implements ThreadExecutor {
     // example: server can have 50 games and 10 tourney at a time
     private static final int GAMES_PER_TOURNEY_RATIO = 50 / 10;
 
+    // virtual game threads (java 21+): game thread frees OS thread while waiting user's feedback, so server can run
+    // more games than maxGameThreads (it limits active OS threads only), on older java it uses fixed threads pool
+    private static final boolean USE_VIRTUAL_GAME_THREADS = Boolean.parseBoolean(System.getProperty("xmage.server.virtualGameThreads", "false"));
+
     private final ExecutorService callExecutor; // shareable threads to run single task (example: save new game settings from a user, send chat message, etc)
     private final ExecutorService gameExecutor; // game threads to run long tasks, one per game (example: run game and wait user's feedback)
     private final ExecutorService tourneyExecutor; // tourney threads (example: make draft, construction, build and run other game threads)
@@ -38,15 +45,21 @@ public class ThreadExecutorImpl implements ThreadExecutor {
      */
 
     public ThreadExecutorImpl(ConfigSettings config) {
-        callExecutor = new CachedThreadPoolWithException();
+        callExecutor = new CachedThreadPoolWithException("CALL");
         ((ThreadPoolExecutor) callExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
         ((ThreadPoolExecutor) callExecutor).allowCoreThreadTimeOut(true);
         ((ThreadPoolExecutor) callExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_CALL_REQUEST));
 
-        gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
-        ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
-        ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
-        ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        ThreadFactory virtualGameThreadFactory = USE_VIRTUAL_GAME_THREADS ? createVirtualThreadFactory(ThreadUtils.THREAD_PREFIX_GAME + " ") : null;
+        if (virtualGameThreadFactory != null) {
+            logger.info("Game threads: virtual threads (max game threads limit is not used)");
+            gameExecutor = new ThreadPerTaskExecutorWithException(virtualGameThreadFactory, "GAME");
+        } else {
+            gameExecutor = new FixedThreadPoolWithException(config.getMaxGameThreads());
+            ((ThreadPoolExecutor) gameExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
+            ((ThreadPoolExecutor) gameExecutor).allowCoreThreadTimeOut(true);
+            ((ThreadPoolExecutor) gameExecutor).setThreadFactory(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_GAME));
+        }
 
         tourneyExecutor = new FixedThreadPoolWithException(Math.max(2, config.getMaxGameThreads() / GAMES_PER_TOURNEY_RATIO));
         ((ThreadPoolExecutor) tourneyExecutor).setKeepAliveTime(60, TimeUnit.SECONDS);
@@ -66,11 +79,32 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         serverHealthExecutor = Executors.newSingleThreadScheduledExecutor(new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_HEALTH));
     }
 
+    /**
+     * Virtual threads factory (java 21+ only), server must be compatible with java 8, so it uses reflection
+     *
+     * @return null if virtual threads are not supported
+     */
+    static ThreadFactory createVirtualThreadFactory(String namePrefix) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not supported by current java version " + System.getProperty("java.version")
+                    + ", fixed game threads pool will be used");
+            return null;
+        }
+    }
+
     static class CachedThreadPoolWithException extends ThreadPoolExecutor {
 
-        CachedThreadPoolWithException() {
+        private final String threadsInfo;
+
+        CachedThreadPoolWithException(String threadsInfo) {
             // use same params as Executors.newCachedThreadPool()
             super(0, Integer.MAX_VALUE,60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+            this.threadsInfo = threadsInfo;
         }
 
         @Override
@@ -80,7 +114,7 @@ public class ThreadExecutorImpl implements ThreadExecutor {
             // catch errors in CALL threads (from client commands)
             t = ThreadUtils.findRunnableException(r, t);
             if (t != null && !(t instanceof CancellationException)) {
-                logger.error("Catch unhandled error in CALL thread: " + t.getMessage(), t);
+                logger.error("Catch unhandled error in " + threadsInfo + " thread: " + t.getMessage(), t);
             }
         }
     }
@@ -105,11 +139,102 @@ public class ThreadExecutorImpl implements ThreadExecutor {
         }
     }
 
+    /**
+     * New thread for each task without pooling (virtual threads are cheap and must not be reused)
+     */
+    static class ThreadPerTaskExecutorWithException extends AbstractExecutorService {
+
+        private final ThreadFactory threadFactory;
+        private final String threadsInfo;
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private volatile boolean shutdown = false;
+
+        ThreadPerTaskExecutorWithException(ThreadFactory threadFactory, String threadsInfo) {
+            this.threadFactory = threadFactory;
+            this.threadsInfo = threadsInfo;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            if (shutdown) {
+                throw new RejectedExecutionException(threadsInfo + " executor is shutdown");
+            }
+            Thread thread = threadFactory.newThread(() -> {
+                Throwable error = null;
+                try {
+                    command.run();
+                } catch (Throwable e) {
+                    error = e;
+                } finally {
+                    threads.remove(Thread.currentThread());
+                    synchronized (threads) {
+                        threads.notifyAll();
+                    }
+                    afterExecute(command, error);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+
+        private void afterExecute(Runnable r, Throwable t) {
+            // catch errors in virtual GAME threads (from game processing)
+            t = ThreadUtils.findRunnableException(r, t);
+            if (t != null && !(t instanceof CancellationException)) {
+                logger.error("Catch unhandled error in " + threadsInfo + " thread: " + t.getMessage(), t);
+            }
+        }
+
+        int getActiveCount() {
+            return threads.size();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            threads.forEach(Thread::interrupt);
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown && threads.isEmpty();
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            synchronized (threads) {
+                while (!isTerminated()) {
+                    long waitMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                    if (waitMillis <= 0) {
+                        return false;
+                    }
+                    threads.wait(waitMillis);
+                }
+            }
+            return true;
+        }
+    }
+
     @Override
     public int getActiveThreads(ExecutorService executerService) {
         if (executerService instanceof ThreadPoolExecutor) {
             return ((ThreadPoolExecutor) executerService).getActiveCount();
         }
+        if (executerService instanceof ThreadPerTaskExecutorWithException) {
+            return ((ThreadPerTaskExecutorWithException) executerService).getActiveCount();
+        }
         return -1;
     }
 
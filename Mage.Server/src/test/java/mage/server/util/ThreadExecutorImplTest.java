@@ -0,0 +1,72 @@
+package mage.server.util;
+
+import mage.util.XmageThreadFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+public class ThreadExecutorImplTest {
+
+    private static boolean isVirtualThreadsSupported() {
+        // 1.8 for java 8, 21 for java 21
+        String version = System.getProperty("java.specification.version");
+        return !version.startsWith("1.") && Integer.parseInt(version) >= 21;
+    }
+
+    @Test
+    @DisplayName("should create virtual threads on java 21+ and fallback on older java")
+    void virtualThreadFactory() throws Exception {
+        ThreadFactory factory = ThreadExecutorImpl.createVirtualThreadFactory("TEST ");
+        if (!isVirtualThreadsSupported()) {
+            assertThat(factory).isNull();
+            return;
+        }
+
+        assertThat(factory).isNotNull();
+        Thread thread = factory.newThread(() -> {
+        });
+        assertThat(thread.getName()).startsWith("TEST ");
+        assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("should run each task in new thread")
+    void threadPerTask() throws Exception {
+        ThreadExecutorImpl.ThreadPerTaskExecutorWithException executor
+                = new ThreadExecutorImpl.ThreadPerTaskExecutorWithException(new XmageThreadFactory("TEST"), "TEST");
+
+        Set<Thread> usedThreads = ConcurrentHashMap.newKeySet();
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch finish = new CountDownLatch(1);
+        Future<?> task1 = executor.submit(() -> {
+            usedThreads.add(Thread.currentThread());
+            started.countDown();
+            finish.await();
+            return null;
+        });
+        Future<?> task2 = executor.submit(() -> {
+            usedThreads.add(Thread.currentThread());
+            started.countDown();
+            finish.await();
+            return null;
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(usedThreads).hasSize(2);
+        assertThat(executor.getActiveCount()).isEqualTo(2);
+
+        finish.countDown();
+        task1.get(10, TimeUnit.SECONDS);
+        task2.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getActiveCount()).isEqualTo(0);
+        assertThatExceptionOfType(RejectedExecutionException.class)
+                .isThrownBy(() -> executor.execute(() -> {
+                }));
+    }
+}
@@ -75,7 +75,7 @@ class RiftsweeperEffect extends OneShotEffect {
         Card card = game.getCard(getTargetPointer().getFirst(game, source));
         if (card != null) {
             // remove existing suspend counters
-            card.getCounters(game).clear();
+            card.getCountersForUpdate(game).clear();
             Player owner = game.getPlayer(card.getOwnerId());
             if (owner != null) {
                 return owner.shuffleCardsToLibrary(card, game, source);
@@ -0,0 +1,66 @@
+package org.mage.test.AI.basic;
+
+import mage.player.ai.MCTSActionCache;
+import mage.util.CacheStats;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * MCTS AI caches possible actions by game state, so memory must be limited
+ */
+public class MCTSActionCacheTest {
+
+    @Test
+    public void test_HitsAndMisses() {
+        MCTSActionCache<List<String>> cache = new MCTSActionCache<>("test cache hits", 100);
+        CacheStats stats = CacheStats.get("test cache hits");
+
+        Assert.assertNull(cache.get(1L));
+        cache.put(1L, Arrays.asList("a", "b"));
+        Assert.assertEquals(Arrays.asList("a", "b"), cache.get(1L));
+        Assert.assertEquals(Arrays.asList("a", "b"), cache.get(1L));
+
+        Assert.assertEquals(2, stats.getHits());
+        Assert.assertEquals(1, stats.getMisses());
+        Assert.assertTrue(CacheStats.getInfo().contains("test cache hits: hits 2, misses 1, hit ratio 66%, evictions 0"));
+    }
+
+    @Test
+    public void test_MaxWeight() {
+        // weight = 1 + elements
+        MCTSActionCache<List<String>> cache = new MCTSActionCache<>("test cache weight", 9);
+        cache.put(1L, Arrays.asList("a", "b"));
+        cache.put(2L, Arrays.asList("a", "b"));
+        cache.put(3L, Arrays.asList("a", "b"));
+        Assert.assertEquals(3, cache.size());
+        Assert.assertEquals(9, cache.getWeight());
+
+        // least recently used must be removed first
+        cache.get(1L);
+        cache.put(4L, Collections.singletonList("a"));
+        Assert.assertEquals(3, cache.size());
+        Assert.assertEquals(8, cache.getWeight());
+        Assert.assertNotNull(cache.get(1L));
+        Assert.assertNull(cache.get(2L));
+        Assert.assertNotNull(cache.get(3L));
+        Assert.assertNotNull(cache.get(4L));
+        Assert.assertEquals(1, CacheStats.get("test cache weight").getEvictions());
+
+        // too big value must be kept alone
+        cache.put(5L, Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j"));
+        Assert.assertEquals(1, cache.size());
+        Assert.assertNotNull(cache.get(5L));
+
+        // replace must update weight
+        cache.put(5L, Collections.singletonList("a"));
+        Assert.assertEquals(2, cache.getWeight());
+
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, cache.getWeight());
+    }
+}
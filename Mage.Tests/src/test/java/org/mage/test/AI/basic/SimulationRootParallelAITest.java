@@ -0,0 +1,116 @@
+package org.mage.test.AI.basic;
+
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.GameException;
+import mage.game.permanent.Permanent;
+import mage.player.ai.ComputerPlayer6;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBaseWithAIHelps;
+
+import java.io.FileNotFoundException;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for AI root-parallel search (root actions calculated in parallel threads)
+ */
+public class SimulationRootParallelAITest extends CardTestPlayerBaseWithAIHelps {
+
+    // both searches choose same actions while calculations fit the nodes limit (each parallel action gets same
+    // limit as sequential search), so use boards with single best play
+
+    @Test
+    public void test_ParallelAndSequentialSearchMustChooseSameActions_TargetAndMana() throws GameException, FileNotFoundException {
+        assertSameResults(() -> {
+            // AI must choose best target for bolt and cast creature with other mana
+            addCard(Zone.HAND, playerA, "Lightning Bolt"); // {R}
+            addCard(Zone.HAND, playerA, "Grizzly Bears"); // {1}{G}
+            addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+            addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+            //
+            addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 1); // 2/2
+            addCard(Zone.BATTLEFIELD, playerB, "Memnite", 1); // 1/1
+        });
+    }
+
+    @Test
+    public void test_ParallelAndSequentialSearchMustChooseSameActions_BiggestKillableTarget() throws GameException, FileNotFoundException {
+        assertSameResults(() -> {
+            // AI must kill the biggest creature that bolt can kill
+            addCard(Zone.HAND, playerA, "Lightning Bolt"); // {R}
+            addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+            //
+            addCard(Zone.BATTLEFIELD, playerB, "Serra Angel", 1); // 4/4
+            addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+            addCard(Zone.BATTLEFIELD, playerB, "Memnite", 1); // 1/1
+        });
+    }
+
+    @Test
+    public void test_ParallelAndSequentialSearchMustChooseSameActions_ManyCastOrders() throws GameException, FileNotFoundException {
+        assertSameResults(() -> {
+            // AI must cast all creatures, many possible orders and mana payments
+            addCard(Zone.HAND, playerA, "Grizzly Bears"); // {1}{G}
+            addCard(Zone.HAND, playerA, "Llanowar Elves"); // {G}
+            addCard(Zone.HAND, playerA, "Memnite"); // {0}
+            addCard(Zone.HAND, playerA, "Ornithopter"); // {0}
+            addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+            //
+            addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 1); // 2/2
+        });
+    }
+
+    @Test
+    public void test_ParallelAndSequentialSearchMustChooseSameActions_ManyActionsWithCutOffs() throws GameException, FileNotFoundException {
+        assertSameResults(() -> {
+            // many root actions with worse scores, so workers must cut off them by shared best score
+            // AI must kill the biggest creatures by both spells
+            addCard(Zone.HAND, playerA, "Lightning Bolt"); // {R}, 3 damage
+            addCard(Zone.HAND, playerA, "Shock"); // {R}, 2 damage
+            addCard(Zone.BATTLEFIELD, playerA, "Mountain", 2);
+            //
+            addCard(Zone.BATTLEFIELD, playerB, "Hill Giant", 1); // 3/3
+            addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 1); // 2/2
+            addCard(Zone.BATTLEFIELD, playerB, "Memnite", 1); // 1/1
+            addCard(Zone.BATTLEFIELD, playerB, "Ornithopter", 1); // 0/2
+        });
+    }
+
+    private void assertSameResults(Runnable prepareBoard) throws GameException, FileNotFoundException {
+        String sequentialResult = playAndGetResult(false, prepareBoard);
+        reset();
+        String parallelResult = playAndGetResult(true, prepareBoard);
+
+        Assert.assertEquals("parallel search must choose same actions as sequential", sequentialResult, parallelResult);
+    }
+
+    private String playAndGetResult(boolean rootParallelSearch, Runnable prepareBoard) {
+        ((ComputerPlayer6) playerA.getRealPlayer()).setRootParallelSearch(rootParallelSearch);
+        prepareBoard.run();
+
+        aiPlayPriority(1, PhaseStep.PRECOMBAT_MAIN, playerA);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        setStrictChooseMode(true);
+        execute();
+
+        return getResult(playerA) + "; " + getResult(playerB);
+    }
+
+    private String getResult(Player player) {
+        return player.getName() + " life " + player.getLife()
+                + ", battlefield: " + currentGame.getBattlefield().getAllActivePermanents(player.getId())
+                .stream()
+                .map(Permanent::getName)
+                .sorted()
+                .collect(Collectors.joining(", "))
+                + ", graveyard: " + player.getGraveyard().getCards(currentGame)
+                .stream()
+                .map(Card::getName)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -6,10 +6,19 @@ import mage.constants.PhaseStep;
 import mage.constants.SubType;
 import mage.constants.Zone;
 import mage.filter.Filter;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
 
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
 /**
  *
  * @author jeffwadsworth
@@ -243,4 +252,128 @@ public class LayerTests extends CardTestPlayerBase {
 
     }
 
+    /**
+     * Game copy must keep the layered effects order by timestamp
+     * (copied effects get new timestamps in the copy, but the same order)
+     */
+    @Test
+    public void testTimestampsOrderAfterGameCopy() {
+        addCard(Zone.HAND, playerA, "Opalescence"); // enchantments become creatures P/T equal to CMC
+        addCard(Zone.HAND, playerA, "Humility"); // all creatures lose all abilities and have base P/T 1/1
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 8);
+
+        // result depends on timestamps order of Opalescence and Humility
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Opalescence", true);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Humility");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        Permanent humility = getPermanent("Humility", playerA);
+
+        List<String> originalOrder = currentGame.getContinuousEffects().getLayeredEffects(currentGame)
+                .stream()
+                .map(effect -> effect.getId().toString())
+                .collect(Collectors.toList());
+        Game copiedGame = currentGame.copy();
+        List<String> copiedOrder = copiedGame.getContinuousEffects().getLayeredEffects(copiedGame)
+                .stream()
+                .map(effect -> effect.getId().toString())
+                .collect(Collectors.toList());
+        Assert.assertEquals("game copy must keep effects order", originalOrder, copiedOrder);
+
+        copiedGame.applyEffects();
+        Permanent copiedHumility = copiedGame.getBattlefield().getAllActivePermanents(playerA.getId())
+                .stream()
+                .filter(permanent -> permanent.getName().equals("Humility"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(copiedHumility);
+        Assert.assertEquals("game copy must apply effects in same order", humility.getPower().getValue(), copiedHumility.getPower().getValue());
+        Assert.assertEquals("game copy must apply effects in same order", humility.getToughness().getValue(), copiedHumility.getToughness().getValue());
+    }
+
+    @Test
+    public void testReuseActiveEffects_OpalescenceHumility() {
+        addCard(Zone.HAND, playerA, "Opalescence"); // enchantments become creatures P/T equal to CMC
+        addCard(Zone.HAND, playerA, "Humility"); // all creatures lose all abilities and have base P/T 1/1
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 8);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Opalescence", true);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Humility");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        assertSameLayersWithoutReuse();
+    }
+
+    @Test
+    public void testReuseActiveEffects_BloodMoonUrborg() {
+        addCard(Zone.BATTLEFIELD, playerA, "Blood Moon"); // nonbasic lands are Mountains
+        addCard(Zone.BATTLEFIELD, playerA, "Urborg, Tomb of Yawgmoth"); // each land is a Swamp in addition
+        addCard(Zone.BATTLEFIELD, playerA, "Forest");
+        addCard(Zone.BATTLEFIELD, playerB, "Island");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        assertType("Urborg, Tomb of Yawgmoth", CardType.LAND, SubType.MOUNTAIN);
+        assertSameLayersWithoutReuse();
+    }
+
+    @Test
+    public void testReuseActiveEffects_ControlChangeAndAbilities() {
+        addCard(Zone.HAND, playerA, "Mind Control"); // gain control of enchanted creature
+        addCard(Zone.BATTLEFIELD, playerA, "Island", 5);
+        addCard(Zone.BATTLEFIELD, playerA, "Glorious Anthem"); // creatures you control get +1/+1
+        addCard(Zone.BATTLEFIELD, playerA, "Fervor"); // creatures you control have haste
+        addCard(Zone.BATTLEFIELD, playerB, "Grizzly Bears");
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Mind Control", "Grizzly Bears");
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        assertPowerToughness(playerA, "Grizzly Bears", 3, 3);
+        assertSameLayersWithoutReuse();
+    }
+
+    /**
+     * Layers apply with reused active layered effects must give same objects as a rebuild on each layer
+     */
+    private void assertSameLayersWithoutReuse() {
+        currentGame.applyEffects();
+        Map<UUID, String> withReuse = getLayersResult(currentGame);
+
+        currentGame.getContinuousEffects().setReuseActiveLayeredEffects(false);
+        try {
+            currentGame.applyEffects();
+            Map<UUID, String> withoutReuse = getLayersResult(currentGame);
+            Assert.assertEquals("reused active effects must give same layers result", withoutReuse, withReuse);
+        } finally {
+            currentGame.getContinuousEffects().setReuseActiveLayeredEffects(true);
+        }
+    }
+
+    private Map<UUID, String> getLayersResult(Game game) {
+        Map<UUID, String> res = new TreeMap<>();
+        for (Permanent permanent : game.getBattlefield().getAllPermanents()) {
+            res.put(permanent.getId(), permanent.getName()
+                    + ", controller " + permanent.getControllerId()
+                    + ", " + permanent.getPower().getValue() + "/" + permanent.getToughness().getValue()
+                    + ", " + permanent.getCardType(game)
+                    + ", " + permanent.getSubtype(game)
+                    + ", " + permanent.getColor(game)
+                    + ", " + permanent.getAbilities(game).stream()
+                    .map(ability -> ability.getClass().getName())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return res;
+    }
 }
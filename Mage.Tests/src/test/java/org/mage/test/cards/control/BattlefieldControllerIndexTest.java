@@ -0,0 +1,115 @@
+package org.mage.test.cards.control;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.filter.StaticFilters;
+import mage.game.Game;
+import mage.game.permanent.Permanent;
+import mage.players.Player;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Battlefield keeps permanents index by controller, so it must be actual after control and phasing changes
+ */
+public class BattlefieldControllerIndexTest extends CardTestPlayerBase {
+
+    private void assertControlled(String info, Game game, Player player, String cardName, boolean mustHave) {
+        List<Permanent> fromIndex = game.getBattlefield().getAllActivePermanents(player.getId());
+        List<Permanent> fromField = game.getBattlefield().getAllPermanents()
+                .stream()
+                .filter(permanent -> permanent.isPhasedIn() && permanent.isControlledBy(player.getId()))
+                .collect(Collectors.toList());
+        Assert.assertEquals(info + " - index must have same permanents and order", fromField, fromIndex);
+        Assert.assertEquals(info + " - wrong controlled " + cardName, mustHave,
+                fromIndex.stream().anyMatch(permanent -> permanent.getName().equals(cardName)));
+        Assert.assertEquals(info + " - wrong creatures count",
+                fromField.stream().filter(permanent -> permanent.isCreature(game)).count(),
+                game.getBattlefield().countAll(StaticFilters.FILTER_PERMANENT_CREATURE, player.getId(), game));
+    }
+
+    @Test
+    public void test_ControlChange() {
+        // Gain control of target creature until end of turn. Untap that creature. It gains haste until end of turn.
+        addCard(Zone.HAND, playerA, "Act of Treason", 1); // {2}{R}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 1);
+
+        runCode("before", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertControlled(info, game, playerA, "Silvercoat Lion", false);
+            assertControlled(info, game, playerB, "Silvercoat Lion", true);
+        });
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Act of Treason", "Silvercoat Lion");
+        waitStackResolved(1, PhaseStep.PRECOMBAT_MAIN);
+        runCode("after control change", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertControlled(info, game, playerA, "Silvercoat Lion", true);
+            assertControlled(info, game, playerB, "Silvercoat Lion", false);
+        });
+
+        runCode("after control return", 2, PhaseStep.PRECOMBAT_MAIN, playerB, (info, player, game) -> {
+            assertControlled(info, game, playerA, "Silvercoat Lion", false);
+            assertControlled(info, game, playerB, "Silvercoat Lion", true);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(2, PhaseStep.END_TURN);
+        execute();
+    }
+
+    @Test
+    public void test_DirectControllerChange() {
+        // some effects change controller directly (e.g. enters under control of an opponent)
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Silvercoat Lion", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        assertControlled("before", currentGame, playerA, "Grizzly Bears", true);
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        bears.setControllerId(playerB.getId());
+        assertControlled("after", currentGame, playerA, "Grizzly Bears", false);
+        assertControlled("after", currentGame, playerB, "Grizzly Bears", true);
+
+        // game copy must use own index
+        Game copy = currentGame.copy();
+        Permanent copiedBears = copy.getPermanent(bears.getId());
+        copiedBears.setControllerId(playerA.getId());
+        assertControlled("copy", copy, playerA, "Grizzly Bears", true);
+        assertControlled("original", currentGame, playerA, "Grizzly Bears", false);
+        assertControlled("original", currentGame, playerB, "Grizzly Bears", true);
+
+        // removed permanent must not change the index
+        currentGame.getBattlefield().removePermanent(bears.getId());
+        bears.setControllerId(playerA.getId());
+        assertControlled("removed", currentGame, playerA, "Grizzly Bears", false);
+        assertControlled("removed", currentGame, playerB, "Grizzly Bears", false);
+    }
+
+    @Test
+    public void test_Phasing() {
+        // Phasing
+        addCard(Zone.BATTLEFIELD, playerA, "Tolarian Drake", 1);
+
+        // phasing works on each untap step (first turn too)
+        runCode("phased out", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertControlled(info, game, playerA, "Tolarian Drake", false);
+        });
+        runCode("phased in", 3, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertControlled(info, game, playerA, "Tolarian Drake", true);
+        });
+        runCode("phased out again", 5, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            assertControlled(info, game, playerA, "Tolarian Drake", false);
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(5, PhaseStep.END_TURN);
+        execute();
+    }
+}
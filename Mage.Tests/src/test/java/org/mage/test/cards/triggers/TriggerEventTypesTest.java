@@ -0,0 +1,73 @@
+package org.mage.test.cards.triggers;
+
+import mage.abilities.Ability;
+import mage.abilities.TriggeredAbility;
+import mage.cards.Card;
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.events.GameEvent;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.*;
+
+/**
+ * Game state checks triggers by event types (only related triggers for each event), so declared
+ * event types must be same as in checkEventType
+ */
+public class TriggerEventTypesTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_DeclaredEventTypesMustBeSameAsChecks() {
+        List<CardInfo> cards = CardRepository.instance.findCards(new CardCriteria().setCodes("DMU", "M21", "KHM"));
+        Assert.assertFalse("must have cards", cards.isEmpty());
+
+        Set<Class<?>> checkedClasses = new HashSet<>();
+        List<String> errors = new ArrayList<>();
+        for (CardInfo cardInfo : cards) {
+            Card card = cardInfo.createCard();
+            for (Ability ability : card.getAbilities()) {
+                if (!(ability instanceof TriggeredAbility) || !checkedClasses.add(ability.getClass())) {
+                    continue;
+                }
+                TriggeredAbility triggeredAbility = (TriggeredAbility) ability;
+                Set<GameEvent.EventType> declaredTypes = triggeredAbility.getCheckEventTypes();
+                if (declaredTypes == null) {
+                    continue;
+                }
+                for (GameEvent.EventType eventType : GameEvent.EventType.values()) {
+                    GameEvent event = GameEvent.getEvent(eventType, UUID.randomUUID(), null, UUID.randomUUID());
+                    // child classes can override checkEventType, so declared types must be a superset of the checks
+                    if (triggeredAbility.checkEventType(event, currentGame) && !declaredTypes.contains(eventType)) {
+                        errors.add(ability.getClass().getName() + " - " + eventType);
+                    }
+                }
+            }
+        }
+        Assert.assertTrue("triggers have undeclared event types:\n" + String.join("\n", errors), errors.isEmpty());
+    }
+
+    @Test
+    public void test_TriggersWithAndWithoutDeclaredTypesMustWork() {
+        // When Elvish Visionary enters the battlefield, draw a card.
+        addCard(Zone.HAND, playerA, "Elvish Visionary", 1); // {1}{G}
+        // Whenever another creature enters the battlefield under your control, you gain 1 life.
+        addCard(Zone.BATTLEFIELD, playerA, "Soul Warden", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Elvish Visionary");
+        setChoice(playerA, "When {this} enters"); // triggers order
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        assertPermanentCount(playerA, "Elvish Visionary", 1);
+        assertHandCount(playerA, 1);
+        assertLife(playerA, 20 + 1);
+    }
+}
@@ -0,0 +1,106 @@
+package org.mage.test.cards.watchers;
+
+import mage.MageObjectReference;
+import mage.constants.PhaseStep;
+import mage.constants.WatcherScope;
+import mage.constants.Zone;
+import mage.util.ClassScanner;
+import mage.watchers.Watcher;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Often copied watchers use own copy constructors instead reflection copy, so it must copy all fields
+ * like a reflection copy do (same data and no shared containers)
+ */
+public class WatcherCopyTest extends CardTestPlayerBase {
+
+    private static boolean hasCopyConstructor(Class<?> watcherClass) {
+        try {
+            watcherClass.getDeclaredConstructor(watcherClass);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof String
+                || value instanceof UUID || value instanceof MageObjectReference || value instanceof Enum;
+    }
+
+    private static void checkCopiedFields(Watcher watcher, Watcher copied, List<String> errors) throws IllegalAccessException {
+        List<Field> fields = new ArrayList<>();
+        fields.addAll(Arrays.asList(watcher.getClass().getDeclaredFields()));
+        fields.addAll(Arrays.asList(Watcher.class.getDeclaredFields()));
+        for (Field field : fields) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            field.setAccessible(true);
+            Object value = field.get(watcher);
+            Object copiedValue = field.get(copied);
+            if (!Objects.equals(value, copiedValue)) {
+                errors.add(watcher.getClass().getSimpleName() + "." + field.getName() + " - different data: " + value + " and " + copiedValue);
+            } else if (value != null && value == copiedValue && !isImmutable(value)) {
+                errors.add(watcher.getClass().getSimpleName() + "." + field.getName() + " - shared data");
+            }
+        }
+    }
+
+    @Test
+    public void test_CopyConstructorsMustCopyAllFields() throws Exception {
+        addCard(Zone.HAND, playerA, "Lightning Bolt"); // {R}
+        addCard(Zone.HAND, playerA, "Grizzly Bears"); // {1}{G}
+        addCard(Zone.BATTLEFIELD, playerA, "Mountain", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Balduvian Bears", 1); // 2/2
+        addCard(Zone.BATTLEFIELD, playerB, "Memnite", 1); // 1/1
+
+        // fill watchers by spells, life loss, draws, combat and died creature
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Lightning Bolt", playerB);
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Grizzly Bears");
+        attack(3, playerA, "Balduvian Bears");
+        block(3, playerB, "Memnite", "Balduvian Bears");
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.POSTCOMBAT_MAIN);
+        execute();
+
+        assertLife(playerB, 20 - 3);
+        assertGraveyardCount(playerB, "Memnite", 1);
+
+        List<Class> watcherClasses = ClassScanner.findClasses(null, Collections.singletonList("mage.watchers.common"), Watcher.class);
+        int checkedCount = 0;
+        List<String> errors = new ArrayList<>();
+        for (Class<?> watcherClass : watcherClasses) {
+            if (!hasCopyConstructor(watcherClass)) {
+                continue;
+            }
+            List<Watcher> watchers = new ArrayList<>();
+            watchers.add(currentGame.getState().getWatcher((Class<? extends Watcher>) watcherClass));
+            watchers.add(currentGame.getState().getWatcher((Class<? extends Watcher>) watcherClass, playerA.getId()));
+            watchers.add(currentGame.getState().getWatcher((Class<? extends Watcher>) watcherClass, playerB.getId()));
+            for (Watcher watcher : watchers) {
+                if (watcher == null) {
+                    continue;
+                }
+                checkedCount++;
+                Watcher copied = watcher.copy();
+                Assert.assertNotNull("must copy " + watcherClass.getSimpleName(), copied);
+                Assert.assertEquals(watcherClass, copied.getClass());
+                checkCopiedFields(watcher, copied, errors);
+                if (watcher.getScope() == WatcherScope.PLAYER) {
+                    Assert.assertEquals(watcher.getKey(), copied.getKey());
+                }
+            }
+        }
+        Assert.assertTrue("must have game watchers with copy constructors", checkedCount > 0);
+        Assert.assertTrue("watchers copy constructors must copy all fields:\n" + String.join("\n", errors), errors.isEmpty());
+    }
+}
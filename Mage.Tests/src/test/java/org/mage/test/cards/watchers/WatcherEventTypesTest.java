@@ -0,0 +1,116 @@
+package org.mage.test.cards.watchers;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.events.GameEvent;
+import mage.util.ClassScanner;
+import mage.util.SerializationCodec;
+import mage.watchers.Watcher;
+import mage.watchers.WatcherStats;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.lang.reflect.Constructor;
+import java.util.*;
+
+/**
+ * Game state sends events to watchers by event types (only related events for each watcher), so declared
+ * event types must be same as in watch method
+ */
+public class WatcherEventTypesTest extends CardTestPlayerBase {
+
+    private static Watcher createWatcher(Class<?> watcherClass) throws Exception {
+        // same as watcher's copy - single constructor with default params (copy constructor is optional)
+        Constructor<?> constructor = Arrays.stream(watcherClass.getDeclaredConstructors())
+                .filter(c -> c.getParameterCount() != 1 || c.getParameterTypes()[0] != watcherClass)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Can't find watcher's constructor: " + watcherClass.getName()));
+        constructor.setAccessible(true);
+        Object[] args = new Object[constructor.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            if (constructor.getParameterTypes()[i] == boolean.class) {
+                args[i] = false;
+            }
+        }
+        Watcher watcher = (Watcher) constructor.newInstance(args);
+        watcher.setControllerId(UUID.randomUUID());
+        watcher.setSourceId(UUID.randomUUID());
+        return watcher;
+    }
+
+    @Test
+    public void test_UndeclaredEventsMustBeIgnored() throws Exception {
+        // init game for watchers
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        List<Class> watcherClasses = ClassScanner.findClasses(null, Collections.singletonList("mage.watchers.common"), Watcher.class);
+        Assert.assertFalse("must find watchers", watcherClasses.isEmpty());
+
+        int checkedCount = 0;
+        List<String> errors = new ArrayList<>();
+        for (Class<?> watcherClass : watcherClasses) {
+            Watcher watcher = createWatcher(watcherClass);
+            Set<GameEvent.EventType> declaredTypes = watcher.getWatchEventTypes();
+            if (declaredTypes == null) {
+                continue;
+            }
+            checkedCount++;
+            byte[] before = SerializationCodec.JAVA.encode(watcher);
+            for (GameEvent.EventType eventType : GameEvent.EventType.values()) {
+                if (declaredTypes.contains(eventType)) {
+                    continue;
+                }
+                GameEvent event = GameEvent.getEvent(eventType, UUID.randomUUID(), null, UUID.randomUUID());
+                try {
+                    watcher.watch(event, currentGame);
+                } catch (Exception e) {
+                    errors.add(watcherClass.getSimpleName() + " - " + eventType + " - " + e.getClass().getSimpleName());
+                    continue;
+                }
+                if (!Arrays.equals(before, SerializationCodec.JAVA.encode(watcher))) {
+                    errors.add(watcherClass.getSimpleName() + " - " + eventType + " - changed data");
+                    break;
+                }
+            }
+        }
+        Assert.assertTrue("must have watchers with declared event types", checkedCount > 0);
+        Assert.assertTrue("watchers use undeclared event types:\n" + String.join("\n", errors), errors.isEmpty());
+    }
+
+    @Test
+    public void test_Stats() {
+        // Whenever another creature enters the battlefield under your control, you gain 1 life.
+        addCard(Zone.BATTLEFIELD, playerA, "Soul Warden", 1);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1); // {1}{G}
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+
+        castSpell(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Grizzly Bears");
+
+        Assume.assumeTrue("run with -Dxmage.debug.watcherStats=true", WatcherStats.isEnabled());
+        WatcherStats.reset();
+        try {
+            setStrictChooseMode(true);
+            setStopAt(1, PhaseStep.END_TURN);
+            execute();
+
+            assertPermanentCount(playerA, "Grizzly Bears", 1);
+            assertLife(playerA, 20 + 1);
+
+            // default game watchers: SPELL_CAST for spells watcher, all events for unknown watchers
+            List<String> info = WatcherStats.getInfo(1000);
+            Assert.assertFalse("must have stats", info.isEmpty());
+            String spellsInfo = info.stream()
+                    .filter(s -> s.startsWith("SpellsCastWatcher:"))
+                    .findFirst()
+                    .orElse(null);
+            Assert.assertNotNull("must have stats for default watcher", spellsInfo);
+            Assert.assertTrue("must handle only part of dispatched events: " + spellsInfo, spellsInfo.endsWith(", handled 1"));
+        } finally {
+            WatcherStats.reset();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.mage.test.rollback;
+
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.keyword.TrampleAbility;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.CardState;
+import mage.game.GameState;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+/**
+ * Card states are shared between saved game states (copy-on-write), so changes
+ * after the save must not leak into the saved state
+ */
+public class CardStateTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_CountersOnSuspendedCardMustBeRestored() {
+        // Suspend 3—{1}{W}
+        addCard(Zone.HAND, playerA, "Duskrider Peregrine", 1); // {5}{W}
+        addCard(Zone.BATTLEFIELD, playerA, "Plains", 2);
+
+        // prepare suspended card
+        activateManaAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "{T}: Add {W}", 2);
+        activateAbility(1, PhaseStep.PRECOMBAT_MAIN, playerA, "Suspend 3");
+        checkCardCounters("after suspend", 1, PhaseStep.PRECOMBAT_MAIN, playerA, "Duskrider Peregrine", CounterType.TIME, 3);
+
+        // remove counter on upkeep, then rollback to turn start and remove it again
+        checkCardCounters("after upkeep", 3, PhaseStep.PRECOMBAT_MAIN, playerA, "Duskrider Peregrine", CounterType.TIME, 2);
+        rollbackTurns(3, PhaseStep.BEGIN_COMBAT, playerA, 0);
+
+        setStrictChooseMode(true);
+        setStopAt(3, PhaseStep.END_TURN);
+        execute();
+
+        assertCounterOnExiledCardCount("Duskrider Peregrine", CounterType.TIME, 2);
+    }
+
+    @Test
+    public void test_CopiesMustBeIndependent() {
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Card bears = playerA.getHand().getCards(currentGame).stream()
+                .filter(card -> card.getName().equals("Grizzly Bears"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(bears);
+        GameState original = currentGame.getState();
+
+        // read only usage must not create or copy card states
+        CardState stateBeforeRead = original.getCardState(bears.getId());
+        Assert.assertEquals(0, bears.getCounters(original).getCount(CounterType.TIME));
+        original.getAllOtherAbilities(bears.getId());
+        Assert.assertSame(stateBeforeRead, original.getCardState(bears.getId()));
+
+        bears.getCountersForUpdate(original).addCounter(CounterType.TIME.createInstance(1));
+
+        // copy must not change source
+        CardState originalCardState = original.getCardState(bears.getId());
+        GameState copy = original.copy();
+        Assert.assertSame(originalCardState, original.getCardState(bears.getId()));
+
+        bears.getCounters(copy);
+        copy.getAllOtherAbilities(bears.getId());
+        Assert.assertSame("read only usage must not copy shared card state", originalCardState, copy.getCardState(bears.getId()));
+
+        // change copy
+        bears.getCountersForUpdate(copy).addCounter(CounterType.TIME.createInstance(2));
+        copy.addOtherAbility(bears, FlyingAbility.getInstance());
+        Assert.assertEquals(3, bears.getCounters(copy).getCount(CounterType.TIME));
+        Assert.assertEquals(1, bears.getCounters(original).getCount(CounterType.TIME));
+        Assert.assertFalse(original.getAllOtherAbilities(bears.getId()).contains(FlyingAbility.getInstance()));
+
+        // change original
+        bears.getCountersForUpdate(original).removeCounter(CounterType.TIME, 1);
+        original.addOtherAbility(bears, TrampleAbility.getInstance());
+        Assert.assertEquals(0, bears.getCounters(original).getCount(CounterType.TIME));
+        Assert.assertEquals(3, bears.getCounters(copy).getCount(CounterType.TIME));
+        Assert.assertFalse(copy.getAllOtherAbilities(bears.getId()).contains(TrampleAbility.getInstance()));
+    }
+}
@@ -0,0 +1,171 @@
+package org.mage.test.serverside;
+
+import mage.abilities.Abilities;
+import mage.abilities.AbilitiesImpl;
+import mage.abilities.Ability;
+import mage.abilities.AbilityRulesCache;
+import mage.abilities.ActivatedAbility;
+import mage.abilities.keyword.FlyingAbility;
+import mage.abilities.keyword.TrampleAbility;
+import mage.abilities.mana.ActivatedManaAbilityImpl;
+import mage.abilities.mana.RedManaAbility;
+import mage.cards.Card;
+import mage.constants.CardType;
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import mage.util.CacheStats;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.List;
+
+/**
+ * Cached abilities must be reused until source lists changed
+ */
+public class AbilitiesCacheTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_TypedViews() {
+        Abilities<Ability> abilities = new AbilitiesImpl<>(FlyingAbility.getInstance());
+        Abilities<ActivatedAbility> activated = abilities.getActivatedAbilities(Zone.BATTLEFIELD);
+        Assert.assertTrue(activated.isEmpty());
+        Assert.assertSame("must reuse unchanged view", activated, abilities.getActivatedAbilities(Zone.BATTLEFIELD));
+        Assert.assertEquals(1, abilities.getEvasionAbilities().size());
+
+        // other zone
+        Assert.assertNotSame(activated, abilities.getActivatedAbilities(Zone.HAND));
+
+        // source changes
+        abilities.add(TrampleAbility.getInstance());
+        Assert.assertEquals(2, abilities.getStaticAbilities(Zone.BATTLEFIELD).size());
+        abilities.remove(FlyingAbility.getInstance());
+        Assert.assertEquals(1, abilities.getStaticAbilities(Zone.BATTLEFIELD).size());
+        Assert.assertTrue(abilities.getEvasionAbilities().isEmpty());
+
+        // view changes by caller must be ignored
+        Abilities<Ability> all = new AbilitiesImpl<>(FlyingAbility.getInstance());
+        all.getStaticAbilities(Zone.ALL).clear();
+        Assert.assertEquals(1, all.getStaticAbilities(Zone.ALL).size());
+    }
+
+    @Test
+    public void test_ReplacedAbilities() {
+        // ArrayList doesn't count set as change, but views must be updated
+        Abilities<Ability> abilities = new AbilitiesImpl<>(FlyingAbility.getInstance());
+        Assert.assertEquals(1, abilities.getEvasionAbilities().size());
+        abilities.set(0, new RedManaAbility());
+        Assert.assertTrue(abilities.getEvasionAbilities().isEmpty());
+        Assert.assertEquals(1, abilities.getActivatedManaAbilities(Zone.BATTLEFIELD).size());
+
+        // replace in view by caller must be ignored
+        Abilities<ActivatedAbility> activated = abilities.getActivatedAbilities(Zone.BATTLEFIELD);
+        activated.set(0, null);
+        Assert.assertNotNull(abilities.getActivatedAbilities(Zone.BATTLEFIELD).get(0));
+        Assert.assertNotNull(abilities.getPlayableAbilities(Zone.BATTLEFIELD).get(0));
+    }
+
+    @Test
+    public void test_AvailableManaAbilities() {
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // available abilities depend on game's state, so callers get own list and can change it
+        Permanent elves = getPermanent("Llanowar Elves", playerA);
+        Abilities<ActivatedManaAbilityImpl> available = elves.getAbilities(currentGame)
+                .getAvailableActivatedManaAbilities(Zone.BATTLEFIELD, playerA.getId(), currentGame);
+        Assert.assertEquals(1, available.size());
+        available.clear();
+        Assert.assertEquals(1, elves.getAbilities(currentGame)
+                .getAvailableActivatedManaAbilities(Zone.BATTLEFIELD, playerA.getId(), currentGame).size());
+        Assert.assertEquals(1, elves.getAbilities(currentGame).getActivatedManaAbilities(Zone.BATTLEFIELD).size());
+    }
+
+    @Test
+    public void test_CardAbilities() {
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 1);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        // permanent
+        Permanent elves = getPermanent("Llanowar Elves", playerA);
+        Abilities<Ability> abilities = elves.getAbilities(currentGame);
+        Assert.assertSame("must reuse unchanged abilities", abilities, elves.getAbilities(currentGame));
+        Abilities<ActivatedManaAbilityImpl> mana = abilities.getActivatedManaAbilities(Zone.BATTLEFIELD);
+        Assert.assertEquals(1, mana.size());
+        Assert.assertSame(mana, elves.getAbilities(currentGame).getActivatedManaAbilities(Zone.BATTLEFIELD));
+
+        elves.addAbility(FlyingAbility.getInstance(), elves.getId(), currentGame);
+        Assert.assertTrue("must find gained ability", elves.hasAbility(FlyingAbility.getInstance(), currentGame));
+        Assert.assertNotSame(abilities, elves.getAbilities(currentGame));
+
+        elves.removeAllAbilities(elves.getId(), currentGame);
+        Assert.assertTrue("must find lost abilities", elves.getAbilities(currentGame).isEmpty());
+        Assert.assertTrue(elves.getAbilities(currentGame).getActivatedManaAbilities(Zone.BATTLEFIELD).isEmpty());
+
+        // card
+        Card bears = playerA.getHand().getCards(currentGame).stream()
+                .filter(card -> card.getName().equals("Grizzly Bears"))
+                .findFirst()
+                .orElse(null);
+        Assert.assertNotNull(bears);
+        abilities = bears.getAbilities(currentGame);
+        Assert.assertSame(abilities, bears.getAbilities(currentGame));
+        currentGame.getState().addOtherAbility(bears, FlyingAbility.getInstance());
+        Assert.assertTrue("must find ability from card's state", bears.hasAbility(FlyingAbility.getInstance(), currentGame));
+        bears.loseAllAbilities(currentGame);
+        Assert.assertTrue(bears.getAbilities(currentGame).isEmpty());
+    }
+
+    @Test
+    public void test_CardRules() {
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 2);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        CacheStats stats = CacheStats.get("abilities rules");
+        List<Permanent> elves = currentGame.getBattlefield().getAllActivePermanents(CardType.CREATURE, currentGame);
+        Assert.assertEquals(2, elves.size());
+        Permanent elf = elves.get(0);
+        List<String> rules = elf.getRules(currentGame);
+        Assert.assertTrue(rules.stream().anyMatch(rule -> rule.contains("Add {G}")));
+
+        // same abilities must reuse text (other cards of same class too)
+        long oldHits = stats.getHits();
+        long oldCardMisses = stats.getMisses();
+        Assert.assertEquals(rules, elf.getRules(currentGame));
+        Assert.assertEquals(rules, elves.get(1).getRules(currentGame));
+        Assert.assertTrue("must use cached rules", stats.getHits() > oldHits);
+        Assert.assertEquals("cards of same class must share cached rules", oldCardMisses, stats.getMisses());
+
+        // copies with new ids (e.g. copy effects or token copies) must share cached rules
+        Ability manaAbility = elf.getAbilities(currentGame).getActivatedManaAbilities(Zone.BATTLEFIELD).get(0);
+        Ability copiedAbility = manaAbility.copy();
+        copiedAbility.newOriginalId();
+        Assert.assertEquals(AbilityRulesCache.getRule(manaAbility), AbilityRulesCache.getRule(copiedAbility));
+        Assert.assertEquals("ability copies must share cached rules", oldCardMisses, stats.getMisses());
+
+        // gained and lost abilities
+        elf.addAbility(FlyingAbility.getInstance(), elf.getId(), currentGame);
+        Assert.assertTrue(elf.getRules(currentGame).stream().anyMatch(rule -> rule.equals("Flying")));
+        Assert.assertFalse(elves.get(1).getRules(currentGame).stream().anyMatch(rule -> rule.equals("Flying")));
+
+        // abilities created by effects must not use shared cache (new ability on each effects apply)
+        elf.getRules(currentGame);
+        long oldMisses = stats.getMisses();
+        for (int i = 0; i < 3; i++) {
+            elf.addAbility(new RedManaAbility(), elf.getId(), currentGame);
+            Assert.assertTrue(elf.getRules(currentGame).stream().anyMatch(rule -> rule.contains("Add {R}")));
+        }
+        Assert.assertEquals("runtime abilities must not be cached", oldMisses, stats.getMisses());
+
+        elf.removeAllAbilities(elf.getId(), currentGame);
+        Assert.assertFalse(elf.getRules(currentGame).stream().anyMatch(rule -> rule.contains("Add {G}")));
+    }
+}
@@ -0,0 +1,135 @@
+package org.mage.test.serverside;
+
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory cards catalog must return same data as db queries
+ */
+public class CardCatalogTest {
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+        CardRepository.instance.loadCatalog();
+    }
+
+    private <T> void assertSameAsDB(String info, Supplier<T> query) {
+        T dbResult = CardRepository.instance.queryDatabaseOnly(query);
+        T catalogResult = query.get();
+        Assert.assertEquals(info, dbResult, catalogResult);
+    }
+
+    private static String cardKeys(List<CardInfo> cards) {
+        return cards.stream()
+                .map(card -> card.getName() + " - " + card.getSetCode() + " - " + card.getCardNumber())
+                .collect(Collectors.joining(", "));
+    }
+
+    @Test
+    public void test_FindCards() {
+        List<String> names = Arrays.asList(
+                "Grizzly Bears", "Forest", "Unknown card name", "grizzly bears", "FIRE // ICE", // ignore case
+                "Fire // Ice", "Fire", "Ice", // split
+                "Bonecrusher Giant", "Stomp", "Bonecrusher Giant // Stomp", // adventure
+                "Delver of Secrets", "Insectile Aberration", // transform
+                "Valki, God of Lies", "Tibalt, Cosmic Impostor", // mdfc
+                "Budoka Gardener", "Dokai, Weaver of Life" // flip
+        );
+        for (String name : names) {
+            assertSameAsDB(name, () -> cardKeys(CardRepository.instance.findCards(name)));
+            assertSameAsDB(name + " (limit)", () -> cardKeys(CardRepository.instance.findCards(name, 2)));
+            assertSameAsDB(name + " (halves)", () -> cardKeys(CardRepository.instance.findCards(name, 0, true, true)));
+        }
+    }
+
+    @Test
+    public void test_FindCardBySetAndNumber() {
+        for (CardInfo card : CardRepository.instance.findCards("Delver of Secrets")) {
+            assertSameAsDB(card.getSetCode(), () -> cardKeys(Arrays.asList(
+                    CardRepository.instance.findCard(card.getSetCode(), card.getCardNumber()),
+                    CardRepository.instance.findCard(card.getSetCode(), card.getCardNumber(), false)
+            )));
+        }
+        assertSameAsDB("ignore case", () -> CardRepository.instance.findCard("dom", "1"));
+        assertSameAsDB("unknown", () -> CardRepository.instance.findCard("UNKNOWN", "1"));
+    }
+
+    @Test
+    public void test_Names() {
+        List<Supplier<Set<String>>> queries = Arrays.asList(
+                CardRepository.instance::getNames,
+                CardRepository.instance::getNonLandNames,
+                CardRepository.instance::getNonbasicLandNames,
+                CardRepository.instance::getNotBasicLandNames,
+                CardRepository.instance::getCreatureNames,
+                CardRepository.instance::getArtifactNames,
+                CardRepository.instance::getNonLandAndNonCreatureNames,
+                CardRepository.instance::getNonArtifactAndNonLandNames
+        );
+        for (int i = 0; i < queries.size(); i++) {
+            Supplier<Set<String>> query = queries.get(i);
+            assertSameAsDB("names query " + i, query);
+        }
+    }
+
+    @Test
+    public void test_NamesMustBeReadOnly() {
+        // names are shared by all callers
+        Set<String> names = CardRepository.instance.getCreatureNames();
+        Assert.assertTrue(names.contains("Grizzly Bears"));
+        try {
+            names.remove("Grizzly Bears");
+            Assert.fail("names must be read only");
+        } catch (UnsupportedOperationException ignore) {
+        }
+        Assert.assertTrue(CardRepository.instance.getCreatureNames().contains("Grizzly Bears"));
+    }
+
+    @Test
+    public void test_FindCardsByCriteria() {
+        // db's rows order depends on used indexes, so compare sorted results
+        List<Supplier<CardCriteria>> criterias = Arrays.asList(
+                () -> new CardCriteria().nameContains("bear"),
+                () -> new CardCriteria().nameContains("Li"),
+                () -> new CardCriteria().nameContains("unknown card name"),
+                () -> new CardCriteria().name("grizzly bears"),
+                () -> new CardCriteria().rules("draw a card").types(CardType.INSTANT).rarities(Rarity.COMMON),
+                () -> new CardCriteria().rules("%"), // db wildcards
+                () -> new CardCriteria().setCodes("M10", "lea").types(CardType.CREATURE, CardType.ARTIFACT),
+                () -> new CardCriteria().setCodes("M21").minCardNumber(10).maxCardNumber(50),
+                () -> new CardCriteria().types(CardType.LAND).supertypes(SuperType.BASIC).ignoreSetsWithSnowLands(),
+                () -> new CardCriteria().notTypes(CardType.LAND, CardType.CREATURE).notSupertypes(SuperType.LEGENDARY).manaValue(3),
+                () -> new CardCriteria().subtypes(SubType.ELF, SubType.WARRIOR).nightCard(null),
+                () -> new CardCriteria().types(CardType.PLANESWALKER).black(false).blue(false).green(false).white(false),
+                () -> new CardCriteria().colorless(true).black(false).blue(false).green(false).red(false).white(false).variousArt(true),
+                () -> new CardCriteria().doubleFaced(true).nightCard(true)
+        );
+        for (int i = 0; i < criterias.size(); i++) {
+            Supplier<CardCriteria> criteria = criterias.get(i);
+            assertSameAsDB("criteria " + i, () -> {
+                List<CardInfo> cards = CardRepository.instance.findCards(criteria.get());
+                return cards.stream()
+                        .map(card -> card.getName() + " - " + card.getSetCode() + " - " + card.getCardNumber())
+                        .sorted()
+                        .collect(Collectors.toList());
+            });
+        }
+        assertSameAsDB("limit", () -> CardRepository.instance.findCards(new CardCriteria().setCodes("M21").count(5L)).size());
+    }
+}
@@ -0,0 +1,93 @@
+package org.mage.test.serverside;
+
+import mage.abilities.Ability;
+import mage.cards.Card;
+import mage.cards.CardPrototypeCache;
+import mage.cards.repository.CardInfo;
+import mage.cards.repository.CardRepository;
+import mage.cards.repository.CardScanner;
+import mage.util.CacheStats;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Cards from prototypes must be same as new cards, but with own ids
+ */
+public class CardPrototypeCacheTest {
+
+    @Before
+    public void setUp() {
+        CardScanner.scan();
+        CardPrototypeCache.clear();
+    }
+
+    private void assertUniqueIds(Card card, Set<UUID> usedIds) {
+        Assert.assertTrue("card must have new id", usedIds.add(card.getId()));
+        for (Ability ability : card.getAbilities()) {
+            Assert.assertTrue("ability must have new id: " + ability, usedIds.add(ability.getId()));
+            Assert.assertEquals(ability.getId(), ability.getOriginalId());
+            Assert.assertEquals("ability must use card's id as source: " + ability, card.getId(), ability.getSourceId());
+        }
+    }
+
+    @Test
+    public void test_SimpleCards() {
+        CacheStats stats = CacheStats.get("card prototypes");
+        long oldHits = stats.getHits();
+
+        Set<UUID> usedIds = new HashSet<>();
+        List<String> cardNames = Arrays.asList("Grizzly Bears", "Lightning Bolt", "Forest", "Sol Ring", "Llanowar Elves");
+        for (String cardName : cardNames) {
+            CardInfo cardInfo = CardRepository.instance.findCard(cardName);
+            Assert.assertNotNull(cardName, cardInfo);
+            Card firstCard = cardInfo.createCard();
+            assertUniqueIds(firstCard, usedIds);
+            for (int i = 0; i < 3; i++) {
+                Card card = cardInfo.createCard();
+                Assert.assertNotSame(firstCard, card);
+                Assert.assertEquals(firstCard.getName(), card.getName());
+                Assert.assertEquals(firstCard.getExpansionSetCode(), card.getExpansionSetCode());
+                Assert.assertEquals(firstCard.getCardNumber(), card.getCardNumber());
+                Assert.assertEquals(firstCard.getAbilities().size(), card.getAbilities().size());
+                Assert.assertEquals(firstCard.getRules(), card.getRules());
+                assertUniqueIds(card, usedIds);
+            }
+        }
+        Assert.assertEquals("must use prototypes", oldHits + 3 * cardNames.size(), stats.getHits());
+    }
+
+    @Test
+    public void test_UnsupportedCardsUseConstructor() {
+        CacheStats stats = CacheStats.get("card prototypes");
+        long oldHits = stats.getHits();
+
+        // transform
+        CardInfo cardInfo = CardRepository.instance.findCard("Delver of Secrets");
+        Assert.assertNotNull(cardInfo);
+        Card card1 = cardInfo.createCard();
+        Card card2 = cardInfo.createCard();
+        Assert.assertNotEquals(card1.getId(), card2.getId());
+        Assert.assertNotEquals(card1.getSecondCardFace().getId(), card2.getSecondCardFace().getId());
+
+        // split
+        cardInfo = CardRepository.instance.findCard("Fire // Ice");
+        Assert.assertNotNull(cardInfo);
+        Assert.assertNotEquals(cardInfo.createCard().getId(), cardInfo.createCard().getId());
+
+        // linked abilities (foretell keeps card, madness keeps ability's id)
+        for (String cardName : Arrays.asList("Behold the Multiverse", "Fiery Temper")) {
+            cardInfo = CardRepository.instance.findCard(cardName);
+            Assert.assertNotNull(cardName, cardInfo);
+            Assert.assertNotEquals(cardInfo.createCard().getId(), cardInfo.createCard().getId());
+        }
+
+        Assert.assertEquals("multi part cards and linked abilities must not use prototypes", oldHits, stats.getHits());
+    }
+}
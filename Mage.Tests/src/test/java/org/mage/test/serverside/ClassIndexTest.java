@@ -0,0 +1,48 @@
+package org.mage.test.serverside;
+
+import mage.cards.ExpansionSet;
+import mage.util.ClassIndex;
+import mage.util.ClassScanner;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Build time sets index must be same as full classpath scan
+ */
+public class ClassIndexTest {
+
+    @Test
+    public void test_SetsIndexSameAsScan() {
+        List<String> packages = Collections.singletonList("mage.sets");
+        List<Class> indexed = ClassIndex.findClasses(null, packages, ExpansionSet.class);
+        Assert.assertNotNull("sets index must be generated by Mage.Sets build", indexed);
+
+        Set<String> indexedNames = indexed.stream().map(Class::getName).collect(Collectors.toCollection(TreeSet::new));
+        Set<String> scannedNames = ClassScanner.findClasses(null, packages, ExpansionSet.class)
+                .stream()
+                .map(Class::getName)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Assert.assertFalse(scannedNames.isEmpty());
+        Assert.assertEquals(scannedNames, indexedNames);
+    }
+
+    @Test
+    public void test_SetsIndexContentHash() {
+        // cards scanner uses it to skip db updates on startup
+        Long hash = ClassIndex.findContentHash(null, ExpansionSet.class);
+        Assert.assertNotNull("sets index must contain sources hash", hash);
+        Assert.assertEquals(hash, ClassIndex.findContentHash(null, ExpansionSet.class));
+    }
+
+    @Test
+    public void test_UnknownIndex() {
+        Assert.assertNull(ClassIndex.findClasses(null, Collections.emptyList(), ClassIndexTest.class));
+        Assert.assertNull(ClassIndex.findContentHash(null, ClassIndexTest.class));
+    }
+}
@@ -1,12 +1,22 @@
 package org.mage.test.serverside;
 
+import mage.cards.repository.CardCriteria;
+import mage.cards.repository.CardInfo;
 import mage.cards.repository.CardRepository;
+import mage.constants.CardType;
 import mage.constants.PhaseStep;
+import mage.constants.Rarity;
+import mage.constants.SuperType;
 import mage.constants.Zone;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBaseWithAIHelps;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
 /**
  * @author JayDi85
  */
@@ -59,4 +69,32 @@ public class DatabaseBigQueryPerformanceTest extends CardTestPlayerBaseWithAIHel
         setStopAt(1, PhaseStep.END_TURN);
         execute();
     }
+
+    @Test
+    public void test_CardSearch_DBvsIndex() {
+        // deck editor's search and random pools must find same cards by in-memory search index as by db queries
+        // (performance comparison in CardRepositoryBenchmark)
+        List<Supplier<CardCriteria>> searches = Arrays.asList(
+                () -> new CardCriteria().nameContains("drag"),
+                () -> new CardCriteria().rules("destroy target creature").rarities(Rarity.COMMON, Rarity.UNCOMMON),
+                () -> new CardCriteria().types(CardType.LAND).notSupertypes(SuperType.BASIC).setCodes("M21"),
+                () -> new CardCriteria().setCodes("M21", "KHM").black(false).blue(false)
+        );
+        CardRepository.instance.loadCatalog();
+
+        for (int i = 0; i < searches.size(); i++) {
+            Supplier<CardCriteria> search = searches.get(i);
+            List<String> dbCards = getSortedCards(CardRepository.instance.findCardsInDatabase(search.get()));
+            List<String> indexCards = getSortedCards(CardRepository.instance.findCards(search.get()));
+            Assert.assertEquals("must find same cards, search " + i, dbCards, indexCards);
+        }
+    }
+
+    private static List<String> getSortedCards(List<CardInfo> cards) {
+        // db's rows order depends on used indexes
+        return cards.stream()
+                .map(card -> card.getName() + " - " + card.getSetCode() + " - " + card.getCardNumber())
+                .sorted()
+                .collect(Collectors.toList());
+    }
 }
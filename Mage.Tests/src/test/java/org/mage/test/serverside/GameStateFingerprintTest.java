@@ -0,0 +1,148 @@
+package org.mage.test.serverside;
+
+import mage.ObjectColor;
+import mage.abilities.keyword.ProtectionAbility;
+import mage.cards.Card;
+import mage.constants.PhaseStep;
+import mage.constants.SubType;
+import mage.constants.Zone;
+import mage.counters.CounterType;
+import mage.game.Game;
+import mage.game.GameState;
+import mage.game.permanent.Permanent;
+import mage.util.Fingerprint;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * AI uses game state fingerprints to find same states, so it must be same for copies and must be changed by any
+ * visible game changes
+ */
+public class GameStateFingerprintTest extends CardTestPlayerBase {
+
+    private void prepareGame() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerB, "Balduvian Bears", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+        addCard(Zone.HAND, playerB, "Shock", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+    }
+
+    private void assertFingerprintsChanged(String info, long[] before) {
+        long[] after = getFingerprints(currentGame);
+        for (int i = 0; i < before.length; i++) {
+            Assert.assertNotEquals(info + " must change fingerprint " + i, before[i], after[i]);
+        }
+    }
+
+    private long[] getFingerprints(Game game) {
+        GameState state = game.getState();
+        return new long[]{
+                state.getFingerprint(true),
+                state.getFingerprint(false),
+                state.getFingerprint(true, game),
+                state.getFingerprint(game, playerA.getId())
+        };
+    }
+
+    @Test
+    public void test_SameForCopies() {
+        prepareGame();
+
+        long[] before = getFingerprints(currentGame);
+        Assert.assertArrayEquals(before, getFingerprints(currentGame));
+        Game copy = currentGame.copy();
+        Assert.assertArrayEquals("game copy must have same fingerprints", before, getFingerprints(copy));
+
+        // changes in copy must not affect original
+        copy.getPermanent(getPermanent("Grizzly Bears", playerA).getId()).setTapped(true);
+        Assert.assertArrayEquals(before, getFingerprints(currentGame));
+        Assert.assertNotEquals(before[0], copy.getState().getFingerprint(true));
+    }
+
+    @Test
+    public void test_ChangedByVisibleData() {
+        prepareGame();
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+
+        long[] before = getFingerprints(currentGame);
+        bears.setTapped(true);
+        assertFingerprintsChanged("tap", before);
+
+        before = getFingerprints(currentGame);
+        bears.addCounters(CounterType.P1P1.createInstance(), playerA.getId(), null, currentGame);
+        assertFingerprintsChanged("counters", before);
+
+        before = getFingerprints(currentGame);
+        bears.damage(1, playerB.getId(), null, currentGame);
+        assertFingerprintsChanged("damage", before);
+
+        before = getFingerprints(currentGame);
+        currentGame.getPlayer(playerB.getId()).setLife(10, currentGame, null);
+        assertFingerprintsChanged("life", before);
+
+        before = getFingerprints(currentGame);
+        bears.moveToZone(Zone.GRAVEYARD, null, currentGame, false);
+        assertFingerprintsChanged("zone change", before);
+    }
+
+    @Test
+    public void test_SameAbilityClassWithDiffParams() {
+        prepareGame();
+        UUID bearsId = getPermanent("Grizzly Bears", playerA).getId();
+
+        Game gameRed = currentGame.copy();
+        gameRed.getPermanent(bearsId).addAbility(ProtectionAbility.from(ObjectColor.RED), null, gameRed);
+        Game gameBlue = currentGame.copy();
+        gameBlue.getPermanent(bearsId).addAbility(ProtectionAbility.from(ObjectColor.BLUE), null, gameBlue);
+
+        Assert.assertNotEquals("gained abilities must be compared by params too",
+                gameRed.getState().getFingerprint(true), gameBlue.getState().getFingerprint(true));
+        Assert.assertNotEquals(getFingerprints(currentGame)[0], gameRed.getState().getFingerprint(true));
+    }
+
+    @Test
+    public void test_HiddenInfo() {
+        prepareGame();
+        GameState state = currentGame.getState();
+
+        // opponent's hand changed to another card with same size
+        long fullBefore = state.getFingerprint(true);
+        long openBefore = state.getFingerprint(false);
+        long fullNamesBefore = state.getFingerprint(true, currentGame);
+        long playerBefore = state.getFingerprint(currentGame, playerA.getId());
+
+        Card shock = currentGame.getPlayer(playerB.getId()).getHand().getCards(currentGame).iterator().next();
+        Card library = currentGame.getPlayer(playerB.getId()).getLibrary().getFromTop(currentGame);
+        Assert.assertNotEquals("library must have another card", shock.getName(), library.getName());
+        currentGame.getPlayer(playerB.getId()).getHand().remove(shock);
+        currentGame.getPlayer(playerB.getId()).getHand().add(library);
+
+        Assert.assertNotEquals("full fingerprint must see opponent's hand", fullBefore, state.getFingerprint(true));
+        Assert.assertNotEquals("full fingerprint must see opponent's hand", fullNamesBefore, state.getFingerprint(true, currentGame));
+        Assert.assertEquals("open fingerprint must ignore hands", openBefore, state.getFingerprint(false));
+        Assert.assertEquals("player's fingerprint must ignore opponent's hand", playerBefore, state.getFingerprint(currentGame, playerA.getId()));
+    }
+
+    @Test
+    public void test_SameForAnyJvmRun() {
+        // enums and lists must be hashed by content, not by identity hash code (it's different in each jvm run)
+        long start = Fingerprint.start();
+        Assert.assertEquals(Fingerprint.add(start, PhaseStep.UPKEEP.ordinal() + 1), Fingerprint.add(start, PhaseStep.UPKEEP));
+        Assert.assertEquals(Fingerprint.add(start, 0), Fingerprint.add(start, (PhaseStep) null));
+        Assert.assertEquals(Fingerprint.add(start, "Grizzly Bears".hashCode()), Fingerprint.add(start, "Grizzly Bears"));
+
+        long subtypes = Fingerprint.add(start, 2);
+        subtypes = Fingerprint.add(subtypes, SubType.BEAR);
+        subtypes = Fingerprint.add(subtypes, SubType.ELF);
+        Assert.assertEquals(subtypes, Fingerprint.addEnums(start, Arrays.asList(SubType.BEAR, SubType.ELF)));
+        Assert.assertNotEquals(subtypes, Fingerprint.addEnums(start, Arrays.asList(SubType.ELF, SubType.BEAR)));
+    }
+}
@@ -0,0 +1,131 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.permanent.Permanent;
+import mage.utils.CompressUtil;
+import mage.view.GameView;
+import mage.view.GameViewDeltaDecoder;
+import mage.view.GameViewDeltaEncoder;
+import mage.view.PermanentView;
+import mage.view.PlayerView;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Network: game view updates can be sent as delta (unchanged cards restored on client side)
+ */
+public class GameViewDeltaTest extends CardTestPlayerBase {
+
+    private GameView sendToClient(GameView gameView) {
+        // emulate network transfer, so client gets own objects
+        return (GameView) CompressUtil.decompress(CompressUtil.compress(gameView));
+    }
+
+    private Map<UUID, PermanentView> getBattlefield(GameView gameView, String playerName) {
+        for (PlayerView player : gameView.getPlayers()) {
+            if (player.getName().equals(playerName)) {
+                return player.getBattlefield();
+            }
+        }
+        Assert.fail("Can't find player " + playerName);
+        return null;
+    }
+
+    private long getEmptyCardsCount(Map<UUID, PermanentView> cards) {
+        return cards.values().stream().filter(card -> card == null).count();
+    }
+
+    @Test
+    public void test_DeltaMustRestoreUnchangedCards() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 3);
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.BATTLEFIELD, playerB, "Island", 2);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDeltaEncoder encoder = new GameViewDeltaEncoder();
+        GameViewDeltaDecoder decoder = new GameViewDeltaDecoder();
+
+        // full view
+        GameView clientView = sendToClient(encoder.encodeFull(getGameView(playerA)));
+        Assert.assertEquals(0, clientView.getDeltaBaseVersion());
+        Assert.assertEquals(0, getEmptyCardsCount(getBattlefield(clientView, "PlayerA")));
+        Assert.assertTrue(decoder.decode(clientView));
+        Assert.assertEquals(4, getBattlefield(clientView, "PlayerA").size());
+
+        // delta without changes
+        clientView = sendToClient(encoder.encodeDelta(getGameView(playerA)));
+        Assert.assertEquals(clientView.getDeltaVersion() - 1, clientView.getDeltaBaseVersion());
+        Assert.assertEquals(4, getEmptyCardsCount(getBattlefield(clientView, "PlayerA")));
+        Assert.assertEquals(2, getEmptyCardsCount(getBattlefield(clientView, "PlayerB")));
+        Assert.assertNull(clientView.getMyHand().values().iterator().next());
+        Assert.assertTrue(decoder.decode(clientView));
+        Assert.assertEquals(0, getEmptyCardsCount(getBattlefield(clientView, "PlayerA")));
+        Assert.assertEquals(0, getEmptyCardsCount(getBattlefield(clientView, "PlayerB")));
+        Assert.assertEquals("Lightning Bolt", clientView.getMyHand().values().stream().findFirst().get().getName());
+
+        // delta with changed card
+        Permanent bears = getPermanent("Grizzly Bears", playerA);
+        bears.tap(null, currentGame);
+        clientView = sendToClient(encoder.encodeDelta(getGameView(playerA)));
+        Map<UUID, PermanentView> battlefield = getBattlefield(clientView, "PlayerA");
+        Assert.assertEquals(3, getEmptyCardsCount(battlefield));
+        Assert.assertNotNull(battlefield.get(bears.getId()));
+        Assert.assertTrue(battlefield.get(bears.getId()).isTapped());
+        Assert.assertTrue(decoder.decode(clientView));
+        Assert.assertEquals(0, getEmptyCardsCount(battlefield));
+        Assert.assertEquals(3, battlefield.values().stream().filter(card -> card.getName().equals("Forest")).count());
+    }
+
+    @Test
+    public void test_DeltaWithUnknownBaseMustBeIgnored() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDeltaEncoder encoder = new GameViewDeltaEncoder();
+        encoder.encodeFull(getGameView(playerA));
+        GameView deltaView = sendToClient(encoder.encodeDelta(getGameView(playerA)));
+
+        // client without the base view (e.g. lost or ignored update)
+        Assert.assertFalse(new GameViewDeltaDecoder().decode(deltaView));
+
+        // full view must resync client
+        GameViewDeltaDecoder decoder = new GameViewDeltaDecoder();
+        Assert.assertTrue(decoder.decode(sendToClient(encoder.encodeFull(getGameView(playerA)))));
+        Assert.assertTrue(decoder.decode(sendToClient(encoder.encodeDelta(getGameView(playerA)))));
+    }
+
+    @Test
+    public void test_DeltaAfterLostViewMustBeFull() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        GameViewDeltaEncoder encoder = new GameViewDeltaEncoder();
+        GameViewDeltaDecoder decoder = new GameViewDeltaDecoder();
+        Assert.assertTrue(decoder.decode(sendToClient(encoder.encodeFull(getGameView(playerA)))));
+
+        // server can't send the view (e.g. dropped callback), so it resets the encoder
+        encoder.encodeDelta(getGameView(playerA));
+        encoder.reset();
+
+        GameView clientView = sendToClient(encoder.encodeDelta(getGameView(playerA)));
+        Assert.assertEquals("view after reset must be full", 0, clientView.getDeltaBaseVersion());
+        Assert.assertEquals(0, getEmptyCardsCount(getBattlefield(clientView, "PlayerA")));
+        Assert.assertTrue(decoder.decode(clientView));
+        Assert.assertTrue(decoder.decode(sendToClient(encoder.encodeDelta(getGameView(playerA)))));
+    }
+}
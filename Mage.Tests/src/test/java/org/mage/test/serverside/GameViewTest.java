@@ -3,7 +3,11 @@ package org.mage.test.serverside;
 import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.game.Game;
+import mage.server.game.GameViewCache;
+import mage.utils.CompressUtil;
 import mage.view.GameView;
+import mage.view.GameViewDeltaDecoder;
+import mage.view.GameViewDeltaEncoder;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mage.test.serverside.base.CardTestPlayerBase;
@@ -78,4 +82,53 @@ public class GameViewTest extends CardTestPlayerBase {
         gameView = getGameView(null, userWatcher);
         Assert.assertEquals(1, gameView.getWatchedHands().size());
     }
+
+    @Test
+    public void test_GameViewCacheMustShareWatcherView() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.HAND, playerA, "Forest", 1);
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        // personal views must be independent
+        GameViewDeltaEncoder watchersEncoder = new GameViewDeltaEncoder();
+        GameViewCache gameViewCache = new GameViewCache(currentGame, watchersEncoder);
+        GameView view1 = gameViewCache.getWatcherView();
+        GameView view2 = gameViewCache.getWatcherView();
+        Assert.assertNotSame(view1, view2);
+        view1.getWatchedHands().put("test", null);
+        Assert.assertEquals(0, view2.getWatchedHands().size());
+
+        // first update: full view for all watchers
+        Object data = gameViewCache.getWatchersViewData(0);
+        Assert.assertSame("watchers must share same data", data, gameViewCache.getWatchersViewData(0));
+        int version = gameViewCache.getWatchersVersion();
+        GameViewDeltaDecoder oldWatcher = new GameViewDeltaDecoder();
+        Assert.assertTrue(oldWatcher.decode((GameView) CompressUtil.decompress(data)));
+
+        // next update: delta for watchers with the last view, full view for others
+        gameViewCache = new GameViewCache(currentGame, watchersEncoder);
+        Object deltaData = gameViewCache.getWatchersViewData(version);
+        Object fullData = gameViewCache.getWatchersViewData(0);
+        Assert.assertNotSame(deltaData, fullData);
+        Assert.assertSame(deltaData, gameViewCache.getWatchersViewData(version));
+        Assert.assertSame(fullData, gameViewCache.getWatchersViewData(version - 1));
+
+        GameView deltaView = (GameView) CompressUtil.decompress(deltaData);
+        Assert.assertTrue(oldWatcher.decode(deltaView));
+        GameViewDeltaDecoder newWatcher = new GameViewDeltaDecoder();
+        GameView fullView = (GameView) CompressUtil.decompress(fullData);
+        Assert.assertTrue(newWatcher.decode(fullView));
+        Assert.assertEquals(deltaView.getPlayers().get(0).getBattlefield().keySet(), fullView.getPlayers().get(0).getBattlefield().keySet());
+        Assert.assertNotNull(deltaView.getPlayers().get(0).getBattlefield().values().iterator().next());
+
+        // both watchers must accept next delta
+        int nextVersion = gameViewCache.getWatchersVersion();
+        gameViewCache = new GameViewCache(currentGame, watchersEncoder);
+        deltaData = gameViewCache.getWatchersViewData(nextVersion);
+        Assert.assertTrue(oldWatcher.decode((GameView) CompressUtil.decompress(deltaData)));
+        Assert.assertTrue(newWatcher.decode((GameView) CompressUtil.decompress(deltaData)));
+    }
 }
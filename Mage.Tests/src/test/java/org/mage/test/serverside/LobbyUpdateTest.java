@@ -0,0 +1,102 @@
+package org.mage.test.serverside;
+
+import mage.constants.TableState;
+import mage.game.FreeForAllMatch;
+import mage.game.Table;
+import mage.game.match.MatchOptions;
+import mage.players.PlayerType;
+import mage.server.game.GamesRoomLobby;
+import mage.server.game.LobbyChanges;
+import mage.view.LobbyUpdateView;
+import mage.view.TableView;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Server's lobby must send only changed rows to the clients
+ */
+public class LobbyUpdateTest {
+
+    private Table createTable(String name) {
+        MatchOptions options = new MatchOptions(name, "test game type", true);
+        return new Table(null, "test game type", name, "test", null,
+                Arrays.asList(PlayerType.HUMAN, PlayerType.HUMAN), table -> {},
+                new FreeForAllMatch(options), new HashSet<>(), false);
+    }
+
+    @Test
+    public void test_ChangesOnly() {
+        GamesRoomLobby lobby = new GamesRoomLobby();
+        Table table1 = createTable("table 1");
+        Table table2 = createTable("table 2");
+
+        // new client
+        lobby.update(Arrays.asList(table1, table2));
+        LobbyUpdateView update = lobby.getUpdate(0);
+        Assert.assertTrue(update.isFullUpdate());
+        Assert.assertEquals(2, update.getChangedTables().size());
+        Assert.assertEquals(0, update.getChangedMatches().size());
+        long version = update.getVersion();
+
+        // unchanged lobby
+        List<TableView> views = lobby.getTables();
+        lobby.update(Arrays.asList(table1, table2));
+        Assert.assertSame("unchanged lobby must keep old views", views, lobby.getTables());
+        Assert.assertEquals(version, lobby.getVersion());
+        Assert.assertNull("unchanged lobby must not send data", lobby.getUpdate(version));
+
+        // changed table
+        table1.setState(TableState.READY_TO_START);
+        lobby.update(Arrays.asList(table1, table2));
+        update = lobby.getUpdate(version);
+        Assert.assertFalse(update.isFullUpdate());
+        Assert.assertEquals(1, update.getChangedTables().size());
+        Assert.assertEquals(table1.getId(), update.getChangedTables().get(0).getTableId());
+        Assert.assertSame("unchanged table must keep old view", views.get(1), lobby.getTables().get(1));
+        version = update.getVersion();
+
+        // finished table moves to matches
+        table2.setState(TableState.FINISHED);
+        lobby.update(Arrays.asList(table1, table2));
+        update = lobby.getUpdate(version);
+        Assert.assertEquals(0, update.getChangedTables().size());
+        Assert.assertEquals(Collections.singletonList(table2.getId()), update.getRemovedTables());
+        Assert.assertEquals(1, update.getChangedMatches().size());
+        Assert.assertEquals(table2.getId(), update.getChangedMatches().get(0).getTableId());
+        version = update.getVersion();
+
+        // removed tables
+        lobby.update(Collections.singletonList(table2));
+        update = lobby.getUpdate(version);
+        Assert.assertEquals(Collections.singletonList(table1.getId()), update.getRemovedTables());
+        Assert.assertEquals(0, update.getChangedMatches().size());
+        Assert.assertEquals(0, lobby.getTables().size());
+        Assert.assertEquals(1, lobby.getMatches().size());
+
+        // unknown version (e.g. client from old server's instance)
+        update = lobby.getUpdate(1);
+        Assert.assertTrue(update.isFullUpdate());
+        Assert.assertEquals(1, update.getChangedMatches().size());
+    }
+
+    @Test
+    public void test_ChangesVersions() {
+        // lobby's refresh skips update on same versions, so any change must increase it
+        long tablesVersion = LobbyChanges.getTablesVersion();
+        long usersVersion = LobbyChanges.getUsersVersion();
+
+        LobbyChanges.tableChanged();
+        Assert.assertNotEquals(tablesVersion, LobbyChanges.getTablesVersion());
+        Assert.assertEquals("table's change must not change users", usersVersion, LobbyChanges.getUsersVersion());
+        tablesVersion = LobbyChanges.getTablesVersion();
+
+        LobbyChanges.userChanged();
+        Assert.assertNotEquals(usersVersion, LobbyChanges.getUsersVersion());
+        Assert.assertEquals("user's change must not change tables", tablesVersion, LobbyChanges.getTablesVersion());
+    }
+}
@@ -0,0 +1,152 @@
+package org.mage.test.serverside;
+
+import mage.MageException;
+import mage.interfaces.MageServer;
+import mage.interfaces.callback.ClientCallback;
+import mage.interfaces.callback.ClientCallbackMethod;
+import mage.remote.MageVersionException;
+import mage.remote.nio.NioClient;
+import mage.remote.nio.NioFrames;
+import mage.server.Main;
+import mage.server.MageServerImpl;
+import mage.server.MainManagerFactory;
+import mage.server.NioServer;
+import mage.server.Session;
+import mage.server.managers.ManagerFactory;
+import mage.server.util.ConfigFactory;
+import mage.server.util.ConfigWrapper;
+import mage.utils.MageVersion;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.net.Proxy;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nio transport must support same server commands and callbacks as jboss transport
+ */
+public class NioTransportTest {
+
+    private static ManagerFactory managerFactory;
+    private static NioServer server;
+
+    private final BlockingQueue<ClientCallback> callbacks = new LinkedBlockingQueue<>();
+    private final BlockingQueue<Throwable> connectionErrors = new LinkedBlockingQueue<>();
+
+    @BeforeClass
+    public static void startServer() throws Exception {
+        managerFactory = new MainManagerFactory(new ConfigWrapper(ConfigFactory.loadFromFile("config/config.xml")));
+        server = new NioServer(managerFactory, new MageServerImpl(managerFactory, "", true, false), 60 * 1000);
+        server.start("localhost", 0);
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        server.stop();
+    }
+
+    private NioClient connect(NioServer server) throws Exception {
+        NioClient client = new NioClient(new NioClient.Listener() {
+            @Override
+            public void onCallback(ClientCallback callback) {
+                callbacks.add(callback);
+            }
+
+            @Override
+            public void onConnectionLost(Throwable error) {
+                connectionErrors.add(error);
+            }
+        }, 1000, 1000);
+        client.connect("localhost", server.getPort(), Proxy.NO_PROXY);
+        return client;
+    }
+
+    private void waitSessionRemoved(String sessionId) throws InterruptedException {
+        for (int i = 0; i < 50 && managerFactory.sessionManager().getSession(sessionId).isPresent(); i++) {
+            Thread.sleep(100);
+        }
+        Assert.assertFalse("session must be removed on disconnect", managerFactory.sessionManager().getSession(sessionId).isPresent());
+    }
+
+    @Test
+    public void test_CommandsAndCallbacks() throws Exception {
+        NioClient client = connect(server);
+        String sessionId = client.getSessionId();
+        Assert.assertNotNull(sessionId);
+        Session session = managerFactory.sessionManager().getSession(sessionId).orElse(null);
+        Assert.assertNotNull("server must create session on connect", session);
+        Assert.assertNotNull(session.getHost());
+
+        // commands
+        MageServer mageServer = client.getServer();
+        Assert.assertTrue(mageServer.connectUser("nio_test", "", sessionId, "", Main.getVersion(), ""));
+        Assert.assertTrue(mageServer.ping(sessionId, "test"));
+        Assert.assertNotNull(mageServer.serverGetMainRoomId());
+
+        // server side errors
+        try {
+            mageServer.connectUser("nio_test", "", sessionId, "", new MageVersion(0, 0, 0, "V1", NioTransportTest.class), "");
+            Assert.fail("must throw server side error");
+        } catch (MageException e) {
+            Assert.assertTrue("must keep original error type", e instanceof MageVersionException);
+        }
+
+        // callbacks in same order
+        callbacks.clear();
+        for (int i = 0; i < 100; i++) {
+            List<String> data = Arrays.asList("title", "message " + i);
+            session.fireCallback(new ClientCallback(ClientCallbackMethod.SHOW_USERMESSAGE, null, data));
+        }
+        int lastMessageId = 0;
+        for (int i = 0; i < 100; i++) {
+            ClientCallback callback = callbacks.poll(10, TimeUnit.SECONDS);
+            Assert.assertNotNull("must receive all callbacks", callback);
+            Assert.assertTrue("callbacks must come in same order", callback.getMessageId() > lastMessageId);
+            lastMessageId = callback.getMessageId();
+        }
+
+        client.disconnect(false);
+        Assert.assertFalse(client.isConnected());
+        waitSessionRemoved(sessionId);
+        Assert.assertTrue("normal disconnect is not a connection error", connectionErrors.isEmpty());
+    }
+
+    @Test
+    public void test_BigFrameBeforeConnect() throws Exception {
+        // not connected clients can't send big frames (server must not allocate memory by frame's header)
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            socket.setSoTimeout(10 * 1000);
+            DataOutputStream output = new DataOutputStream(socket.getOutputStream());
+            output.writeInt(NioFrames.MAX_HANDSHAKE_FRAME_SIZE + 1);
+            output.write(new byte[1024]);
+            output.flush();
+            try {
+                Assert.assertEquals("server must close connection", -1, socket.getInputStream().read());
+            } catch (SocketException e) {
+                // closed with unread data (connection reset)
+            }
+        }
+    }
+
+    @Test
+    public void test_LostConnection() throws Exception {
+        NioServer otherServer = new NioServer(managerFactory, new MageServerImpl(managerFactory, "", true, false), 60 * 1000);
+        otherServer.start("localhost", 0);
+        NioClient client = connect(otherServer);
+        Assert.assertTrue(managerFactory.sessionManager().getSession(client.getSessionId()).isPresent());
+
+        // server side problems must be visible on client side
+        otherServer.stop();
+        Assert.assertNotNull("client must find lost connection", connectionErrors.poll(10, TimeUnit.SECONDS));
+        Assert.assertFalse(client.isConnected());
+    }
+}
@@ -0,0 +1,66 @@
+package org.mage.test.serverside;
+
+import mage.constants.PhaseStep;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.players.PlayableObjectsList;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mage.test.serverside.base.CardTestPlayerBase;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Playable calculation can reuse a game copy prepared for it (e.g. server's game view) instead own copy
+ */
+public class PlayableCalcCopyTest extends CardTestPlayerBase {
+
+    @Test
+    public void test_SingleCalcCopyMustBeUsedOneTime() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 1);
+
+        setStopAt(1, PhaseStep.PRECOMBAT_MAIN);
+        execute();
+
+        Game single = currentGame.createSimulationForSinglePlayableCalc();
+        Assert.assertTrue(single.inCheckPlayableState());
+        Assert.assertSame("must reuse prepared copy", single, single.getSimulationForPlayableCalc());
+        Assert.assertNotSame("nested calc must use own copy", single, single.getSimulationForPlayableCalc());
+        Assert.assertNotSame("must copy normal game", currentGame, currentGame.getSimulationForPlayableCalc());
+    }
+
+    @Test
+    public void test_SameResultAsCopy() {
+        addCard(Zone.BATTLEFIELD, playerA, "Forest", 2);
+        addCard(Zone.BATTLEFIELD, playerA, "Llanowar Elves", 1);
+        addCard(Zone.BATTLEFIELD, playerA, "Prodigal Sorcerer", 1);
+        addCard(Zone.HAND, playerA, "Grizzly Bears", 1); // {1}{G}
+        addCard(Zone.HAND, playerA, "Giant Growth", 1); // {G}
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1); // {R}, not playable
+        addCard(Zone.HAND, playerA, "Mountain", 1);
+
+        runCode("check playable", 1, PhaseStep.PRECOMBAT_MAIN, playerA, (info, player, game) -> {
+            Map<UUID, Integer> need = getPlayableAmounts(game.getPlayer(playerA.getId()).getPlayableObjects(game, Zone.ALL));
+            Assert.assertFalse(need.isEmpty());
+
+            Game single = game.createSimulationForSinglePlayableCalc();
+            Map<UUID, Integer> current = getPlayableAmounts(single.getPlayer(playerA.getId()).getPlayableObjects(single, Zone.ALL));
+            Assert.assertEquals(need, current);
+
+            // source game must be unchanged
+            Assert.assertEquals(need, getPlayableAmounts(game.getPlayer(playerA.getId()).getPlayableObjects(game, Zone.ALL)));
+        });
+
+        setStrictChooseMode(true);
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+    }
+
+    private Map<UUID, Integer> getPlayableAmounts(PlayableObjectsList list) {
+        return list.getObjects().keySet()
+                .stream()
+                .collect(Collectors.toMap(id -> id, list::getPlayableAmount));
+    }
+}
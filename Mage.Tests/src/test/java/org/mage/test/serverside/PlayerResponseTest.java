@@ -0,0 +1,93 @@
+package org.mage.test.serverside;
+
+import mage.player.human.PlayerResponse;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Game thread waits user's answer, network thread signals it
+ */
+public class PlayerResponseTest {
+
+    private static final long WAIT_MILLIS = 10000;
+
+    private Thread startWaiting(PlayerResponse response, AtomicReference<Throwable> error) {
+        Thread thread = new Thread(() -> {
+            try {
+                response.waitAnswer();
+            } catch (Throwable e) {
+                error.set(e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+
+    @Test
+    public void test_SignalAfterWait() throws Exception {
+        PlayerResponse response = new PlayerResponse();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread gameThread = startWaiting(response, error);
+
+        gameThread.join(100);
+        Assert.assertTrue("must wait for answer", gameThread.isAlive());
+
+        response.signalAnswer();
+        gameThread.join(WAIT_MILLIS);
+        Assert.assertFalse("must wake up after answer", gameThread.isAlive());
+        Assert.assertNull(error.get());
+    }
+
+    @Test
+    public void test_SignalBeforeWait() throws Exception {
+        // answer can income before game thread starts waiting, it must not be lost
+        PlayerResponse response = new PlayerResponse();
+        response.signalAnswer();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread gameThread = startWaiting(response, error);
+        gameThread.join(WAIT_MILLIS);
+        Assert.assertFalse("must use early answer", gameThread.isAlive());
+        Assert.assertNull(error.get());
+
+        // signal must be used once
+        gameThread = startWaiting(response, error);
+        gameThread.join(100);
+        Assert.assertTrue("must wait for next answer", gameThread.isAlive());
+        response.signalAnswer();
+        gameThread.join(WAIT_MILLIS);
+        Assert.assertFalse(gameThread.isAlive());
+    }
+
+    @Test
+    public void test_ClearDropsOldSignal() throws Exception {
+        PlayerResponse response = new PlayerResponse();
+        response.signalAnswer();
+        response.clear();
+
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread gameThread = startWaiting(response, error);
+        gameThread.join(100);
+        Assert.assertTrue("must ignore answer from older response", gameThread.isAlive());
+
+        response.signalAnswer();
+        gameThread.join(WAIT_MILLIS);
+        Assert.assertFalse(gameThread.isAlive());
+        Assert.assertNull(error.get());
+    }
+
+    @Test
+    public void test_InterruptWaiting() throws Exception {
+        PlayerResponse response = new PlayerResponse();
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Thread gameThread = startWaiting(response, error);
+        gameThread.join(100);
+        Assert.assertTrue(gameThread.isAlive());
+
+        gameThread.interrupt();
+        gameThread.join(WAIT_MILLIS);
+        Assert.assertFalse("must stop waiting on interrupt", gameThread.isAlive());
+        Assert.assertTrue(error.get() instanceof InterruptedException);
+    }
+}
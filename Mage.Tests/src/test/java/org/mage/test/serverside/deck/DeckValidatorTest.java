@@ -1,5 +1,6 @@
 package org.mage.test.serverside.deck;
 
+import mage.cards.decks.CardLegalityIndex;
 import mage.cards.decks.DeckValidator;
 import mage.deck.Commander;
 import mage.deck.Limited;
@@ -11,6 +12,7 @@ import org.junit.Test;
 import org.mage.test.serverside.base.MageTestPlayerBase;
 
 import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mage.test.serverside.deck.DeckValidationUtil.testDeckValid;
 
@@ -341,4 +343,42 @@ public class DeckValidatorTest extends MageTestPlayerBase {
         Assert.assertFalse(validator.getErrorsListInfo(), validationSuccessful);
         validator.getErrorsList().clear();
     }
+
+    @Test
+    public void testLegalityIndexChecksCardOneTime() {
+        CardLegalityIndex.clear();
+        AtomicInteger checks = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(CardLegalityIndex.isLegal("test format 1", "Counterspell", name -> checks.incrementAndGet() > 0));
+            Assert.assertFalse(CardLegalityIndex.isLegal("test format 2", "Counterspell", name -> checks.incrementAndGet() < 0));
+        }
+        Assert.assertEquals("must check each format one time only", 2, checks.get());
+
+        // same result for the same rules from other validator's instance
+        DeckValidator validator = new Modern();
+        ArrayList<DeckValidationUtil.CardNameAmount> deckList = new ArrayList<>();
+        deckList.add(new DeckValidationUtil.CardNameAmount("ODY", 292, 4)); // Psychatog, not modern set
+        deckList.add(new DeckValidationUtil.CardNameAmount("Mountain", 56));
+        Assert.assertFalse(testDeckValid(validator, deckList));
+        Assert.assertFalse(testDeckValid(new Modern(), deckList));
+    }
+
+    @Test
+    public void testLegalityIndexLimitsFormats() {
+        // validators with dynamic rules can make new format for each deck, index must not grow forever
+        CardLegalityIndex.clear();
+        int formatsAmount = 5000;
+        for (int i = 0; i < formatsAmount; i++) {
+            Assert.assertTrue(CardLegalityIndex.isLegal("test format " + i, "Counterspell", name -> true));
+        }
+        Assert.assertTrue(CardLegalityIndex.getFormatsCount() < formatsAmount);
+
+        // new data after reset
+        AtomicInteger checks = new AtomicInteger();
+        Assert.assertFalse(CardLegalityIndex.isLegal("test format 0", "Counterspell", name -> checks.incrementAndGet() < 0));
+        Assert.assertFalse(CardLegalityIndex.isLegal("test format 0", "Counterspell", name -> checks.incrementAndGet() < 0));
+        Assert.assertEquals(1, checks.get());
+        CardLegalityIndex.clear();
+    }
 }
@@ -13,10 +13,12 @@ import mage.constants.PhaseStep;
 import mage.constants.Zone;
 import mage.counters.CounterType;
 import mage.game.mulligan.LondonMulligan;
+import mage.game.permanent.Permanent;
 import mage.game.permanent.PermanentCard;
 import mage.game.permanent.PermanentImpl;
 import mage.remote.traffic.ZippedObjectImpl;
 import mage.util.CardUtil;
+import mage.util.SerializationCodec;
 import mage.utils.CompressUtil;
 import mage.util.ThreadUtils;
 import mage.view.GameView;
@@ -206,6 +208,53 @@ public class SerializationTest extends CardTestPlayerBase {
         Assert.assertEquals("Must be same", choice.getChoices().size(), uncompressed.getChoices().size());
     }
 
+    @Test
+    public void test_Codecs_MustSupportAllFormats() {
+        addCard(Zone.BATTLEFIELD, playerA, "Grizzly Bears", 1);
+        addCard(Zone.HAND, playerA, "Lightning Bolt", 1);
+
+        setStopAt(1, PhaseStep.END_TURN);
+        execute();
+
+        GameView gameView = getGameView(playerA);
+        for (SerializationCodec codec : SerializationCodec.values()) {
+            try {
+                // game view
+                GameView uncompressedView = (GameView) codec.decode(codec.encode(gameView), null);
+                Assert.assertEquals(codec.getName(), 1, uncompressedView.getPlayers().get(0).getBattlefield().size());
+                Assert.assertEquals(codec.getName(), "Lightning Bolt", uncompressedView.getMyHand().values().stream().findFirst().get().getName());
+
+                // permanent with abilities
+                Permanent permanent = getPermanent("Grizzly Bears", playerA);
+                PermanentImpl uncompressedPermanent = (PermanentImpl) codec.decode(codec.encode(permanent), null);
+                Assert.assertEquals(codec.getName(), permanent.getName(), uncompressedPermanent.getName());
+                Assert.assertEquals(codec.getName(), permanent.getAbilities().size(), uncompressedPermanent.getAbilities().size());
+
+                // network wrapper
+                Object compressed = new ZippedObjectImpl<>(gameView, codec);
+                Assert.assertNotNull(codec.getName(), CompressUtil.decompress(compressed));
+
+                // network wrapper after sending (must keep codec)
+                Object received = SerializationCodec.JAVA.decode(SerializationCodec.JAVA.encode(compressed), null);
+                GameView receivedView = (GameView) CompressUtil.decompress(received);
+                Assert.assertNotNull(codec.getName(), receivedView);
+                Assert.assertEquals(codec.getName(), 1, receivedView.getPlayers().get(0).getBattlefield().size());
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException("Can't use [" + codec.getName() + "] codec: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    @Test
+    public void test_Codecs_NetworkWrapperMustBeCompatibleWithOldVersions() {
+        // old clients and servers must read default data as is, so codec must be outside the class description
+        ObjectStreamClass desc = ObjectStreamClass.lookup(ZippedObjectImpl.class);
+        Assert.assertEquals("serial id must be same as in old versions", 1L, desc.getSerialVersionUID());
+        Assert.assertEquals("serialized fields must be same as in old versions",
+                Collections.singletonList("data"),
+                Arrays.stream(desc.getFields()).map(ObjectStreamField::getName).collect(Collectors.toList()));
+    }
+
     static class SerializationTestData {
 
         String name;
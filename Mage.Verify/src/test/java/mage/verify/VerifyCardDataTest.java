@@ -1335,18 +1335,27 @@ public class VerifyCardDataTest {
                 errorsList.add("Error: can't find copy() method in watcher class: " + watcherClass.getName());
             }
 
-            // no constructor for copy
+            // copy constructor is optional (for often copied watchers), must be private and used by copy() only
+            Constructor<? extends Watcher> copyConstructor = null;
             try {
-                Constructor<? extends Watcher> constructor = watcherClass.getDeclaredConstructor(watcherClass);
-                errorsList.add("Error: copy constructor is not allowed in watcher class: " + watcherClass.getName());
+                copyConstructor = watcherClass.getDeclaredConstructor(watcherClass);
+                if (!Modifier.isPrivate(copyConstructor.getModifiers())) {
+                    errorsList.add("Error: watcher's copy constructor must be private: " + watcherClass.getName());
+                }
             } catch (NoSuchMethodException e) {
-                // all fine, no needs in copy constructors
+                // all fine, watcher will be copied by reflection
+            }
+
+            // watcher copy creates new instances by the one and only constructor (without copy constructor)
+            List<Constructor<?>> constructors = new ArrayList<>(Arrays.asList(watcherClass.getDeclaredConstructors()));
+            constructors.remove(copyConstructor);
+            if (constructors.size() != 1) {
+                errorsList.add("Error: watcher class must have only one constructor (and optional copy constructor): " + watcherClass.getName());
+                continue;
             }
 
             // errors on create
             try {
-                List<?> constructors = Arrays.asList(watcherClass.getDeclaredConstructors());
-
                 Constructor<? extends Watcher> constructor = (Constructor<? extends Watcher>) constructors.get(0);
 
                 Object[] args = new Object[constructor.getParameterCount()];
@@ -255,6 +255,11 @@ public interface Abilities<T extends Ability> extends List<T>, Serializable {
      */
     boolean hasPoolDependantAbilities();
 
+    /**
+     * Structural changes counter (add, remove, clear), can be used to find out outdated data
+     */
+    int getModCount();
+
     /**
      * Copies this set of abilities. This copy should be new instances of all
      * the contained abilities.
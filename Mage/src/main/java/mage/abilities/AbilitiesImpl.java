@@ -25,6 +25,42 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     private static final ThreadLocalStringBuilder threadLocalBuilder = new ThreadLocalStringBuilder(200);
 
+    /**
+     * Typed abilities lists (activated, static, triggered, etc) and card's abilities with game's data
+     * are reused until the source lists changed, disable it by -Dxmage.abilitiesCache=false
+     */
+    private static final boolean USE_ABILITIES_CACHE = Boolean.parseBoolean(System.getProperty("xmage.abilitiesCache", "true"));
+
+    private enum ViewType {
+        ACTIVATED, ACTIVATED_MANA, STATIC, TRIGGERED, EVASION, PROTECTION
+    }
+
+    /**
+     * Typed list with list's state on creation (immutable, so it can be shared between threads)
+     */
+    private static final class View {
+
+        private final ViewType type;
+        private final Zone zone;
+        private final AbilitiesImpl<?> abilities;
+        private final int abilitiesModCount;
+        private final int sourceModCount;
+
+        private View(ViewType type, Zone zone, AbilitiesImpl<?> abilities, int sourceModCount) {
+            this.type = type;
+            this.zone = zone;
+            this.abilities = abilities;
+            this.abilitiesModCount = abilities.getModCount();
+            this.sourceModCount = sourceModCount;
+        }
+    }
+
+    // typed lists cache, see getView (calculates on usage, so no need to copy)
+    private transient View[] views;
+
+    // ArrayList doesn't count replaced elements as changes, but cached views must see it, see getModCount
+    private transient int replacedCount;
+
     public AbilitiesImpl() {
         // fast constructor
     }
@@ -59,7 +95,7 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
                 continue;
             }
             if (!(ability instanceof SpellAbility || ability instanceof PlayLandAbility)) {
-                String rule = ability.getRule();
+                String rule = AbilityRulesCache.getRule(ability);
                 if (rule != null && rule.length() > 3) {
                     if (capitalize) {
                         rule = Character.toUpperCase(rule.charAt(0)) + rule.substring(1);
@@ -122,6 +158,10 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
      */
     @Override
     public Abilities<ActivatedAbility> getActivatedAbilities(Zone zone) {
+        return (Abilities<ActivatedAbility>) getView(ViewType.ACTIVATED, zone);
+    }
+
+    private Abilities<ActivatedAbility> findActivatedAbilities(Zone zone) {
         return stream()
                 .filter(ActivatedAbility.class::isInstance)
                 .filter(ability -> ability.getZone().match(zone))
@@ -131,15 +171,16 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public Abilities<ActivatedAbility> getPlayableAbilities(Zone zone) {
-        return stream()
-                .filter(ActivatedAbility.class::isInstance)
-                .filter(ability -> ability.getZone().match(zone))
-                .map(ActivatedAbility.class::cast)
-                .collect(Collectors.toCollection(AbilitiesImpl::new));
+        // same abilities as activated
+        return getActivatedAbilities(zone);
     }
 
     @Override
     public Abilities<ActivatedManaAbilityImpl> getActivatedManaAbilities(Zone zone) {
+        return (Abilities<ActivatedManaAbilityImpl>) getView(ViewType.ACTIVATED_MANA, zone);
+    }
+
+    private Abilities<ActivatedManaAbilityImpl> findActivatedManaAbilities(Zone zone) {
         return stream()
                 .filter(ActivatedManaAbilityImpl.class::isInstance)
                 .filter(ability -> ability.getZone().match(zone))
@@ -147,18 +188,30 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
                 .collect(Collectors.toCollection(AbilitiesImpl::new));
     }
 
+    /**
+     * Result depends on game's data and callers can change it, so it's a new list on each call (not cached)
+     */
     @Override
     public Abilities<ActivatedManaAbilityImpl> getAvailableActivatedManaAbilities(Zone zone, UUID playerId, Game game) {
-        return stream()
-                .filter(ActivatedManaAbilityImpl.class::isInstance)
-                .filter(ability -> ability.getZone().match(zone))
-                .map(ActivatedManaAbilityImpl.class::cast)
-                .filter(ability -> ability.canActivate(playerId, game).canActivate())
-                .collect(Collectors.toCollection(AbilitiesImpl::new));
+        Abilities<ActivatedManaAbilityImpl> manaAbilities = getActivatedManaAbilities(zone);
+        Abilities<ActivatedManaAbilityImpl> res = new AbilitiesImpl<>();
+        if (manaAbilities.isEmpty()) {
+            return res;
+        }
+        for (ActivatedManaAbilityImpl ability : manaAbilities) {
+            if (ability.canActivate(playerId, game).canActivate()) {
+                res.add(ability);
+            }
+        }
+        return res;
     }
 
     @Override
     public Abilities<EvasionAbility> getEvasionAbilities() {
+        return (Abilities<EvasionAbility>) getView(ViewType.EVASION, null);
+    }
+
+    private Abilities<EvasionAbility> findEvasionAbilities() {
         return stream()
                 .filter(EvasionAbility.class::isInstance)
                 .map(EvasionAbility.class::cast)
@@ -167,6 +220,10 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public Abilities<StaticAbility> getStaticAbilities(Zone zone) {
+        return (Abilities<StaticAbility>) getView(ViewType.STATIC, zone);
+    }
+
+    private Abilities<StaticAbility> findStaticAbilities(Zone zone) {
         return stream()
                 .filter(StaticAbility.class::isInstance)
                 .filter(ability -> ability.getZone().match(zone))
@@ -176,6 +233,10 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public Abilities<TriggeredAbility> getTriggeredAbilities(Zone zone) {
+        return (Abilities<TriggeredAbility>) getView(ViewType.TRIGGERED, zone);
+    }
+
+    private Abilities<TriggeredAbility> findTriggeredAbilities(Zone zone) {
         Abilities<TriggeredAbility> zonedAbilities = new AbilitiesImpl<>();
         for (T ability : this) {
             if (ability.isTriggeredAbility() && ability.getZone().match(zone)) {
@@ -200,12 +261,100 @@ public class AbilitiesImpl<T extends Ability> extends ArrayList<T> implements Ab
 
     @Override
     public Abilities<ProtectionAbility> getProtectionAbilities() {
+        return (Abilities<ProtectionAbility>) getView(ViewType.PROTECTION, null);
+    }
+
+    private Abilities<ProtectionAbility> findProtectionAbilities() {
         return stream()
                 .filter(ProtectionAbility.class::isInstance)
                 .map(ProtectionAbility.class::cast)
                 .collect(Collectors.toCollection(AbilitiesImpl::new));
     }
 
+    /**
+     * Returns typed list from the cache or creates new one. Cached list is shared between callers,
+     * so it must not be changed (changed list will be ignored and replaced by new one)
+     */
+    private Abilities<?> getView(ViewType type, Zone zone) {
+        if (!USE_ABILITIES_CACHE) {
+            return findView(type, zone);
+        }
+
+        View[] currentViews = this.views;
+        int freeIndex = -1;
+        if (currentViews != null) {
+            for (int i = 0; i < currentViews.length; i++) {
+                View view = currentViews[i];
+                if (view == null) {
+                    freeIndex = freeIndex < 0 ? i : freeIndex;
+                    continue;
+                }
+                if (view.type != type || view.zone != zone) {
+                    continue;
+                }
+                if (view.sourceModCount == getModCount() && view.abilitiesModCount == view.abilities.getModCount()) {
+                    return view.abilities;
+                }
+                // outdated
+                freeIndex = i;
+                break;
+            }
+        }
+
+        Abilities<?> abilities = findView(type, zone);
+        if (!(abilities instanceof AbilitiesImpl)) {
+            return abilities;
+        }
+        if (currentViews == null) {
+            currentViews = new View[4];
+            freeIndex = 0;
+        } else if (freeIndex < 0) {
+            freeIndex = currentViews.length;
+            currentViews = Arrays.copyOf(currentViews, currentViews.length * 2);
+        }
+        // possible multi-threading access can lose cached view, it's ok
+        currentViews[freeIndex] = new View(type, zone, (AbilitiesImpl<?>) abilities, getModCount());
+        this.views = currentViews;
+        return abilities;
+    }
+
+    private Abilities<?> findView(ViewType type, Zone zone) {
+        switch (type) {
+            case ACTIVATED:
+                return findActivatedAbilities(zone);
+            case ACTIVATED_MANA:
+                return findActivatedManaAbilities(zone);
+            case STATIC:
+                return findStaticAbilities(zone);
+            case TRIGGERED:
+                return findTriggeredAbilities(zone);
+            case EVASION:
+                return findEvasionAbilities();
+            case PROTECTION:
+                return findProtectionAbilities();
+            default:
+                throw new IllegalArgumentException("Unknown abilities view: " + type);
+        }
+    }
+
+    @Override
+    public int getModCount() {
+        return modCount + replacedCount;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        replacedCount++;
+        return super.set(index, element);
+    }
+
+    /**
+     * Typed abilities lists and card's abilities can be reused until changed (see -Dxmage.abilitiesCache)
+     */
+    public static boolean isCacheEnabled() {
+        return USE_ABILITIES_CACHE;
+    }
+
     @Override
     public Abilities<Ability> getAllAbilities() {
         return stream().collect(Collectors.toCollection(AbilitiesImpl::new));
@@ -97,6 +97,7 @@ public abstract class AbilityImpl implements Ability {
     private String appendToRule = null;
     private int sourcePermanentTransformCount = 0;
     private Map<String, Object> costsTagMap = null;
+    String rulesCacheKey = null; // created with a card, so it can use shared rules cache, see AbilityRulesCache
 
     protected AbilityImpl(AbilityType abilityType, Zone zone) {
         this.id = UUID.randomUUID();
@@ -145,6 +146,7 @@ public abstract class AbilityImpl implements Ability {
         this.appendToRule = ability.appendToRule;
         this.sourcePermanentTransformCount = ability.sourcePermanentTransformCount;
         this.costsTagMap = CardUtil.deepCopyObject(ability.costsTagMap);
+        this.rulesCacheKey = ability.rulesCacheKey;
     }
 
     @Override
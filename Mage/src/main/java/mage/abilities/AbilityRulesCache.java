@@ -0,0 +1,115 @@
+package mage.abilities;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import mage.cards.Card;
+import mage.util.CacheStats;
+
+import java.util.Objects;
+
+/**
+ * Abilities rules text for card views and rules lists (shared by all games)
+ * <p>
+ * Ability's text is static after card creation, so it's generated one time only and reused by all abilities
+ * with same card's class and position in card's abilities (all cards of that class, its copies and token copies,
+ * ability's copy keeps the key with new ids). Gained or lost abilities change the abilities list itself, so
+ * card's rules will be actual. Game related info (hints, chosen modes, counters) is not cached.
+ * <p>
+ * Only card's own abilities use the cache (see markCardAbilities). Abilities created by effects in game or by
+ * token's code can have different params for same class and position (e.g. gained mana abilities of lands or
+ * creature tokens with params), so it generates text as before and can't replace useful data in the shared cache.
+ * <p>
+ * Memory is limited by max amount and soft references (GC can free it).
+ * <p>
+ * Disable it by -Dxmage.rulesCache=false
+ */
+public final class AbilityRulesCache {
+
+    private static final int MAX_RULES = 50000;
+
+    private static final boolean USE_RULES_CACHE = Boolean.parseBoolean(System.getProperty("xmage.rulesCache", "true"));
+
+    /**
+     * Compare cached rules with generated and raise error on difference
+     * (slow, for tests only), enable it by -Dxmage.rulesCacheCheck=true
+     */
+    private static final boolean CHECK_RULES_CACHE = Boolean.parseBoolean(System.getProperty("xmage.rulesCacheCheck", "false"));
+
+    /**
+     * Ability's rule with ability's class for protection from wrong keys (e.g. changed card's code)
+     */
+    private static final class RuleInfo {
+
+        private final Class<?> abilityClass;
+        private final String rule;
+
+        private RuleInfo(Class<?> abilityClass, String rule) {
+            this.abilityClass = abilityClass;
+            this.rule = rule;
+        }
+    }
+
+    private static final CacheStats stats = CacheStats.get("abilities rules");
+    private static final Cache<String, RuleInfo> rules = CacheBuilder
+            .newBuilder()
+            .maximumSize(MAX_RULES)
+            .softValues()
+            .removalListener(notification -> {
+                if (notification.wasEvicted()) {
+                    stats.addEvictions(1);
+                }
+            })
+            .build();
+
+    private AbilityRulesCache() {
+    }
+
+    /**
+     * Same as ability.getRule(), but uses cached text if possible
+     */
+    public static String getRule(Ability ability) {
+        if (!USE_RULES_CACHE
+                || !(ability instanceof AbilityImpl)
+                || ((AbilityImpl) ability).rulesCacheKey == null) {
+            return ability.getRule();
+        }
+        String key = ((AbilityImpl) ability).rulesCacheKey;
+
+        RuleInfo info = rules.getIfPresent(key);
+        if (info != null && info.abilityClass == ability.getClass()) {
+            stats.addHit();
+            if (CHECK_RULES_CACHE) {
+                String rule = ability.getRule();
+                if (!Objects.equals(info.rule, rule)) {
+                    throw new IllegalStateException("Wrong rules cache for " + ability.getClass().getName()
+                            + ": cached " + info.rule + ", need " + rule);
+                }
+            }
+            return info.rule;
+        }
+
+        stats.addMiss();
+        String rule = ability.getRule();
+        rules.put(key, new RuleInfo(ability.getClass(), rule));
+        return rule;
+    }
+
+    /**
+     * Allow rules cache for all card's abilities, must be called after card creation
+     * (copies of the abilities will use it too)
+     */
+    public static void markCardAbilities(Card card) {
+        String cardKey = card.getClass().getName() + ':';
+        int index = 0;
+        for (Ability ability : card.getAbilities()) {
+            if (ability instanceof AbilityImpl) {
+                ((AbilityImpl) ability).rulesCacheKey = cardKey + index;
+            }
+            index++;
+        }
+    }
+
+    public static void clear() {
+        rules.invalidateAll();
+    }
+}
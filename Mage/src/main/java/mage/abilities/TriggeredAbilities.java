@@ -11,7 +11,9 @@ import mage.util.CardUtil;
 import mage.util.Copyable;
 import org.apache.log4j.Logger;
 
+import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -23,6 +25,11 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     private final Map<String, List<UUID>> sources = new HashMap<>();
 
+    // fast triggers search by event type (see TriggeredAbility.getCheckEventTypes), keeps same order as the map,
+    // lists are immutable, so current processing is not affected by new changes
+    private static final Map<Class<?>, Set<GameEvent.EventType>> checkEventTypes = new ConcurrentHashMap<>();
+    private transient Map<GameEvent.EventType, List<TriggeredAbility>> eventTypeIndex = null;
+
     // data integrity check for triggers
     // reason: game engine can generate additional events and triggers while checking another one,
     // it can generate multiple bugs, freeze, etc, see https://github.com/magefree/mage/issues/8426
@@ -103,7 +110,10 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         processingStart(event);
         boolean needErrorChecksOnEnd = true;
         // must keep real object refs (not copies), cause check trigger code can change trigger's and effect's data like targets
-        ArrayList<TriggeredAbility> currentTriggers = new ArrayList<>(this.values());
+        // (integrity checks need all triggers, so it uses full list)
+        List<TriggeredAbility> currentTriggers = this.enableIntegrityChecks
+                ? new ArrayList<>(this.values())
+                : getTriggersForEventType(event.getType());
         try {
             for (TriggeredAbility ability : currentTriggers) {
                 if (ability.checkEventType(event, game)) {
@@ -120,6 +130,68 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
         }
     }
 
+    private List<TriggeredAbility> getTriggersForEventType(GameEvent.EventType eventType) {
+        if (eventTypeIndex == null) {
+            eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        List<TriggeredAbility> res = eventTypeIndex.get(eventType);
+        if (res == null) {
+            res = new ArrayList<>();
+            for (TriggeredAbility ability : this.values()) {
+                if (getCheckEventTypes(ability).contains(eventType)) {
+                    res.add(ability);
+                }
+            }
+            res = Collections.unmodifiableList(res);
+            eventTypeIndex.put(eventType, res);
+        }
+        return res;
+    }
+
+    private static Set<GameEvent.EventType> getCheckEventTypes(TriggeredAbility ability) {
+        return checkEventTypes.computeIfAbsent(ability.getClass(), clazz -> findCheckEventTypes(ability));
+    }
+
+    /**
+     * Event types of the trigger's class or all types for dynamic checks
+     */
+    private static Set<GameEvent.EventType> findCheckEventTypes(TriggeredAbility ability) {
+        try {
+            // child class can override checkEventType, so event types must be declared in the same class
+            Method checkMethod = ability.getClass().getMethod("checkEventType", GameEvent.class, Game.class);
+            Method typesMethod = ability.getClass().getMethod("getCheckEventTypes");
+            Set<GameEvent.EventType> types = ability.getCheckEventTypes();
+            if (types != null && checkMethod.getDeclaringClass() == typesMethod.getDeclaringClass()) {
+                return types.isEmpty() ? EnumSet.noneOf(GameEvent.EventType.class) : EnumSet.copyOf(types);
+            }
+        } catch (NoSuchMethodException e) {
+            logger.error("Can't find check methods for " + ability.getClass().getName(), e);
+        }
+        return EnumSet.allOf(GameEvent.EventType.class);
+    }
+
+    private void resetIndex() {
+        eventTypeIndex = null;
+    }
+
+    @Override
+    public TriggeredAbility put(String key, TriggeredAbility value) {
+        resetIndex();
+        return super.put(key, value);
+    }
+
+    @Override
+    public TriggeredAbility remove(Object key) {
+        resetIndex();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        resetIndex();
+        super.clear();
+    }
+
     private void makeSureNotProcessing(GameEvent newEvent) {
         if (!this.enableIntegrityChecks) {
             return;
@@ -318,11 +390,15 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
     }
 
     public void removeAbilitiesOfSource(UUID sourceId) {
-        keySet().removeIf(key -> key.endsWith(sourceId.toString()));
+        if (keySet().removeIf(key -> key.endsWith(sourceId.toString()))) {
+            resetIndex();
+        }
     }
 
     public void removeAllGainedAbilities() {
-        this.keySet().removeAll(sources.keySet());
+        if (this.keySet().removeAll(sources.keySet())) {
+            resetIndex();
+        }
         sources.clear();
     }
 
@@ -332,9 +408,11 @@ public class TriggeredAbilities extends LinkedHashMap<String, TriggeredAbility>
 
     public void removeAbilitiesOfNonExistingSources(Game game) {
         // e.g. Token that had triggered abilities
-        entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
+        if (entrySet().removeIf(entry -> game.getObject(entry.getValue().getSourceId()) == null
                 && game.getState().getHelperEmblems().stream().noneMatch(emblem -> emblem.getId().equals(entry.getValue().getSourceId()))
-                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())));
+                && game.getState().getDesignations().stream().noneMatch(designation -> designation.getId().equals(entry.getValue().getSourceId())))) {
+            resetIndex();
+        }
     }
 
     @Override
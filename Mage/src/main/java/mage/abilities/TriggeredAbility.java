@@ -6,6 +6,7 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,6 +23,17 @@ public interface TriggeredAbility extends Ability {
      */
     boolean checkEventType(GameEvent event, Game game);
 
+    /**
+     * Optional: all event types from checkEventType, used for fast triggers search (only related triggers
+     * will be checked for an event). Must be same for all objects of the class and must be declared in the
+     * same class as checkEventType (if child class overrides checkEventType then it will be checked for all events)
+     *
+     * @return null for unknown types (trigger will be checked for all events)
+     */
+    default Set<GameEvent.EventType> getCheckEventTypes() {
+        return null;
+    }
+
     /**
      * This method checks if the event has to trigger the ability,
      * and if it does trigger, may set targets and other values in associated effects
@@ -1,6 +1,7 @@
 package mage.abilities.condition.common;
 
 import mage.constants.Zone;
+import mage.abilities.Abilities;
 import mage.abilities.Ability;
 import mage.abilities.condition.Condition;
 import mage.abilities.keyword.SuspendAbility;
@@ -28,8 +29,8 @@ public enum SuspendedCondition implements Condition {
             boolean found = card.getAbilities(game).containsClass(SuspendAbility.class);
 
             if (!found) {
-                found = game.getState().getAllOtherAbilities(source.getSourceId()).containsClass(SuspendAbility.class);
-
+                Abilities<Ability> otherAbilities = game.getState().getAllOtherAbilities(source.getSourceId());
+                found = otherAbilities != null && otherAbilities.containsClass(SuspendAbility.class);
             }
             if (found) {
                 if (game.getState().getZone(card.getId()) == Zone.EXILED &&
@@ -31,14 +31,7 @@ public class ApplyStatusEffect extends ContinuousEffectImpl {
     @Override
     public boolean apply(Layer layer, SubLayer sublayer, Ability source, Game game) {
         if (layer == Layer.AbilityAddingRemovingEffects_6) {
-            for (Permanent permanent : game.getBattlefield().getAllActivePermanents()) {
-                for (AbilityCounter counter : permanent.getCounters(game).getAbilityCounters()) {
-                    permanent.addAbility(counter.getAbility(), source == null ? permanent.getId() : source.getSourceId(), game);
-                }
-                if (permanent.isSuspected()) {
-                    permanent.addAbility(new MenaceAbility(false), source == null ? permanent.getId() : source.getSourceId(), game);
-                }
-            }
+            applyAbilities(source, game);
         }
         if (layer == Layer.PTChangingEffects_7 && sublayer == SubLayer.Counters_7d) {
             for (Permanent permanent : game.getBattlefield().getAllActivePermanents(CardType.CREATURE, game)) {
@@ -51,6 +44,30 @@ public class ApplyStatusEffect extends ContinuousEffectImpl {
         return true;
     }
 
+    /**
+     * Layer 6: abilities from counters and statuses
+     *
+     * @return true if any ability was added
+     */
+    boolean applyAbilities(Game game) {
+        return applyAbilities(null, game);
+    }
+
+    private boolean applyAbilities(Ability source, Game game) {
+        boolean added = false;
+        for (Permanent permanent : game.getBattlefield().getAllActivePermanents()) {
+            for (AbilityCounter counter : permanent.getCounters(game).getAbilityCounters()) {
+                permanent.addAbility(counter.getAbility(), source == null ? permanent.getId() : source.getSourceId(), game);
+                added = true;
+            }
+            if (permanent.isSuspected()) {
+                permanent.addAbility(new MenaceAbility(false), source == null ? permanent.getId() : source.getSourceId(), game);
+                added = true;
+            }
+        }
+        return added;
+    }
+
     @Override
     public boolean hasLayer(Layer layer) {
         return layer == Layer.PTChangingEffects_7 || layer == Layer.AbilityAddingRemovingEffects_6;
@@ -36,6 +36,13 @@ public class ContinuousEffects implements Serializable {
 
     private static final Logger logger = Logger.getLogger(ContinuousEffects.class);
 
+    /**
+     * Layers apply can reuse the active layered effects list between layers without changed objects
+     * (it's not an incremental layers recalculation, all layers are still applied to all objects),
+     * disable it by -Dxmage.layersReuseActiveEffects=false (rebuild the list on each layer)
+     */
+    private static final boolean REUSE_ACTIVE_LAYERED_EFFECTS = Boolean.parseBoolean(System.getProperty("xmage.layersReuseActiveEffects", "true"));
+
     private long order = 0;
 
     //transient Continuous effects
@@ -56,6 +63,16 @@ public class ContinuousEffects implements Serializable {
 
     private final Map<String, ContinuousEffectsList<ContinuousEffect>> lastEffectsListOnLayer = new HashMap<>(); // helps to find out new effect timestamps on layers
 
+    // active layered effects from the last loadLayeredEffects call, see reloadLayeredEffects (no need to copy)
+    private transient List<ContinuousEffect> lastActiveLayeredEffects;
+    private transient int lastActiveLayeredEffectsModCount;
+    private boolean reuseActiveLayeredEffects = REUSE_ACTIVE_LAYERED_EFFECTS;
+
+    // effects by event types for fast events processing (calculates on usage, so no need to copy)
+    private transient EffectsEventTypeIndex<ContinuousRuleModifyingEffect> continuousRuleModifyingEffectsIndex;
+    private transient EffectsEventTypeIndex<ReplacementEffect> replacementEffectsIndex;
+    private transient EffectsEventTypeIndex<PreventionEffect> preventionEffectsIndex;
+
     public ContinuousEffects() {
         applyStatus = new ApplyStatusEffect();
         auraReplacementEffect = new AuraReplacementEffect();
@@ -83,6 +100,7 @@ public class ContinuousEffects implements Serializable {
         }
         collectAllEffects();
         order = effect.order;
+        reuseActiveLayeredEffects = effect.reuseActiveLayeredEffects;
     }
 
     private synchronized void collectAllEffects() {
@@ -104,6 +122,27 @@ public class ContinuousEffects implements Serializable {
         return new ContinuousEffects(this);
     }
 
+    private List<ContinuousRuleModifyingEffect> getContinuousRuleModifyingEffects(GameEvent event) {
+        if (continuousRuleModifyingEffectsIndex == null) {
+            continuousRuleModifyingEffectsIndex = new EffectsEventTypeIndex<>(ContinuousRuleModifyingEffect::checksEventType);
+        }
+        return continuousRuleModifyingEffectsIndex.getEffects(continuousRuleModifyingEffects, event.getType());
+    }
+
+    private List<ReplacementEffect> getReplacementEffects(GameEvent event) {
+        if (replacementEffectsIndex == null) {
+            replacementEffectsIndex = new EffectsEventTypeIndex<>(ReplacementEffect::checksEventType);
+        }
+        return replacementEffectsIndex.getEffects(replacementEffects, event.getType());
+    }
+
+    private List<PreventionEffect> getPreventionEffects(GameEvent event) {
+        if (preventionEffectsIndex == null) {
+            preventionEffectsIndex = new EffectsEventTypeIndex<>(PreventionEffect::checksEventType);
+        }
+        return preventionEffectsIndex.getEffects(preventionEffects, event.getType());
+    }
+
     public List<RequirementEffect> getRequirementEffects() {
         return requirementEffects;
     }
@@ -187,6 +226,43 @@ public class ContinuousEffects implements Serializable {
      * @return effects list ordered by timestamp
      */
     public synchronized List<ContinuousEffect> getLayeredEffects(Game game, String timestampGroupName) {
+        return sortLayeredEffects(timestampGroupName, findActiveLayeredEffects(game));
+    }
+
+    /**
+     * Enable or disable active layered effects reuse in layers apply (for tests only,
+     * must give same result as rebuild on each layer)
+     */
+    public void setReuseActiveLayeredEffects(boolean reuseActiveLayeredEffects) {
+        this.reuseActiveLayeredEffects = reuseActiveLayeredEffects;
+    }
+
+    /**
+     * Same as getLayeredEffects, but keeps result for reloadLayeredEffects (layers apply only, result must be
+     * used for read only)
+     */
+    private List<ContinuousEffect> loadLayeredEffects(Game game, String timestampGroupName) {
+        List<ContinuousEffect> layerEffects = getLayeredEffects(game, timestampGroupName);
+        lastActiveLayeredEffects = layerEffects;
+        lastActiveLayeredEffectsModCount = layeredEffects.getModCount();
+        return layerEffects;
+    }
+
+    /**
+     * Same as loadLayeredEffects, but reuses active effects from the last call (objects and effects must be
+     * without changes after it, e.g. empty layer was applied), so only timestamps will be updated
+     */
+    private List<ContinuousEffect> reloadLayeredEffects(Game game, String timestampGroupName) {
+        if (!reuseActiveLayeredEffects
+                || lastActiveLayeredEffects == null
+                || lastActiveLayeredEffectsModCount != layeredEffects.getModCount()) {
+            return loadLayeredEffects(game, timestampGroupName);
+        }
+        // same list, only timestamps and order can be changed
+        return sortLayeredEffects(timestampGroupName, lastActiveLayeredEffects);
+    }
+
+    private List<ContinuousEffect> findActiveLayeredEffects(Game game) {
         List<ContinuousEffect> layerEffects = new ArrayList<>();
         for (ContinuousEffect effect : layeredEffects) {
             switch (effect.getDuration()) {
@@ -211,7 +287,10 @@ public class ContinuousEffects implements Serializable {
                     layerEffects.add(effect);
             }
         }
+        return layerEffects;
+    }
 
+    private List<ContinuousEffect> sortLayeredEffects(String timestampGroupName, List<ContinuousEffect> layerEffects) {
         updateTimestamps(timestampGroupName, layerEffects);
         layerEffects.sort(Comparator.comparingLong(ContinuousEffect::getOrder));
         /* debug effects apply order:
@@ -241,9 +320,13 @@ public class ContinuousEffects implements Serializable {
             lastEffectsListOnLayer.put(timestampGroupName, new ContinuousEffectsList<>());
         }
         ContinuousEffectsList<ContinuousEffect> prevs = lastEffectsListOnLayer.get(timestampGroupName);
+        // same as prevs.contains (effects compared by identity, so copied effects with same ids are new),
+        // but without full list search for each effect
+        Set<ContinuousEffect> prevSet = Collections.newSetFromMap(new IdentityHashMap<>(prevs.size()));
+        prevSet.addAll(prevs);
         for (ContinuousEffect continuousEffect : layerEffects) {
             // check if it's new, then set order
-            if (!prevs.contains(continuousEffect)) {
+            if (!prevSet.contains(continuousEffect)) {
                 setOrder(continuousEffect);
             }
         }
@@ -321,7 +404,7 @@ public class ContinuousEffects implements Serializable {
     }
 
     public boolean checkIfThereArePayCostToAttackBlockEffects(GameEvent event, Game game) {
-        for (ReplacementEffect effect : replacementEffects) {
+        for (ReplacementEffect effect : getReplacementEffects(event)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -352,14 +435,15 @@ public class ContinuousEffects implements Serializable {
      * event
      */
     private Map<ReplacementEffect, Set<Ability>> getApplicableReplacementEffects(GameEvent event, Game game) {
-        Map<ReplacementEffect, Set<Ability>> replaceEffects = new LinkedHashMap<>();
+        // most events are not interesting for any effect, so create result objects on first applicable effect only
+        Map<ReplacementEffect, Set<Ability>> replaceEffects = null;
         if (auraReplacementEffect.checksEventType(event, game) && auraReplacementEffect.applies(event, null, game)) {
+            replaceEffects = new LinkedHashMap<>();
             replaceEffects.put(auraReplacementEffect, null);
         }
         // boolean checkLKI = event.getType().equals(EventType.ZONE_CHANGE) || event.getType().equals(EventType.DESTROYED_PERMANENT);
         //get all applicable transient Replacement effects
-        for (Iterator<ReplacementEffect> iterator = replacementEffects.iterator(); iterator.hasNext(); ) {
-            ReplacementEffect effect = iterator.next();
+        for (ReplacementEffect effect : getReplacementEffects(event)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -371,7 +455,7 @@ public class ContinuousEffects implements Serializable {
                 }
             }
             Set<Ability> abilities = replacementEffects.getAbility(effect.getId());
-            Set<Ability> applicableAbilities = new HashSet<>();
+            Set<Ability> applicableAbilities = null;
             for (Ability ability : abilities) {
                 // for replacement effects of static abilities do not use LKI to check if to apply
                 if (ability.getAbilityType() != AbilityType.STATIC || ability.isInUseableZone(game, null, event)) {
@@ -380,19 +464,24 @@ public class ContinuousEffects implements Serializable {
                                 || effect.hasSelfScope()
                                 || !event.getTargetId().equals(ability.getSourceId())) {
                             if (effect.applies(event, ability, game)) {
+                                if (applicableAbilities == null) {
+                                    applicableAbilities = new HashSet<>();
+                                }
                                 applicableAbilities.add(ability);
                             }
                         }
                     }
                 }
             }
-            if (!applicableAbilities.isEmpty()) {
+            if (applicableAbilities != null) {
+                if (replaceEffects == null) {
+                    replaceEffects = new LinkedHashMap<>();
+                }
                 replaceEffects.put(effect, applicableAbilities);
             }
         }
 
-        for (Iterator<PreventionEffect> iterator = preventionEffects.iterator(); iterator.hasNext(); ) {
-            PreventionEffect effect = iterator.next();
+        for (PreventionEffect effect : getPreventionEffects(event)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -402,22 +491,28 @@ public class ContinuousEffects implements Serializable {
                 continue;
             }
             Set<Ability> abilities = preventionEffects.getAbility(effect.getId());
-            Set<Ability> applicableAbilities = new HashSet<>();
+            Set<Ability> applicableAbilities = null;
             for (Ability ability : abilities) {
                 if (ability.getAbilityType() != AbilityType.STATIC || ability.isInUseableZone(game, null, event)) {
                     if (effect.getDuration() != Duration.OneUse || !effect.isUsed()) {
                         if (effect.applies(event, ability, game)) {
+                            if (applicableAbilities == null) {
+                                applicableAbilities = new HashSet<>();
+                            }
                             applicableAbilities.add(ability);
                         }
                     }
                 }
             }
-            if (!applicableAbilities.isEmpty()) {
+            if (applicableAbilities != null) {
+                if (replaceEffects == null) {
+                    replaceEffects = new LinkedHashMap<>();
+                }
                 replaceEffects.put(effect, applicableAbilities);
             }
         }
 
-        return replaceEffects;
+        return replaceEffects == null ? Collections.emptyMap() : replaceEffects;
     }
 
     private boolean checkAbilityStillExists(Ability ability, ContinuousEffect effect, GameEvent event, Game game) {
@@ -809,7 +904,7 @@ public class ContinuousEffects implements Serializable {
      * @return
      */
     public boolean preventedByRuleModification(GameEvent event, Ability targetAbility, Game game, boolean silentMode) {
-        for (ContinuousRuleModifyingEffect effect : continuousRuleModifyingEffects) {
+        for (ContinuousRuleModifyingEffect effect : getContinuousRuleModifyingEffects(event)) {
             if (!effect.checksEventType(event, game)) {
                 continue;
             }
@@ -970,7 +1065,7 @@ public class ContinuousEffects implements Serializable {
     //20091005 - 613
     public synchronized void apply(Game game) {
         removeInactiveEffects(game);
-        List<ContinuousEffect> activeLayerEffects = getLayeredEffects(game); // main call
+        List<ContinuousEffect> activeLayerEffects = loadLayeredEffects(game, "main"); // main call
 
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, Layer.CopyEffects_1);
         for (ContinuousEffect effect : layer) {
@@ -987,13 +1082,14 @@ public class ContinuousEffects implements Serializable {
         }
         //Reload layerEffect if copy effects were applied
         if (!layer.isEmpty()) {
-            activeLayerEffects = getLayeredEffects(game, "layer_1");
+            activeLayerEffects = loadLayeredEffects(game, "layer_1");
         }
 
         layer = filterLayeredEffects(activeLayerEffects, Layer.ControlChangingEffects_2);
         // apply control changing effects multiple times if it's needed
         // for cases when control over permanents with change control abilities is changed
         // e.g. Mind Control is controlled by Steal Enchantment
+        boolean isControlChanged = false;
         while (true) {
             for (ContinuousEffect effect : layer) {
                 Set<Ability> abilities = layeredEffects.getAbility(effect.getId());
@@ -1007,21 +1103,25 @@ public class ContinuousEffects implements Serializable {
             }
             // reset control before reapplying control changing effects
             game.getBattlefield().resetPermanentsControl();
+            isControlChanged = true;
         }
 
-        applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3");
-        activeLayerEffects = getLayeredEffects(game, "layer_3");
-        applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4");
-        activeLayerEffects = getLayeredEffects(game, "layer_4");
-        applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5");
-        activeLayerEffects = getLayeredEffects(game, "layer_5");
+        // layers without applied effects keep objects, so active effects list can be reused by next layer
+        boolean isObjectsChanged = !layer.isEmpty() || isControlChanged;
+        activeLayerEffects = applyLayer(activeLayerEffects, Layer.TextChangingEffects_3, game, "layer_3", isObjectsChanged);
+        activeLayerEffects = applyLayer(activeLayerEffects, Layer.TypeChangingEffects_4, game, "layer_4", false);
+        activeLayerEffects = applyLayer(activeLayerEffects, Layer.ColorChangingEffects_5, game, "layer_5", false);
 
         Map<ContinuousEffect, List<Ability>> appliedEffectAbilities = new HashMap<>();
         boolean done = false;
         Map<ContinuousEffect, Set<UUID>> waitingEffects = new LinkedHashMap<>();
         Set<UUID> appliedEffects = new HashSet<>();
-        applyStatus.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, null, game);
-        activeLayerEffects = getLayeredEffects(game, "layer_6");
+        if (applyStatus.applyAbilities(game)) {
+            activeLayerEffects = loadLayeredEffects(game, "layer_6");
+        } else {
+            // status without abilities keeps objects, so it's same as empty layer
+            activeLayerEffects = reloadLayeredEffects(game, "layer_6");
+        }
 
         while (!done) { // loop needed if a added effect adds again an effect (e.g. Level 5- of Joraga Treespeaker)
             done = true;
@@ -1076,7 +1176,7 @@ public class ContinuousEffects implements Serializable {
                     effect.apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                     done = false;
                     // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                    activeLayerEffects = getLayeredEffects(game, "apply");
+                    activeLayerEffects = loadLayeredEffects(game, "apply");
                 }
                 appliedEffects.add(effect.getId());
 
@@ -1103,7 +1203,7 @@ public class ContinuousEffects implements Serializable {
                         entry.getKey().apply(Layer.AbilityAddingRemovingEffects_6, SubLayer.NA, ability, game);
                         done = false;
                         // list must be updated after each applied effect (eg. if "Turn to Frog" removes abilities)
-                        activeLayerEffects = getLayeredEffects(game, "apply");
+                        activeLayerEffects = loadLayeredEffects(game, "apply");
                     }
                     appliedEffects.add(entry.getKey().getId());
                     iterator.remove();
@@ -1162,8 +1262,15 @@ public class ContinuousEffects implements Serializable {
         return object != null && object.hasAbility(ability, game);
     }
 
-    private void applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName) {
+    /**
+     * Apply single layer with dependencies support
+     *
+     * @param isObjectsChanged objects was changed after activeLayerEffects load
+     * @return actual active effects after the layer apply
+     */
+    private List<ContinuousEffect> applyLayer(List<ContinuousEffect> activeLayerEffects, Layer currentLayer, Game game, String timestampGroupName, boolean isObjectsChanged) {
         List<ContinuousEffect> layer = filterLayeredEffects(activeLayerEffects, currentLayer);
+        boolean isApplied = false;
         // layer is a list of all effects at the current layer
         if (!layer.isEmpty()) {
             int numberOfEffects = layer.size();
@@ -1183,9 +1290,10 @@ public class ContinuousEffects implements Serializable {
                 }
                 // apply the effect
                 applyContinuousEffect(effect, currentLayer, game);
+                isApplied = true;
                 // add it to the applied effects list
                 appliedEffects.add(effect.getId());
-                layer = getLayeredEffects(game, timestampGroupName);
+                layer = loadLayeredEffects(game, timestampGroupName);
 
                 // check waiting effects to see if it has anything to check
                 if (!waitingEffects.isEmpty()) {
@@ -1194,9 +1302,10 @@ public class ContinuousEffects implements Serializable {
                         // all dependent to effects are applied now so apply the effect itself
                         if (appliedEffects.containsAll(entry.getValue())) {
                             applyContinuousEffect(entry.getKey(), currentLayer, game);
+                            isApplied = true;
                             // add it to the applied effects list
                             appliedEffects.add(entry.getKey().getId());
-                            layer = getLayeredEffects(game, timestampGroupName);
+                            layer = loadLayeredEffects(game, timestampGroupName);
                         }
                     }
                 }
@@ -1205,14 +1314,26 @@ public class ContinuousEffects implements Serializable {
                         // all dependent to effects are applied now so apply the effect itself
                         if (appliedEffects.containsAll(entry.getValue())) {
                             applyContinuousEffect(entry.getKey(), currentLayer, game);
+                            isApplied = true;
                             // add it to the applied effects list
                             appliedEffects.add(entry.getKey().getId());
-                            layer = getLayeredEffects(game, timestampGroupName);
+                            layer = loadLayeredEffects(game, timestampGroupName);
                         }
                     }
                 }
             }
         }
+        if (!reuseActiveLayeredEffects) {
+            return loadLayeredEffects(game, timestampGroupName);
+        }
+        if (isApplied) {
+            // already reloaded after last applied effect
+            return layer;
+        }
+        if (isObjectsChanged) {
+            return loadLayeredEffects(game, timestampGroupName);
+        }
+        return reloadLayeredEffects(game, timestampGroupName);
     }
 
     private void applyContinuousEffect(ContinuousEffect effect, Layer currentLayer, Game game) {
@@ -45,6 +45,13 @@ public class ContinuousEffectsList<T extends ContinuousEffect> extends ArrayList
         return new ContinuousEffectsList<>(this);
     }
 
+    /**
+     * Structural changes counter (add, remove, clear), can be used to find out outdated data
+     */
+    public int getModCount() {
+        return modCount;
+    }
+
     public void removeEndOfTurnEffects(Game game) {
         // calls every turn on cleanup step (only end of turn duration)
         // rules 514.2
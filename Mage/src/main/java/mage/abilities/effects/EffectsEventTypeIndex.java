@@ -0,0 +1,170 @@
+package mage.abilities.effects;
+
+import mage.ApprovingObject;
+import mage.MageIdentifier;
+import mage.constants.Zone;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * Effects list split by event types for fast events processing (replacement, prevention and rule modifying effects)
+ * <p>
+ * Most events are not interesting for any effect, but each event had to call checksEventType for all effects in game.
+ * Index keeps a bucket with possible effects for each event type, so callers iterate over few effects only.
+ * <p>
+ * checksEventType must depend on event's type (and effect's settings) only, other checks must be in applies method.
+ * Effects with more complex checks (event's data or game's state usage) are detected by probe calls and put to all buckets.
+ * Buckets are calculated on first usage and reset on any list changes, original effects order keeps.
+ *
+ * @param <T>
+ */
+final class EffectsEventTypeIndex<T extends ContinuousEffect> {
+
+    interface EventTypeChecker<T> {
+        boolean checksEventType(T effect, GameEvent event, Game game);
+    }
+
+    private static final GameEvent[] probeEvents;
+
+    static {
+        GameEvent.EventType[] types = GameEvent.EventType.values();
+        probeEvents = new GameEvent[types.length];
+        for (GameEvent.EventType type : types) {
+            probeEvents[type.ordinal()] = new ProbeEvent(type);
+        }
+    }
+
+    private static final Game probeGame = (Game) Proxy.newProxyInstance(
+            Game.class.getClassLoader(),
+            new Class<?>[]{Game.class},
+            (proxy, method, args) -> {
+                throw ProbeException.instance;
+            }
+    );
+
+    private final EventTypeChecker<T> checker;
+    private ContinuousEffectsList<T> indexedList = null;
+    private int indexedModCount = 0;
+    private final Map<GameEvent.EventType, List<T>> buckets = new EnumMap<>(GameEvent.EventType.class);
+
+    EffectsEventTypeIndex(EventTypeChecker<T> checker) {
+        this.checker = checker;
+    }
+
+    /**
+     * @return effects that can check that event type (same order as in the list), don't change it
+     */
+    List<T> getEffects(ContinuousEffectsList<T> effects, GameEvent.EventType type) {
+        if (effects.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (indexedList != effects || indexedModCount != effects.getModCount()) {
+            buckets.clear();
+            indexedList = effects;
+            indexedModCount = effects.getModCount();
+        }
+        List<T> res = buckets.get(type);
+        if (res == null) {
+            for (T effect : effects) {
+                if (canCheckEventType(effect, type)) {
+                    if (res == null) {
+                        res = new ArrayList<>();
+                    }
+                    res.add(effect);
+                }
+            }
+            if (res == null) {
+                res = Collections.emptyList();
+            }
+            buckets.put(type, res);
+        }
+        return res;
+    }
+
+    private boolean canCheckEventType(T effect, GameEvent.EventType type) {
+        try {
+            return checker.checksEventType(effect, probeEvents[type.ordinal()], probeGame);
+        } catch (Throwable e) {
+            // complex check (event's data, game's state, events casting, etc), so it must be checked all the time
+            return true;
+        }
+    }
+
+    private static final class ProbeException extends RuntimeException {
+
+        private static final ProbeException instance = new ProbeException();
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+
+    /**
+     * Event with type only, any other data usage is a complex check
+     */
+    private static final class ProbeEvent extends GameEvent {
+
+        ProbeEvent(EventType type) {
+            super(type, null, null, null);
+        }
+
+        @Override
+        public UUID getId() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public UUID getTargetId() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public UUID getSourceId() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public UUID getPlayerId() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public int getAmount() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public boolean getFlag() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public String getData() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public Zone getZone() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public ApprovingObject getApprovingObject() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public List<UUID> getAppliedEffects() {
+            throw ProbeException.instance;
+        }
+
+        @Override
+        public boolean hasApprovingIdentifier(MageIdentifier identifier) {
+            throw ProbeException.instance;
+        }
+    }
+}
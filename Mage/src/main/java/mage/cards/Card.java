@@ -156,6 +156,15 @@ public interface Card extends MageObject, Ownerable {
 
     Counters getCounters(GameState state);
 
+    /**
+     * Counters for changes (card's counters can be shared between game state copies, so use it instead getCounters)
+     */
+    default Counters getCountersForUpdate(Game game) {
+        return getCountersForUpdate(game.getState());
+    }
+
+    Counters getCountersForUpdate(GameState state);
+
     void addAbility(Ability ability);
 
     void loseAllAbilities(Game game);
@@ -53,6 +53,49 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
     protected List<UUID> attachments = new ArrayList<>();
     protected boolean extraDeckCard = false;
 
+    private static final CardState EMPTY_CARD_STATE = new CardState(); // for cards without changes in game, read only
+
+    // cached getAbilities(game) result (calculates on usage, so no need to copy)
+    private transient GameAbilities gameAbilities;
+
+    /**
+     * Card's abilities with game's data and source lists state on creation
+     * (immutable, so it can be shared between threads)
+     */
+    private static final class GameAbilities {
+
+        private final CardState cardState;
+        private final Abilities<Ability> abilities;
+        private final int abilitiesModCount;
+        private final Abilities<Ability> stateAbilities;
+        private final int stateAbilitiesModCount;
+        private final boolean lostAllAbilities;
+        private final Abilities<Ability> all;
+        private final int allModCount;
+
+        private GameAbilities(CardState cardState, Abilities<Ability> abilities, Abilities<Ability> all) {
+            this.cardState = cardState;
+            this.abilities = abilities;
+            this.abilitiesModCount = abilities.getModCount();
+            this.stateAbilities = cardState.getAbilities();
+            this.stateAbilitiesModCount = this.stateAbilities.getModCount();
+            this.lostAllAbilities = cardState.hasLostAllAbilities();
+            this.all = all;
+            this.allModCount = all.getModCount();
+        }
+
+        private boolean isActual(CardState cardState, Abilities<Ability> abilities) {
+            // any changes in source lists or result (someone modified it) make it outdated
+            return this.cardState == cardState
+                    && this.abilities == abilities
+                    && this.abilitiesModCount == abilities.getModCount()
+                    && this.stateAbilities == cardState.getAbilities()
+                    && this.stateAbilitiesModCount == this.stateAbilities.getModCount()
+                    && this.lostAllAbilities == cardState.hasLostAllAbilities()
+                    && this.allModCount == all.getModCount();
+        }
+    }
+
     protected CardImpl(UUID ownerId, CardSetInfo setInfo, CardType[] cardTypes, String costs) {
         this(ownerId, setInfo, cardTypes, costs, SpellAbilityType.BASE);
     }
@@ -182,6 +225,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
                 Constructor<?> con = clazz.getConstructor(UUID.class, CardSetInfo.class);
                 card = (Card) con.newInstance(null, setInfo);
             }
+            AbilityRulesCache.markCardAbilities(card);
             return card;
         } catch (Exception e) {
             String err = "Error loading card: " + clazz.getCanonicalName() + " (" + setCode + ")";
@@ -216,7 +260,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public void addInfo(String key, String value, Game game) {
-        game.getState().getCardState(objectId).addInfo(key, value);
+        game.getState().getCardStateForUpdate(objectId).addInfo(key, value);
     }
 
     @Override
@@ -257,7 +301,14 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
         CardState cardState = game.getState().getCardState(this.getId());
         if (cardState == null) {
-            return abilities;
+            cardState = EMPTY_CARD_STATE;
+        }
+
+        // main card's abilities can be reused until it changed (other parts can get abilities from main card)
+        boolean isMainCard = this.getId().equals(this.getMainCard().getId());
+        GameAbilities cached = this.gameAbilities;
+        if (isMainCard && cached != null && cached.isActual(cardState, abilities)) {
+            return cached.all;
         }
 
         // collects all abilities
@@ -272,7 +323,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
         all.addAll(cardState.getAbilities());
 
         // workaround to add dynamic flashback ability from main card to all parts (example: Snapcaster Mage gives flashback to split card)
-        if (!this.getId().equals(this.getMainCard().getId())) {
+        if (!isMainCard) {
             CardState mainCardState = game.getState().getCardState(this.getMainCard().getId());
             if (this.getSpellAbility() != null // lands can't be casted (haven't spell ability), so ignore it
                     && mainCardState != null
@@ -287,12 +338,15 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
             }
         }
 
+        if (isMainCard && AbilitiesImpl.isCacheEnabled()) {
+            this.gameAbilities = new GameAbilities(cardState, abilities, all);
+        }
         return all;
     }
 
     @Override
     public void loseAllAbilities(Game game) {
-        CardState cardState = game.getState().getCardState(this.getId());
+        CardState cardState = game.getState().getCardStateForUpdate(this.getId());
         cardState.setLostAllAbilities(true);
         cardState.getAbilities().clear();
     }
@@ -605,12 +659,13 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public void setFaceDown(boolean value, Game game) {
-        game.getState().getCardState(objectId).setFaceDown(value);
+        game.getState().getCardStateForUpdate(objectId).setFaceDown(value);
     }
 
     @Override
     public boolean isFaceDown(Game game) {
-        return game.getState().getCardState(objectId).isFaceDown();
+        CardState cardState = game.getState().getCardState(objectId);
+        return cardState != null && cardState.isFaceDown();
     }
 
     @Override
@@ -733,7 +788,13 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
 
     @Override
     public Counters getCounters(GameState state) {
-        return state.getCardState(this.objectId).getCounters();
+        CardState cardState = state.getCardState(this.objectId);
+        return cardState == null ? new Counters() : cardState.getCounters();
+    }
+
+    @Override
+    public Counters getCountersForUpdate(GameState state) {
+        return state.getCardStateForUpdate(this.objectId).getCounters();
     }
 
     @Override
@@ -789,7 +850,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
                 addingOneEvent.setAppliedEffects(appliedEffects);
                 addingOneEvent.setFlag(isEffectFlag);
                 if (!game.replaceEvent(addingOneEvent)) {
-                    getCounters(game).addCounter(eventCounter);
+                    getCountersForUpdate(game).addCounter(eventCounter);
                     GameEvent addedOneEvent = GameEvent.getEvent(GameEvent.EventType.COUNTER_ADDED, objectId, source, playerAddingCounters, counter.getName(), 1);
                     addedOneEvent.setFlag(addingOneEvent.getFlag());
                     game.fireEvent(addedOneEvent);
@@ -840,7 +901,7 @@ public abstract class CardImpl extends MageObjectImpl implements Card {
                 continue;
             }
 
-            if (!getCounters(game).removeCounter(counterName, 1)) {
+            if (!getCountersForUpdate(game).removeCounter(counterName, 1)) {
                 break;
             }
 
@@ -0,0 +1,206 @@
+package mage.cards;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import mage.MageObjectImpl;
+import mage.abilities.Ability;
+import mage.abilities.AbilityImpl;
+import mage.util.CacheStats;
+import mage.watchers.Watcher;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cards creation from prototypes: card's constructor runs one time only, other cards are copies with new ids
+ * <p>
+ * Decks, boosters and pools contain same cards many times (e.g. commander decks, basic lands, each game and round
+ * loads decks again), so reflection and abilities creation for each card is too slow.
+ * <p>
+ * Memory is limited by max prototypes amount and soft references (GC can free it).
+ * Multi part cards (split, mdf, transform, meld, adventure) and cards with linked abilities are not supported
+ * and use constructor as before (checks one time per card's class, see isSupported).
+ * <p>
+ * Disable it by -Dxmage.cardPrototypes=false
+ */
+public final class CardPrototypeCache {
+
+    private static final int MAX_PROTOTYPES = 5000;
+
+    private static final boolean USE_PROTOTYPES = Boolean.parseBoolean(System.getProperty("xmage.cardPrototypes", "true"));
+
+    private static final CacheStats stats = CacheStats.get("card prototypes");
+    private static final Cache<String, Card> prototypes = CacheBuilder
+            .newBuilder()
+            .maximumSize(MAX_PROTOTYPES)
+            .softValues()
+            .removalListener(notification -> {
+                if (notification.wasEvicted()) {
+                    stats.addEvictions(1);
+                }
+            })
+            .build();
+    private static final Set<String> unsupportedClasses = ConcurrentHashMap.newKeySet();
+
+    private CardPrototypeCache() {
+    }
+
+    /**
+     * Same as CardImpl.createCard, but uses prototype's copy if possible
+     *
+     * @return new card with unique ids or null on creation error
+     */
+    public static Card createCard(String className, CardSetInfo setInfo) {
+        if (!USE_PROTOTYPES || setInfo == null || unsupportedClasses.contains(className)) {
+            return CardImpl.createCard(className, setInfo);
+        }
+
+        String key = getKey(className, setInfo);
+        Card prototype = prototypes.getIfPresent(key);
+        if (prototype != null) {
+            stats.addHit();
+            Card card;
+            synchronized (prototype) {
+                // prototype is never changed, but can be copied from many threads
+                card = prototype.copy();
+            }
+            card.assignNewId();
+            return card;
+        }
+
+        stats.addMiss();
+        Card card = CardImpl.createCard(className, setInfo);
+        if (card == null) {
+            return null;
+        }
+        if (!isSupported(card)) {
+            unsupportedClasses.add(className);
+            return card;
+        }
+        // keep own copy, new card can be changed by caller
+        prototypes.put(key, card.copy());
+        return card;
+    }
+
+    /**
+     * Copy with new ids must be same as new card:
+     * - multi part cards keep links to other parts;
+     * - sub abilities are different objects after copy, so it can't get same new ids;
+     * - some abilities, effects and watchers keep links to the card or ids of other abilities from constructor
+     * (e.g. foretell, madness, replicate, Cavern of Souls), new ids will break it;
+     */
+    private static boolean isSupported(Card card) {
+        if (!(card instanceof CardImpl)
+                || card instanceof CardWithHalves
+                || card instanceof CardWithSpellOption
+                || card instanceof MeldCard
+                || card.getSecondCardFace() != null
+                || card.getMeldsToClazz() != null) {
+            return false;
+        }
+
+        Set<UUID> ids = new HashSet<>();
+        ids.add(card.getId());
+        for (Ability ability : card.getAbilities()) {
+            if (!ability.getSubAbilities().isEmpty()) {
+                return false;
+            }
+            ids.add(ability.getId());
+            ids.add(ability.getOriginalId());
+        }
+        return !hasLinks(card, ids);
+    }
+
+    /**
+     * Search card's objects graph for links to the card or card's ids (except ids updated by assignNewId)
+     */
+    private static boolean hasLinks(Card card, Set<UUID> ids) {
+        Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Object> objects = new ArrayDeque<>();
+        objects.add(card);
+        visited.add(card);
+        while (!objects.isEmpty()) {
+            Object object = objects.poll();
+            List<Object> values = new ArrayList<>();
+            if (object instanceof Object[]) {
+                values.addAll(Arrays.asList((Object[]) object));
+            } else if (object instanceof Collection) {
+                values.addAll((Collection<?>) object);
+            } else if (object instanceof Map) {
+                values.addAll(((Map<?, ?>) object).keySet());
+                values.addAll(((Map<?, ?>) object).values());
+            }
+            // collections from mage classes can contain own fields too
+            for (Class<?> clazz = object.getClass(); clazz != null && isMageClass(clazz); clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())
+                            || field.getType().isPrimitive()
+                            || isAssignedIdField(field)) {
+                        continue;
+                    }
+                    try {
+                        field.setAccessible(true);
+                        values.add(field.get(object));
+                    } catch (RuntimeException | IllegalAccessException e) {
+                        return true;
+                    }
+                }
+            }
+
+            for (Object value : values) {
+                if (value == null) {
+                    continue;
+                }
+                if (value instanceof UUID) {
+                    if (ids.contains(value)) {
+                        return true;
+                    }
+                    continue;
+                }
+                if (value instanceof Card) {
+                    return true;
+                }
+                if ((value instanceof Object[] || value instanceof Collection || value instanceof Map || isMageClass(value.getClass()))
+                        && !value.getClass().isEnum()
+                        && visited.add(value)) {
+                    objects.add(value);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isMageClass(Class<?> clazz) {
+        return clazz.getName().startsWith("mage.") || clazz.getName().startsWith("org.mage.");
+    }
+
+    private static boolean isAssignedIdField(Field field) {
+        Class<?> clazz = field.getDeclaringClass();
+        String name = field.getName();
+        return (clazz == MageObjectImpl.class && name.equals("objectId"))
+                || (clazz == AbilityImpl.class && (name.equals("id") || name.equals("originalId") || name.equals("sourceId")))
+                || (clazz == Watcher.class && name.equals("sourceId"));
+    }
+
+    private static String getKey(String className, CardSetInfo setInfo) {
+        StringBuilder key = new StringBuilder(className)
+                .append('|').append(setInfo.getName())
+                .append('|').append(setInfo.getExpansionSetCode())
+                .append('|').append(setInfo.getCardNumber())
+                .append('|').append(setInfo.getRarity());
+        CardGraphicInfo graphicInfo = setInfo.getGraphicInfo();
+        if (graphicInfo != null) {
+            key.append('|').append(graphicInfo.getFrameStyle())
+                    .append('|').append(graphicInfo.getUsesVariousArt())
+                    .append('|').append(graphicInfo.getFrameColor());
+        }
+        return key.toString();
+    }
+
+    public static void clear() {
+        prototypes.invalidateAll();
+        unsupportedClasses.clear();
+    }
+}
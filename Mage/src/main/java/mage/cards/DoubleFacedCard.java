@@ -179,7 +179,12 @@ public abstract class DoubleFacedCard extends CardImpl implements CardWithHalves
 
     @Override
     public Counters getCounters(GameState state) {
-        return state.getCardState(leftHalfCard.getId()).getCounters();
+        return leftHalfCard.getCounters(state);
+    }
+
+    @Override
+    public Counters getCountersForUpdate(GameState state) {
+        return leftHalfCard.getCountersForUpdate(state);
     }
 
     @Override
@@ -4,6 +4,7 @@ import mage.abilities.Ability;
 import mage.constants.CardType;
 import mage.constants.Zone;
 import mage.counters.Counter;
+import mage.game.CardState;
 import mage.game.Game;
 import mage.game.events.ZoneChangeEvent;
 import mage.game.permanent.Permanent;
@@ -42,11 +43,12 @@ public abstract class MeldCard extends CardImpl {
     public abstract MeldCard copy();
 
     public void setMelded(boolean isMelded, Game game) {
-        game.getState().getCardState(getId()).setMelded(isMelded);
+        game.getState().getCardStateForUpdate(getId()).setMelded(isMelded);
     }
 
     public boolean isMelded(Game game) {
-        return game.getState().getCardState(getId()).isMelded();
+        CardState cardState = game.getState().getCardState(getId());
+        return cardState != null && cardState.isMelded();
     }
 
     public Card getTopHalfCard() {
@@ -8,6 +8,7 @@ import mage.constants.CardType;
 import mage.constants.ColoredManaSymbol;
 import mage.constants.Rarity;
 import mage.filter.FilterMana;
+import mage.util.ClassIndex;
 import mage.util.ClassScanner;
 import mage.util.RandomUtil;
 import org.apache.log4j.Logger;
@@ -31,7 +32,13 @@ public class Sets extends HashMap<String, ExpansionSet> {
     private Sets() {
         List<String> packages = new ArrayList<>();
         packages.add("mage.sets");
-        for (Class c : ClassScanner.findClasses(null, packages, ExpansionSet.class)) {
+        // fast load from build time index (see Mage.Sets/pom.xml), full jars scan for non maven builds only
+        List<Class> setClasses = ClassIndex.findClasses(null, packages, ExpansionSet.class);
+        if (setClasses == null) {
+            logger.info("Sets: class index not found, scanning classpath");
+            setClasses = ClassScanner.findClasses(null, packages, ExpansionSet.class);
+        }
+        for (Class c : setClasses) {
             try {
                 addSet((ExpansionSet) c.getMethod("getInstance").invoke(null));
             } catch (Exception ex) {
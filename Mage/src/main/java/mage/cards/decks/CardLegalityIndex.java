@@ -0,0 +1,99 @@
+package mage.cards.decks;
+
+import mage.cards.repository.CardRepository;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Deck validation: card name to legal formats bitset
+ * <p>
+ * Card legality by format's rules (printed in allowed sets, rarities, etc) is static data, so it's calculated
+ * one time per card and format (first validation of the card) and reused by all validators of the format.
+ * Data resets on cards db changes or on too many formats (validators with dynamic rules like Super Type 2
+ * can make new formats for each deck).
+ */
+public final class CardLegalityIndex {
+
+    private static final int MAX_FORMATS = 1000;
+
+    private static volatile Index index = new Index(-1);
+
+    private CardLegalityIndex() {
+    }
+
+    private static final class LegalityBits {
+        private final BitSet checked = new BitSet();
+        private final BitSet legal = new BitSet();
+    }
+
+    /**
+     * All data must be replaced together, so threads with older index can't mix format ids
+     */
+    private static final class Index {
+        private final Map<String, Integer> formatIds = new ConcurrentHashMap<>(); // format's rules -> bit index
+        private final AtomicInteger nextFormatId = new AtomicInteger();
+        private final Map<String, LegalityBits> cards = new ConcurrentHashMap<>(); // card name -> formats
+        private final long cardsDbVersion;
+
+        private Index(long cardsDbVersion) {
+            this.cardsDbVersion = cardsDbVersion;
+        }
+
+        private boolean isActual(long currentDbVersion) {
+            return cardsDbVersion == currentDbVersion && formatIds.size() < MAX_FORMATS;
+        }
+    }
+
+    /**
+     * @param formatKey unique key of the format's rules (same rules must use same key)
+     * @param cardName  card to check
+     * @param check     full check for a new card
+     */
+    public static boolean isLegal(String formatKey, String cardName, Predicate<String> check) {
+        Index current = getIndex();
+
+        int formatId = current.formatIds.computeIfAbsent(formatKey, x -> current.nextFormatId.getAndIncrement());
+        LegalityBits bits = current.cards.computeIfAbsent(cardName, x -> new LegalityBits());
+        synchronized (bits) {
+            if (bits.checked.get(formatId)) {
+                return bits.legal.get(formatId);
+            }
+        }
+
+        // full check can be slow (db queries), so run it without locks
+        boolean legal = check.test(cardName);
+        synchronized (bits) {
+            bits.checked.set(formatId);
+            bits.legal.set(formatId, legal);
+        }
+        return legal;
+    }
+
+    private static Index getIndex() {
+        long currentVersion = CardRepository.instance.getCardsDbVersion();
+        Index current = index;
+        if (current.isActual(currentVersion)) {
+            return current;
+        }
+        synchronized (CardLegalityIndex.class) {
+            current = index;
+            if (!current.isActual(currentVersion)) {
+                current = new Index(currentVersion);
+                index = current;
+            }
+            return current;
+        }
+    }
+
+    public static int getFormatsCount() {
+        return index.formatIds.size();
+    }
+
+    public static void clear() {
+        index = new Index(-1);
+    }
+}
@@ -6,8 +6,10 @@ import mage.cards.repository.CardRepository;
 import mage.constants.Rarity;
 import org.apache.log4j.Logger;
 
+import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -22,6 +24,9 @@ public class Constructed extends DeckValidator {
     protected List<Rarity> rarities = new ArrayList<>();
     protected Set<String> singleCards = new HashSet<>();
 
+    private final LegalityKey raritiesKey = new LegalityKey("rarities");
+    private final LegalityKey setsKey = new LegalityKey("sets");
+
     protected Constructed(String name) {
         this(name, null);
     }
@@ -291,14 +296,15 @@ public class Constructed extends DeckValidator {
      */
     protected boolean legalRarity(Card card) {
         // check if card is legal if taken from other set
-        boolean legal = false;
-        List<CardInfo> cardInfos = CardRepository.instance.findCards(card.getName());
-        for (CardInfo cardInfo : cardInfos) {
-            if (rarities.contains(cardInfo.getRarity())) {
-                legal = true;
-                break;
+        boolean legal = CardLegalityIndex.isLegal(raritiesKey.get(rarities), card.getName(), cardName -> {
+            List<CardInfo> cardInfos = CardRepository.instance.findCards(cardName);
+            for (CardInfo cardInfo : cardInfos) {
+                if (rarities.contains(cardInfo.getRarity())) {
+                    return true;
+                }
             }
-        }
+            return false;
+        });
         if (!legal && !errorsListContainsGroup(card.getName())) {
             addError(DeckValidatorErrorType.OTHER, card.getName(), "Invalid rarity: " + card.getRarity(), true);
         }
@@ -323,14 +329,15 @@ public class Constructed extends DeckValidator {
      */
     protected boolean legalSets(Card card) {
         // check if card is legal if taken from other set
-        boolean legal = false;
-        List<CardInfo> cardInfos = CardRepository.instance.findCards(card.getName());
-        for (CardInfo cardInfo : cardInfos) {
-            if (isSetAllowed(cardInfo.getSetCode())) {
-                legal = true;
-                break;
+        boolean legal = CardLegalityIndex.isLegal(setsKey.get(setCodes), card.getName(), cardName -> {
+            List<CardInfo> cardInfos = CardRepository.instance.findCards(cardName);
+            for (CardInfo cardInfo : cardInfos) {
+                if (isSetAllowed(cardInfo.getSetCode())) {
+                    return true;
+                }
             }
-        }
+            return false;
+        });
 
         // check if single card allows
         if (singleCards.contains(card.getName())) {
@@ -343,6 +350,33 @@ public class Constructed extends DeckValidator {
         return legal;
     }
 
+    /**
+     * Format's rules key for legality index, calculates on rules change only
+     * (validators can change allowed sets/rarities, e.g. Super Type 2)
+     */
+    private final class LegalityKey implements Serializable {
+
+        private final String checkType;
+        private List<?> allowed = null;
+        private String key = null;
+
+        private LegalityKey(String checkType) {
+            this.checkType = checkType;
+        }
+
+        private String get(List<?> currentAllowed) {
+            if (key == null || !currentAllowed.equals(allowed)) {
+                allowed = new ArrayList<>(currentAllowed);
+                // full allowed list (hash can collide for different lists)
+                key = Constructed.this.getClass().getName() + "|" + checkType + "|" + currentAllowed.stream()
+                        .map(String::valueOf)
+                        .sorted()
+                        .collect(Collectors.joining(","));
+            }
+            return key;
+        }
+    }
+
     protected boolean checkCounts(int maxCopies, Map<String, Integer> counts) {
         boolean valid = true;
         for (Entry<String, Integer> entry : counts.entrySet()) {
@@ -0,0 +1,161 @@
+package mage.cards.repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Read only in-memory copy of the cards db with hashed indexes for hot lookups (by name, set and number, class)
+ * <p>
+ * Built one time from the db (in background) and replaced by a new one on any db changes, so it's safe to read from many threads
+ * without locks. Results are same as db queries in CardRepository, including rows order.
+ * <p>
+ * Don't change returned CardInfo objects - it's shared between all callers.
+ */
+final class CardCatalog {
+
+    private final List<CardInfo> cards;
+    private final Map<String, List<CardInfo>> byName = new HashMap<>();
+    private final Map<String, List<CardInfo>> byOtherName = new HashMap<>(); // flip, second side, spell option names
+    private final Map<String, List<CardInfo>> bySetAndNumber = new HashMap<>();
+    private final Map<String, List<CardInfo>> byClassName = new HashMap<>();
+    private final Map<String, Set<String>> namesCache = new ConcurrentHashMap<>();
+    private volatile CardSearchIndex searchIndex; // calculates on first search
+
+    CardCatalog(List<CardInfo> cards) {
+        this.cards = Collections.unmodifiableList(new ArrayList<>(cards));
+        for (CardInfo card : this.cards) {
+            addToIndex(byName, card.getName(), card);
+            // same card can use same name in many fields
+            Set<String> otherNames = new HashSet<>(Arrays.asList(
+                    card.getFlipCardName(),
+                    card.getSecondSideName(),
+                    card.getSpellOptionCardName(),
+                    card.getDoubleFacedSecondSideName()
+            ));
+            for (String otherName : otherNames) {
+                addToIndex(byOtherName, otherName, card);
+            }
+            addToIndex(bySetAndNumber, getSetAndNumberKey(card.getSetCode(), card.getCardNumber()), card);
+            addToIndex(byClassName, card.getClassName(), card);
+        }
+    }
+
+    private static void addToIndex(Map<String, List<CardInfo>> index, String key, CardInfo card) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        index.computeIfAbsent(toKey(key), x -> new ArrayList<>(1)).add(card);
+    }
+
+    private static List<CardInfo> findInIndex(Map<String, List<CardInfo>> index, String key) {
+        return key == null ? Collections.emptyList() : index.getOrDefault(toKey(key), Collections.emptyList());
+    }
+
+    /**
+     * Db uses IGNORECASE mode for texts, so indexes too
+     */
+    private static String toKey(String text) {
+        return text.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static String getSetAndNumberKey(String setCode, String cardNumber) {
+        return setCode + "|" + cardNumber;
+    }
+
+    private static List<CardInfo> limit(List<CardInfo> list, long limitByMaxAmount) {
+        if (limitByMaxAmount > 0 && list.size() > limitByMaxAmount) {
+            return new ArrayList<>(list.subList(0, (int) limitByMaxAmount));
+        }
+        return new ArrayList<>(list);
+    }
+
+    /**
+     * Same as CardRepository.findCard(setCode, cardNumber, ignoreNightCards)
+     */
+    CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        CardInfo nightCard = null;
+        for (CardInfo card : findInIndex(bySetAndNumber, getSetAndNumberKey(setCode, cardNumber))) {
+            if (!card.isNightCard()) {
+                return card;
+            }
+            if (nightCard == null) {
+                nightCard = card;
+            }
+        }
+        return ignoreNightCards ? null : nightCard;
+    }
+
+    /**
+     * Same as CardRepository.findCards(name, limitByMaxAmount, returnSplitCardHalf)
+     */
+    List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf) {
+        if (name.contains(" // ")) {
+            // split cards use full name, other multi names cards use main name
+            List<CardInfo> results = findInIndex(byName, name);
+            if (results.isEmpty()) {
+                results = findInIndex(byName, name.split(" // ", 2)[0]);
+            }
+            return limit(results, limitByMaxAmount);
+        }
+
+        List<CardInfo> results = findInIndex(byName, name);
+        if (results.isEmpty()) {
+            return limit(findInIndex(byOtherName, name), limitByMaxAmount);
+        }
+
+        CardInfo firstCardInfo = results.get(0);
+        if (firstCardInfo.isSplitCardHalf() && !returnSplitCardHalf) {
+            // search by half's name must return full split card
+            String fullSplitCardName = findInIndex(bySetAndNumber, getSetAndNumberKey(firstCardInfo.getSetCode(), firstCardInfo.getCardNumber()))
+                    .stream()
+                    .filter(CardInfo::isSplitCard)
+                    .map(CardInfo::getName)
+                    .findFirst()
+                    .orElse(null);
+            if (fullSplitCardName == null) {
+                return new ArrayList<>();
+            }
+            results = findInIndex(byName, fullSplitCardName);
+        }
+        return limit(results, limitByMaxAmount);
+    }
+
+    List<CardInfo> findCardsByClass(String className) {
+        return limit(findInIndex(byClassName, className), 0);
+    }
+
+    /**
+     * Names of all cards that fit the filter (including names of other sides and halves), calculates one time only
+     *
+     * @return shared read only set
+     */
+    Set<String> getNames(String cacheKey, Predicate<CardInfo> filter) {
+        return namesCache.computeIfAbsent(cacheKey, x -> {
+            Set<String> names = new TreeSet<>();
+            for (CardInfo card : cards) {
+                if (filter.test(card)) {
+                    CardRepository.addNewNames(card, names);
+                }
+            }
+            return Collections.unmodifiableSet(names);
+        });
+    }
+
+    /**
+     * Same as CardRepository.findCards(criteria), see CardSearchIndex.isSupported for possible criteria
+     */
+    List<CardInfo> findCards(CardCriteria criteria) {
+        CardSearchIndex index = searchIndex;
+        if (index == null) {
+            synchronized (this) {
+                index = searchIndex;
+                if (index == null) {
+                    index = new CardSearchIndex(cards);
+                    searchIndex = index;
+                }
+            }
+        }
+        return index.findCards(criteria);
+    }
+}
@@ -247,7 +247,7 @@ public class CardInfo {
      * Create normal card (with full abilities)
      */
     public Card createCard() {
-        return CardImpl.createCard(className, new CardSetInfo(name, setCode, cardNumber, rarity, new CardGraphicInfo(FrameStyle.valueOf(frameStyle), variousArt)));
+        return CardPrototypeCache.createCard(className, new CardSetInfo(name, setCode, cardNumber, rarity, new CardGraphicInfo(FrameStyle.valueOf(frameStyle), variousArt)));
     }
 
     /**
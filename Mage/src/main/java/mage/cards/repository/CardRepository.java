@@ -14,12 +14,16 @@ import mage.constants.CardType;
 import mage.constants.SetType;
 import mage.constants.SuperType;
 import mage.util.RandomUtil;
+import mage.util.ThreadUtils;
+import mage.util.XmageThreadFactory;
 import org.apache.log4j.Logger;
 
 import java.io.File;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -43,6 +47,20 @@ public enum CardRepository {
 
     private Dao<CardInfo, Object> cardsDao;
 
+    // in-memory copy of the db for fast lookups without locks (use -Dxmage.cardCatalog=false for db queries only)
+    private static final boolean USE_CATALOG = Boolean.parseBoolean(System.getProperty("xmage.cardCatalog", "true"));
+
+    // in-memory index for criteria searches instead db's LIKE scans (use -Dxmage.cardSearchIndex=false for db queries only)
+    private static final boolean USE_SEARCH_INDEX = Boolean.parseBoolean(System.getProperty("xmage.cardSearchIndex", "true"));
+
+    // db queries only in current thread, see queryDatabaseOnly
+    private static final ThreadLocal<Boolean> databaseOnlyQueries = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private volatile CardCatalog catalog; // null - must be loaded from db
+    private volatile long catalogVersion = 0; // db changes counter, protection from old data on db changes while loading
+    private final AtomicBoolean catalogLoading = new AtomicBoolean(false);
+    private final Object catalogLock = new Object();
+
     // store names lists like all cards, lands, etc (it's static data and can be calculated one time only)
     private static final Map<String, Set<String>> namesQueryCache = new HashMap<>();
 
@@ -122,10 +140,94 @@ public enum CardRepository {
             setContentVersion(newContentVersion);
         } catch (Exception ex) {
             //
+        } finally {
+            resetCatalog();
+        }
+    }
+
+    /**
+     * Run repository queries without in-memory catalog in current thread (use it for results checks and benchmarks only)
+     */
+    public <T> T queryDatabaseOnly(Supplier<T> query) {
+        Boolean oldValue = databaseOnlyQueries.get();
+        databaseOnlyQueries.set(Boolean.TRUE);
+        try {
+            return query.get();
+        } finally {
+            databaseOnlyQueries.set(oldValue);
+        }
+    }
+
+    /**
+     * @return catalog with all db cards or null if it's disabled or not loaded yet (loading starts in background)
+     */
+    private CardCatalog getCatalog() {
+        if (!USE_CATALOG || databaseOnlyQueries.get()) {
+            return null;
+        }
+        CardCatalog res = catalog;
+        if (res == null && catalogLoading.compareAndSet(false, true)) {
+            // db queries will be used until catalog is ready
+            new XmageThreadFactory(ThreadUtils.THREAD_PREFIX_SERVICE_CARDS_CATALOG).newThread(() -> {
+                try {
+                    loadCatalog();
+                } finally {
+                    catalogLoading.set(false);
+                }
+            }).start();
+        }
+        return res;
+    }
+
+    /**
+     * Load catalog from db (runs in background by default, can be called directly to wait)
+     */
+    public void loadCatalog() {
+        long version;
+        synchronized (catalogLock) {
+            if (catalog != null) {
+                return;
+            }
+            version = catalogVersion;
+        }
+
+        List<CardInfo> cards;
+        try {
+            long start = System.currentTimeMillis();
+            cards = cardsDao.queryForAll();
+            if (cards.isEmpty()) {
+                // db not ready yet (e.g. before cards scan)
+                return;
+            }
+            CardCatalog newCatalog = new CardCatalog(cards);
+            synchronized (catalogLock) {
+                // db can be changed while loading
+                if (version == catalogVersion) {
+                    catalog = newCatalog;
+                    logger.info("DB: cards catalog loaded, " + cards.size() + " cards in " + (System.currentTimeMillis() - start) + " ms");
+                }
+            }
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error loading cards catalog from DB - " + e, e);
+            processMemoryErrors(e);
         }
     }
 
-    private void addNewNames(CardInfo card, Set<String> namesList) {
+    /**
+     * In-memory counter of cards db changes (new cards, db reopen), use it to reset own caches with db data
+     */
+    public long getCardsDbVersion() {
+        return catalogVersion;
+    }
+
+    private void resetCatalog() {
+        synchronized (catalogLock) {
+            catalog = null;
+            catalogVersion++;
+        }
+    }
+
+    static void addNewNames(CardInfo card, Set<String> namesList) {
         // require before call: qb.distinct().selectColumns("name", "doubleFacedSecondSideName"...);
 
         // normal names
@@ -159,7 +261,15 @@ public enum CardRepository {
         return snowLandSetCodes.contains(setCode);
     }
 
-    public synchronized Set<String> getNames() {
+    public Set<String> getNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getNames", card -> true);
+        }
+        return getNamesFromDB();
+    }
+
+    private synchronized Set<String> getNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -178,7 +288,15 @@ public enum CardRepository {
         return names;
     }
 
-    public synchronized Set<String> getNonLandNames() {
+    public Set<String> getNonLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getNonLandNames", card -> !card.getTypes().contains(CardType.LAND));
+        }
+        return getNonLandNamesFromDB();
+    }
+
+    private synchronized Set<String> getNonLandNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getNonLandNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -198,7 +316,15 @@ public enum CardRepository {
         return names;
     }
 
-    public synchronized Set<String> getNonbasicLandNames() {
+    public Set<String> getNonbasicLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getNonbasicLandNames", card -> !card.getSupertypes().contains(SuperType.BASIC) && card.getTypes().contains(CardType.LAND));
+        }
+        return getNonbasicLandNamesFromDB();
+    }
+
+    private synchronized Set<String> getNonbasicLandNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getNonbasicLandNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -222,7 +348,15 @@ public enum CardRepository {
         return names;
     }
 
-    public synchronized Set<String> getNotBasicLandNames() {
+    public Set<String> getNotBasicLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getNotBasicLandNames", card -> !card.getSupertypes().contains(SuperType.BASIC));
+        }
+        return getNotBasicLandNamesFromDB();
+    }
+
+    private synchronized Set<String> getNotBasicLandNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getNotBasicLandNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -242,7 +376,15 @@ public enum CardRepository {
         return names;
     }
 
-    public synchronized Set<String> getCreatureNames() {
+    public Set<String> getCreatureNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getCreatureNames", card -> card.getTypes().contains(CardType.CREATURE));
+        }
+        return getCreatureNamesFromDB();
+    }
+
+    private synchronized Set<String> getCreatureNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getCreatureNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -262,7 +404,15 @@ public enum CardRepository {
         return names;
     }
 
-    public synchronized Set<String> getArtifactNames() {
+    public Set<String> getArtifactNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getArtifactNames", card -> card.getTypes().contains(CardType.ARTIFACT));
+        }
+        return getArtifactNamesFromDB();
+    }
+
+    private synchronized Set<String> getArtifactNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getArtifactNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -282,7 +432,15 @@ public enum CardRepository {
         return names;
     }
 
-    public synchronized Set<String> getNonLandAndNonCreatureNames() {
+    public Set<String> getNonLandAndNonCreatureNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getNonLandAndNonCreatureNames", card -> !card.getTypes().contains(CardType.CREATURE) && !card.getTypes().contains(CardType.LAND));
+        }
+        return getNonLandAndNonCreatureNamesFromDB();
+    }
+
+    private synchronized Set<String> getNonLandAndNonCreatureNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getNonLandAndNonCreatureNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -306,7 +464,15 @@ public enum CardRepository {
         return names;
     }
 
-    public synchronized Set<String> getNonArtifactAndNonLandNames() {
+    public Set<String> getNonArtifactAndNonLandNames() {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.getNames("getNonArtifactAndNonLandNames", card -> !card.getTypes().contains(CardType.ARTIFACT) && !card.getTypes().contains(CardType.LAND));
+        }
+        return getNonArtifactAndNonLandNamesFromDB();
+    }
+
+    private synchronized Set<String> getNonArtifactAndNonLandNamesFromDB() {
         Set<String> names = namesQueryCache.computeIfAbsent("getNonArtifactAndNonLandNames", x -> new TreeSet<>());
         if (!names.isEmpty()) {
             return names;
@@ -335,6 +501,10 @@ public enum CardRepository {
     }
 
     public CardInfo findCard(String setCode, String cardNumber, boolean ignoreNightCards) {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.findCard(setCode, cardNumber, ignoreNightCards);
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             if (ignoreNightCards) {
@@ -508,6 +678,14 @@ public enum CardRepository {
      * @canCheckDatabaseHealth try to fix database on any errors (use true anytime except fix methods itself)
      */
     public List<CardInfo> findCards(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.findCards(name, limitByMaxAmount, returnSplitCardHalf);
+        }
+        return findCardsInDB(name, limitByMaxAmount, returnSplitCardHalf, canCheckDatabaseHealth);
+    }
+
+    private List<CardInfo> findCardsInDB(String name, long limitByMaxAmount, boolean returnSplitCardHalf, boolean canCheckDatabaseHealth) {
         List<CardInfo> results;
         QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
         if (limitByMaxAmount > 0) {
@@ -584,6 +762,10 @@ public enum CardRepository {
     }
 
     public List<CardInfo> findCardsByClass(String canonicalClassName) {
+        CardCatalog cardCatalog = getCatalog();
+        if (cardCatalog != null) {
+            return cardCatalog.findCardsByClass(canonicalClassName);
+        }
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             queryBuilder.where().eq("className", new SelectArg(canonicalClassName));
@@ -605,6 +787,19 @@ public enum CardRepository {
      * @return
      */
     public List<CardInfo> findCards(CardCriteria criteria) {
+        if (USE_SEARCH_INDEX && CardSearchIndex.isSupported(criteria)) {
+            CardCatalog cardCatalog = getCatalog();
+            if (cardCatalog != null) {
+                return cardCatalog.findCards(criteria);
+            }
+        }
+        return findCardsInDatabase(criteria);
+    }
+
+    /**
+     * Same as findCards, but without in-memory search index (use it for results checks and benchmarks only)
+     */
+    public List<CardInfo> findCardsInDatabase(CardCriteria criteria) {
         try {
             QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
             criteria.buildQuery(queryBuilder);
@@ -673,6 +868,70 @@ public enum CardRepository {
         return CARD_CONTENT_VERSION;
     }
 
+    /**
+     * Fast check for scanner: all set code and card number pairs in one query (setCode + "|" + cardNumber)
+     */
+    public Set<String> getSetCodeAndNumberKeys() {
+        Set<String> keys = new HashSet<>();
+        try {
+            QueryBuilder<CardInfo, Object> queryBuilder = cardsDao.queryBuilder();
+            queryBuilder.selectColumns("setCode", "cardNumber");
+            for (CardInfo card : cardsDao.query(queryBuilder.prepare())) {
+                keys.add(card.getSetCode() + "|" + card.getCardNumber());
+            }
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error getting card keys from DB - " + e, e);
+            processMemoryErrors(e);
+        }
+        return keys;
+    }
+
+    public long getCardsCount() {
+        try {
+            return cardsDao.countOf();
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error getting cards count from DB - " + e, e);
+            processMemoryErrors(e);
+        }
+        return 0;
+    }
+
+    /**
+     * Sets content hash from last full scan, see CardScanner
+     */
+    public long getScanFingerprint() {
+        return getVersionValue(VERSION_ENTITY_NAME + "ScanHash");
+    }
+
+    /**
+     * Cards amount from last full scan, see CardScanner
+     */
+    public long getScanCardsCount() {
+        return getVersionValue(VERSION_ENTITY_NAME + "ScanCount");
+    }
+
+    private long getVersionValue(String entityName) {
+        try {
+            ConnectionSource connectionSource = new JdbcConnectionSource(DatabaseUtils.prepareH2Connection(DatabaseUtils.DB_NAME_CARDS, false));
+            return RepositoryUtil.getDatabaseVersion(connectionSource, entityName);
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error getting " + entityName + " from DB - " + e, e);
+            processMemoryErrors(e);
+        }
+        return 0;
+    }
+
+    public void setScanFingerprint(long setsHash, long cardsCount) {
+        try {
+            ConnectionSource connectionSource = new JdbcConnectionSource(DatabaseUtils.prepareH2Connection(DatabaseUtils.DB_NAME_CARDS, false));
+            RepositoryUtil.updateVersion(connectionSource, VERSION_ENTITY_NAME + "ScanHash", setsHash);
+            RepositoryUtil.updateVersion(connectionSource, VERSION_ENTITY_NAME + "ScanCount", cardsCount);
+        } catch (SQLException e) {
+            Logger.getLogger(CardRepository.class).error("Error setting scan fingerprint - " + e, e);
+            processMemoryErrors(e);
+        }
+    }
+
     public void closeDB(boolean writeCompact) {
         try {
             if (cardsDao != null && cardsDao.getConnectionSource() != null) {
@@ -699,6 +958,7 @@ public enum CardRepository {
         try {
             ConnectionSource connectionSource = new JdbcConnectionSource(DatabaseUtils.prepareH2Connection(DatabaseUtils.DB_NAME_CARDS, true));
             cardsDao = DaoManager.createDao(connectionSource, CardInfo.class);
+            resetCatalog();
         } catch (SQLException e) {
             Logger.getLogger(CardRepository.class).error("Error opening card repository - " + e, e);
         }
@@ -760,7 +1020,8 @@ public enum CardRepository {
 
     private static CardInfo safeFindKnownCard() {
         // safe find of known card with memory/db fixes
-        return instance.findCards("Silvercoat Lion", 1, false, false)
+        // must check real db, not a catalog
+        return instance.findCardsInDB("Silvercoat Lion", 1, false, false)
                 .stream()
                 .findFirst()
                 .orElse(null);
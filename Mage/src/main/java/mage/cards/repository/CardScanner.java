@@ -1,12 +1,10 @@
 package mage.cards.repository;
 
 import mage.cards.*;
+import mage.util.ClassIndex;
 import org.apache.log4j.Logger;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * @author North
@@ -27,6 +25,17 @@ public final class CardScanner {
         }
         scanned = true;
 
+        // fast start: nothing to do if sets and cards are same as on last scan
+        long fingerprint = makeFingerprint();
+        long cardsCount = CardRepository.instance.getCardsCount();
+        if (cardsCount > 0
+                && fingerprint == CardRepository.instance.getScanFingerprint()
+                && cardsCount == CardRepository.instance.getScanCardsCount()
+                && ExpansionRepository.instance.getSetCodes().size() == Sets.getInstance().size()) {
+            logger.debug("Cards scan: db is up to date, skip");
+            return;
+        }
+
         List<CardInfo> cardsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToAdd = new ArrayList<>();
         List<ExpansionInfo> setsToUpdate = new ArrayList<>();
@@ -51,9 +60,10 @@ public final class CardScanner {
         ExpansionRepository.instance.saveSets(setsToAdd, setsToUpdate, ExpansionRepository.instance.getContentVersionConstant());
 
         // check cards (only add mode, without updates)
+        Set<String> dbCards = CardRepository.instance.getSetCodeAndNumberKeys();
         for (ExpansionSet set : Sets.getInstance().values()) {
             for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
-                if (CardRepository.instance.findCard(set.getCode(), setInfo.getCardNumber(), false) == null) {
+                if (!dbCards.contains(set.getCode() + "|" + setInfo.getCardNumber())) {
                     // found new card
                     Card card = CardImpl.createCard(
                             setInfo.getCardClass(),
@@ -80,6 +90,53 @@ public final class CardScanner {
             }
         }
         CardRepository.instance.saveCards(cardsToAdd, CardRepository.instance.getContentVersionConstant());
+
+        // cards with errors are not added, so it will be checked again on next start
+        if (errorsList == null || errorsList.isEmpty()) {
+            CardRepository.instance.setScanFingerprint(fingerprint, CardRepository.instance.getCardsCount());
+        }
+    }
+
+    /**
+     * Hash of all sets and cards data that scanner saves to db
+     */
+    private static long makeFingerprint() {
+        List<String> data = new ArrayList<>();
+        data.add(String.valueOf(CardRepository.instance.getContentVersionConstant()));
+        data.add(String.valueOf(ExpansionRepository.instance.getContentVersionConstant()));
+
+        // fast way: sets sources hash from build time index (sets contain all scanned data about sets and cards)
+        Long setsHash = ClassIndex.findContentHash(null, ExpansionSet.class);
+        if (setsHash != null) {
+            data.add(Long.toHexString(setsHash));
+            return makeHash(data);
+        }
+
+        // slow way: all sets and cards data (e.g. app started from IDE without index)
+        for (ExpansionSet set : Sets.getInstance().values()) {
+            data.add(set.getCode() + "|" + set.getName() + "|" + set.getBlockName() + "|" + set.getReleaseDate().getTime()
+                    + "|" + set.getSetType() + "|" + set.hasBoosters() + "|" + set.hasBasicLands());
+            for (ExpansionSet.SetCardInfo setInfo : set.getSetCardInfo()) {
+                data.add(set.getCode() + "|" + setInfo.getCardNumber() + "|" + setInfo.getName()
+                        + "|" + setInfo.getRarity() + "|" + setInfo.getCardClass().getName());
+            }
+        }
+        Collections.sort(data); // sets order is random
+        return makeHash(data);
+    }
+
+    private static long makeHash(List<String> data) {
+        // 64-bit FNV-1a
+        long hash = 0xcbf29ce484222325L;
+        for (String line : data) {
+            for (int i = 0; i < line.length(); i++) {
+                hash ^= line.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= '\n';
+            hash *= 0x100000001b3L;
+        }
+        return hash;
     }
 
     public static List<Card> getAllCards() {
@@ -0,0 +1,365 @@
+package mage.cards.repository;
+
+import mage.constants.CardType;
+import mage.constants.Rarity;
+import mage.constants.SubType;
+import mage.constants.SuperType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory index for CardCriteria queries (deck editor's search, random pools, boosters generation)
+ * <p>
+ * Db runs full table scans for LIKE '%text%' clauses, so index uses:
+ * - trigrams for names and rules (each unique text indexed one time, found texts are checked by full contains);
+ * - bitsets for flags, colors, rarities, sets and mana values;
+ * - bitsets for types, supertypes and subtypes (searches over unique column values, calculates on usage).
+ * <p>
+ * Results are same as db queries (LIKE with ignore case), rows order is db's rows order.
+ * Criteria with sorting, offset or LIKE wildcards in texts must use db queries, see isSupported.
+ */
+final class CardSearchIndex {
+
+    private final List<CardInfo> cards;
+
+    private final BitSet nightCards = new BitSet();
+    private final BitSet splitCardHalves = new BitSet();
+    private final BitSet variousArtCards = new BitSet();
+    private final BitSet doubleFacedCards = new BitSet();
+    private final BitSet blackCards = new BitSet();
+    private final BitSet blueCards = new BitSet();
+    private final BitSet greenCards = new BitSet();
+    private final BitSet redCards = new BitSet();
+    private final BitSet whiteCards = new BitSet();
+    private final BitSet colorlessCards = new BitSet();
+    private final Map<Rarity, BitSet> byRarity = new EnumMap<>(Rarity.class);
+    private final Map<String, BitSet> bySetCode = new HashMap<>();
+    private final Map<Integer, BitSet> byManaValue = new HashMap<>();
+
+    private final TextIndex names;
+    private final TextIndex rules;
+    private final TextIndex types;
+    private final TextIndex supertypes;
+    private final TextIndex subtypes;
+
+    CardSearchIndex(List<CardInfo> cards) {
+        this.cards = cards;
+        this.names = new TextIndex(true);
+        this.rules = new TextIndex(true);
+        this.types = new TextIndex(false);
+        this.supertypes = new TextIndex(false);
+        this.subtypes = new TextIndex(false);
+
+        for (int i = 0; i < cards.size(); i++) {
+            CardInfo card = cards.get(i);
+            if (card.nightCard) {
+                nightCards.set(i);
+            }
+            if (card.splitCardHalf) {
+                splitCardHalves.set(i);
+            }
+            if (card.variousArt) {
+                variousArtCards.set(i);
+            }
+            if (card.doubleFaced) {
+                doubleFacedCards.set(i);
+            }
+            if (card.black) {
+                blackCards.set(i);
+            }
+            if (card.blue) {
+                blueCards.set(i);
+            }
+            if (card.green) {
+                greenCards.set(i);
+            }
+            if (card.red) {
+                redCards.set(i);
+            }
+            if (card.white) {
+                whiteCards.set(i);
+            }
+            if (!card.black && !card.blue && !card.green && !card.red && !card.white) {
+                colorlessCards.set(i);
+            }
+            if (card.rarity != null) {
+                byRarity.computeIfAbsent(card.rarity, x -> new BitSet()).set(i);
+            }
+            if (card.setCode != null) {
+                bySetCode.computeIfAbsent(toKey(card.setCode), x -> new BitSet()).set(i);
+            }
+            byManaValue.computeIfAbsent(card.manaValue, x -> new BitSet()).set(i);
+
+            names.add(card.name, i);
+            rules.add(card.rules, i);
+            types.add(card.types, i);
+            supertypes.add(card.supertypes, i);
+            subtypes.add(card.subtypes, i);
+        }
+
+        names.buildTrigrams();
+        rules.buildTrigrams();
+    }
+
+    /**
+     * Db uses IGNORECASE mode for texts, so index too
+     */
+    private static String toKey(String text) {
+        return text.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Search texts must be without LIKE's special chars (db uses it as wildcards)
+     */
+    private static boolean isPlainText(String text) {
+        return text == null
+                || (text.indexOf('%') < 0 && text.indexOf('_') < 0 && text.indexOf('\\') < 0);
+    }
+
+    static boolean isSupported(CardCriteria criteria) {
+        return criteria.getSortBy() == null
+                && criteria.getStart() == null
+                && criteria.getModalDoubleFaced() == null // db doesn't support it (unknown column)
+                && isPlainText(criteria.getNameContains())
+                && isPlainText(criteria.getRules())
+                && criteria.getSubtypes().stream().map(SubType::toString).allMatch(CardSearchIndex::isPlainText);
+    }
+
+    /**
+     * Same as CardRepository.findCards(criteria) for supported criteria
+     */
+    List<CardInfo> findCards(CardCriteria criteria) {
+        criteria.optimize();
+
+        BitSet found = new BitSet(cards.size());
+        found.set(0, cards.size());
+        if (criteria.getNightCard() != null) {
+            filter(found, nightCards, criteria.getNightCard());
+        }
+        found.andNot(splitCardHalves);
+        if (criteria.getNameContains() != null) {
+            found.and(names.findContains(criteria.getNameContains()));
+        }
+        if (criteria.getName() != null) {
+            found.and(names.findEquals(criteria.getName()));
+        }
+        if (criteria.getRules() != null) {
+            found.and(rules.findContains(criteria.getRules()));
+        }
+        if (criteria.getVariousArt() != null) {
+            filter(found, variousArtCards, criteria.getVariousArt());
+        }
+        if (criteria.getDoubleFaced() != null) {
+            filter(found, doubleFacedCards, criteria.getDoubleFaced());
+        }
+
+        if (!criteria.getRarities().isEmpty()) {
+            found.and(findAny(criteria.getRarities(), byRarity::get));
+        }
+        if (!criteria.getSetCodes().isEmpty()) {
+            found.and(findAny(criteria.getSetCodes(), setCode -> bySetCode.get(toKey(setCode))));
+        }
+        for (String setCode : criteria.getIgnoreSetCodes()) {
+            BitSet setCards = bySetCode.get(toKey(setCode));
+            if (setCards != null) {
+                found.andNot(setCards);
+            }
+        }
+
+        // same as db: if all types selected - no selection needed
+        if (criteria.getTypes().size() != 7 && !criteria.getTypes().isEmpty()) {
+            found.and(findAny(criteria.getTypes(), type -> types.findContains(type.name())));
+        }
+        for (CardType type : criteria.getNotTypes()) {
+            filter(found, types.findContains(type.name()), false);
+        }
+        for (SuperType superType : criteria.getSupertypes()) {
+            found.and(supertypes.findContains(superType.name()));
+        }
+        for (SuperType superType : criteria.getNotSupertypes()) {
+            filter(found, supertypes.findContains(superType.name()), false);
+        }
+        for (SubType subType : criteria.getSubtypes()) {
+            found.and(subtypes.findContains(subType.toString()));
+        }
+
+        if (criteria.getManaValue() != null) {
+            found.and(byManaValue.getOrDefault(criteria.getManaValue(), new BitSet()));
+        }
+
+        BitSet colors = new BitSet();
+        boolean needColors = false;
+        if (criteria.isBlack()) {
+            colors.or(blackCards);
+            needColors = true;
+        }
+        if (criteria.isBlue()) {
+            colors.or(blueCards);
+            needColors = true;
+        }
+        if (criteria.isGreen()) {
+            colors.or(greenCards);
+            needColors = true;
+        }
+        if (criteria.isRed()) {
+            colors.or(redCards);
+            needColors = true;
+        }
+        if (criteria.isWhite()) {
+            colors.or(whiteCards);
+            needColors = true;
+        }
+        if (criteria.isColorless()) {
+            colors.or(colorlessCards);
+            needColors = true;
+        }
+        if (needColors) {
+            found.and(colors);
+        }
+
+        List<CardInfo> res = new ArrayList<>(found.cardinality());
+        long maxAmount = criteria.getCount() == null ? Long.MAX_VALUE : criteria.getCount();
+        for (int i = found.nextSetBit(0); i >= 0 && res.size() < maxAmount; i = found.nextSetBit(i + 1)) {
+            CardInfo card = cards.get(i);
+            if (card.cardNumberAsInt >= criteria.getMinCardNumber()
+                    && card.cardNumberAsInt <= criteria.getMaxCardNumber()) {
+                res.add(card);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Keep cards with or without the flag
+     */
+    private static void filter(BitSet found, BitSet flagCards, boolean needFlag) {
+        if (needFlag) {
+            found.and(flagCards);
+        } else {
+            found.andNot(flagCards);
+        }
+    }
+
+    private static <T> BitSet findAny(List<T> values, Function<T, BitSet> finder) {
+        BitSet res = new BitSet();
+        for (T value : values) {
+            BitSet valueCards = finder.apply(value);
+            if (valueCards != null) {
+                res.or(valueCards);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Unique texts of the column with it's cards
+     */
+    private static final class TextIndex {
+
+        private final boolean useTrigrams;
+        private final Map<String, Integer> textIds = new HashMap<>();
+        private final List<String> texts = new ArrayList<>();
+        private final List<BitSet> textCards = new ArrayList<>();
+        private final Map<Long, int[]> trigrams = new HashMap<>(); // trigram -> sorted text ids
+        private final Map<String, BitSet> foundCache = new ConcurrentHashMap<>(); // for small columns only
+
+        private TextIndex(boolean useTrigrams) {
+            this.useTrigrams = useTrigrams;
+        }
+
+        private void add(String text, int cardIndex) {
+            if (text == null) {
+                // db's LIKE and eq skip nulls
+                return;
+            }
+            String key = toKey(text);
+            Integer textId = textIds.get(key);
+            if (textId == null) {
+                textId = texts.size();
+                textIds.put(key, textId);
+                texts.add(key);
+                textCards.add(new BitSet());
+            }
+            textCards.get(textId).set(cardIndex);
+        }
+
+        private static long getTrigram(String text, int start) {
+            return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+        }
+
+        private void buildTrigrams() {
+            if (!useTrigrams) {
+                return;
+            }
+            Map<Long, int[]> postings = new HashMap<>(); // last item contains list's size
+            for (int textId = 0; textId < texts.size(); textId++) {
+                String text = texts.get(textId);
+                for (int i = 0; i + 3 <= text.length(); i++) {
+                    int[] ids = postings.get(getTrigram(text, i));
+                    if (ids == null) {
+                        ids = new int[4];
+                        postings.put(getTrigram(text, i), ids);
+                    }
+                    int size = ids[ids.length - 1];
+                    if (size > 0 && ids[size - 1] == textId) {
+                        // same trigram in same text
+                        continue;
+                    }
+                    if (size + 1 == ids.length) {
+                        ids = Arrays.copyOf(ids, ids.length * 2);
+                        ids[ids.length - 1] = size;
+                        postings.put(getTrigram(text, i), ids);
+                    }
+                    ids[size] = textId;
+                    ids[ids.length - 1] = size + 1;
+                }
+            }
+            postings.forEach((trigram, ids) -> trigrams.put(trigram, Arrays.copyOf(ids, ids[ids.length - 1])));
+        }
+
+        private BitSet findEquals(String text) {
+            Integer textId = textIds.get(toKey(text));
+            return textId == null ? new BitSet() : textCards.get(textId);
+        }
+
+        private BitSet findContains(String text) {
+            if (useTrigrams) {
+                return find(toKey(text));
+            }
+            // small columns (types) - same searches all the time
+            return foundCache.computeIfAbsent(toKey(text), this::find);
+        }
+
+        private BitSet find(String need) {
+            BitSet res = new BitSet();
+            if (!useTrigrams || need.length() < 3) {
+                for (int textId = 0; textId < texts.size(); textId++) {
+                    if (texts.get(textId).contains(need)) {
+                        res.or(textCards.get(textId));
+                    }
+                }
+                return res;
+            }
+
+            // all trigrams must be in the text, so check texts from the rarest one only
+            int[] candidates = null;
+            for (int i = 0; i + 3 <= need.length(); i++) {
+                int[] ids = trigrams.get(getTrigram(need, i));
+                if (ids == null) {
+                    return res;
+                }
+                if (candidates == null || ids.length < candidates.length) {
+                    candidates = ids;
+                }
+            }
+            for (int textId : candidates) {
+                if (texts.get(textId).contains(need)) {
+                    res.or(textCards.get(textId));
+                }
+            }
+            return res;
+        }
+    }
+}
@@ -298,6 +298,16 @@ public interface Game extends MageItem, Serializable, Copyable<Game> {
      */
     Game createSimulationForPlayableCalc();
 
+    /**
+     * Prepare game for a single playable calc, so the calc can use it without own copy (see getSimulationForPlayableCalc)
+     */
+    Game createSimulationForSinglePlayableCalc();
+
+    /**
+     * Game for playable calc: same game if it was prepared for a single calc and not used yet, otherwise a new copy
+     */
+    Game getSimulationForPlayableCalc();
+
     boolean inCheckPlayableState();
 
     MageObject getLastKnownInformation(UUID objectId, Zone zone);
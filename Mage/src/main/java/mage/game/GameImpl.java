@@ -107,6 +107,7 @@ public abstract class GameImpl implements Game {
     protected boolean simulation = false; // for inner simulations (game without user messages)
     protected boolean aiGame = false; // for inner simulations (ai game, debug only)
     protected boolean checkPlayableState = false; // for inner playable calculations (game without user dialogs)
+    private transient boolean singlePlayableCalc = false; // not used copy for a single playable calculation (not copied)
 
     protected AtomicInteger totalErrorsCount = new AtomicInteger(); // for debug only: error stats
 
@@ -281,6 +282,23 @@ public abstract class GameImpl implements Game {
         return res;
     }
 
+    @Override
+    public Game createSimulationForSinglePlayableCalc() {
+        Game res = createSimulationForPlayableCalc();
+        ((GameImpl) res).singlePlayableCalc = true;
+        return res;
+    }
+
+    @Override
+    public Game getSimulationForPlayableCalc() {
+        // nested calculations (e.g. available mana) must use own copies, so it can be reused one time only
+        if (this.singlePlayableCalc) {
+            this.singlePlayableCalc = false;
+            return this;
+        }
+        return createSimulationForPlayableCalc();
+    }
+
     @Override
     public boolean inCheckPlayableState() {
         return checkPlayableState;
@@ -3687,7 +3705,8 @@ public abstract class GameImpl implements Game {
             // Must save all card parts (mdf, split)
             CardUtil.getObjectParts(object).forEach(partId -> {
                 Map<UUID, CardState> lkiMap = lkiCardState.computeIfAbsent(zone, k -> new HashMap<>());
-                lkiMap.put(partId, getState().getCardState(partId).copy());
+                CardState partState = getState().getCardState(partId);
+                lkiMap.put(partId, partState == null ? new CardState() : partState.copy());
             });
         }
     }
@@ -35,6 +35,7 @@ import mage.players.Players;
 import mage.target.Target;
 import mage.util.CardUtil;
 import mage.util.Copyable;
+import mage.util.Fingerprint;
 import mage.util.ThreadLocalStringBuilder;
 import mage.watchers.Watcher;
 import mage.watchers.Watchers;
@@ -42,6 +43,7 @@ import org.apache.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -102,6 +104,10 @@ public class GameState implements Serializable, Copyable<GameState> {
     private Map<UUID, Zone> zones = new HashMap<>();
     private List<GameEvent> simultaneousEvents = new ArrayList<>();
     private Map<UUID, CardState> cardState = new HashMap<>();
+    // card states use copy-on-write between game state copies, see getCardStateForUpdate
+    private Set<UUID> ownedCardStates = new HashSet<>(); // card states that are not shared with other game state copies
+    private int ownedCardStatesShares = 0; // owned card states are actual for that shares counter only
+    private final AtomicInteger cardStatesShares = new AtomicInteger(); // how many times card states were shared with other copies
     private Map<MageObjectReference, Map<String, Object>> permanentCostsTags = new HashMap<>(); // Permanent reference -> map of (tag -> values) describing how the permanent's spell was cast
     private Map<UUID, MageObjectAttribute> mageObjectAttribute = new HashMap<>();
     private Map<UUID, Integer> zoneChangeCounter = new HashMap<>();
@@ -175,7 +181,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         this.values = CardUtil.deepCopyObject(state.values);
         this.zones.putAll(state.zones);
         this.simultaneousEvents.addAll(state.simultaneousEvents);
-        this.cardState = CardUtil.deepCopyObject(state.cardState);
+        this.cardState = state.shareCardStates();
         this.permanentCostsTags = CardUtil.deepCopyObject(state.permanentCostsTags);
         this.mageObjectAttribute = CardUtil.deepCopyObject(state.mageObjectAttribute);
         this.zoneChangeCounter.putAll(state.zoneChangeCounter);
@@ -218,6 +224,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         gameOver = false;
         specialActions.clear();
         cardState.clear();
+        ownedCardStates.clear();
         permanentCostsTags.clear();
         combat.clear();
         turnMods.clear();
@@ -269,7 +276,8 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         this.zones = state.zones;
         this.simultaneousEvents = state.simultaneousEvents;
-        this.cardState = state.cardState;
+        this.cardState = state.shareCardStates();
+        this.ownedCardStates = new HashSet<>();
         this.permanentCostsTags = state.permanentCostsTags;
         this.mageObjectAttribute = state.mageObjectAttribute;
         this.zoneChangeCounter = state.zoneChangeCounter;
@@ -447,6 +455,115 @@ public class GameState implements Serializable, Copyable<GameState> {
         return sb.toString();
     }
 
+    /**
+     * AI related: fast version of getValue(useHidden) - 64-bit fingerprint without strings building
+     * (cards compared by ids)
+     */
+    public long getFingerprint(boolean useHidden) {
+        return makeFingerprint(null, null, useHidden);
+    }
+
+    /**
+     * AI related: fast version of getValue(useHidden, game) - 64-bit fingerprint without strings building
+     * (cards compared by names)
+     */
+    public long getFingerprint(boolean useHidden, Game game) {
+        return makeFingerprint(game, null, useHidden);
+    }
+
+    /**
+     * AI related: fast version of getValue(game, playerId) - 64-bit fingerprint without strings building
+     * (cards compared by names, hidden info visible for the player only)
+     */
+    public long getFingerprint(Game game, UUID playerId) {
+        return makeFingerprint(game, playerId, false);
+    }
+
+    /**
+     * Same data as getValue, but ordered by the same rules: permanents and cards in zones can be in any order,
+     * stack and combat must be in same order
+     *
+     * @param game     if null then cards compared by ids, otherwise by names (also adds passed and stack targets info)
+     * @param playerId player with visible hand
+     */
+    private long makeFingerprint(Game game, UUID playerId, boolean useHidden) {
+        long res = Fingerprint.start();
+
+        res = Fingerprint.add(res, turnNum);
+        Phase phase = turn.getPhase();
+        if (phase != null) {
+            res = Fingerprint.add(res, phase.getType());
+            res = Fingerprint.add(res, phase.getStep() == null ? null : phase.getStep().getType());
+        }
+        res = Fingerprint.add(res, activePlayerId);
+        res = Fingerprint.add(res, priorityPlayerId);
+        res = Fingerprint.add(res, playerByOrderId);
+
+        for (Player player : players.values()) {
+            if (game != null) {
+                res = Fingerprint.add(res, player.isPassed());
+            }
+            res = Fingerprint.add(res, player.getLife());
+            if (useHidden || Objects.equals(playerId, player.getId())) {
+                res = addCardsFingerprint(res, player.getHand(), game);
+            } else {
+                res = Fingerprint.add(res, player.getHand().size());
+            }
+            res = Fingerprint.add(res, player.getLibrary().size());
+            res = addCardsFingerprint(res, player.getGraveyard(), game);
+        }
+
+        long permanents = 0;
+        for (Permanent permanent : battlefield.getAllPermanents()) {
+            permanents += permanent.getFingerprint(this);
+        }
+        res = Fingerprint.add(res, permanents);
+
+        res = Fingerprint.add(res, stack.size());
+        for (StackObject spell : stack) {
+            res = Fingerprint.add(res, spell.getControllerId());
+            res = Fingerprint.add(res, spell.getName());
+            if (game == null) {
+                continue;
+            }
+            Ability stackAbility = spell.getStackAbility();
+            res = Fingerprint.add(res, stackAbility.getClass().getName());
+            for (UUID modeId : stackAbility.getModes().getSelectedModes()) {
+                Mode mode = stackAbility.getModes().get(modeId);
+                for (Target target : mode.getTargets()) {
+                    res = Fingerprint.addIds(res, target.getTargets());
+                }
+            }
+        }
+
+        for (ExileZone zone : exile.getExileZones()) {
+            res = Fingerprint.add(res, zone.getId());
+            res = addCardsFingerprint(res, zone, game);
+        }
+
+        for (CombatGroup group : combat.getGroups()) {
+            res = Fingerprint.add(res, group.getDefenderId());
+            res = Fingerprint.addIds(res, group.getAttackers());
+            res = Fingerprint.addIds(res, group.getBlockers());
+        }
+
+        return res;
+    }
+
+    private static long addCardsFingerprint(long hash, Cards cards, Game game) {
+        if (game == null) {
+            return Fingerprint.addUnorderedIds(hash, cards);
+        }
+        long sum = 0;
+        for (UUID cardId : cards) {
+            Card card = game.getCard(cardId);
+            if (card != null) {
+                sum += Fingerprint.mix(card.getName().hashCode());
+            }
+        }
+        return Fingerprint.add(Fingerprint.add(hash, cards.size()), sum);
+    }
+
     public Players getPlayers() {
         return players;
     }
@@ -1405,17 +1522,16 @@ public class GameState implements Serializable, Copyable<GameState> {
      * @return
      */
     public Abilities<ActivatedAbility> getActivatedOtherAbilities(UUID objectId, Zone zone) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities().getActivatedAbilities(zone);
-        }
-        return null;
+        CardState state = getCardState(objectId);
+        return state == null ? null : state.getAbilities().getActivatedAbilities(zone);
     }
 
+    /**
+     * Read only, see getCardState
+     */
     public Abilities<Ability> getAllOtherAbilities(UUID objectId) {
-        if (cardState.containsKey(objectId)) {
-            return cardState.get(objectId).getAbilities();
-        }
-        return null;
+        CardState state = getCardState(objectId);
+        return state == null ? null : state.getAbilities();
     }
 
     /**
@@ -1457,10 +1573,7 @@ public class GameState implements Serializable, Copyable<GameState> {
         }
         newAbility.setSourceId(attachedTo.getId());
         newAbility.setControllerId(attachedTo.getOwnerId());
-        if (!cardState.containsKey(attachedTo.getId())) {
-            cardState.put(attachedTo.getId(), new CardState());
-        }
-        cardState.get(attachedTo.getId()).addAbility(newAbility);
+        getCardStateForUpdate(attachedTo.getId()).addAbility(newAbility);
         addAbility(newAbility, attachedTo.getId(), attachedTo);
     }
 
@@ -1491,7 +1604,16 @@ public class GameState implements Serializable, Copyable<GameState> {
         // All gained abilities have to be removed to prevent adding it multiple times
         triggers.removeAllGainedAbilities();
         getContinuousEffects().removeAllTemporaryEffects();
-        for (CardState state : cardState.values()) {
+        for (Map.Entry<UUID, CardState> entry : cardState.entrySet()) {
+            CardState state = entry.getValue();
+            if (state.getAbilities().isEmpty() && !state.hasLostAllAbilities()) {
+                // nothing to clear, so keep shared state as is
+                continue;
+            }
+            if (ownCardState(entry.getKey())) {
+                state = state.copy();
+                entry.setValue(state);
+            }
             state.clearAbilities();
         }
         mageObjectAttribute.clear();
@@ -1519,11 +1641,69 @@ public class GameState implements Serializable, Copyable<GameState> {
         return triggers;
     }
 
+    /**
+     * Card state for read only usage, can be shared with other game state copies, so don't change it
+     * (use getCardStateForUpdate instead)
+     *
+     * @param cardId
+     * @return card state or null if it was never changed
+     */
     public CardState getCardState(UUID cardId) {
-        cardState.putIfAbsent(cardId, new CardState());
         return cardState.get(cardId);
     }
 
+    /**
+     * Card state for changes (will be created on first usage).
+     * <p>
+     * Card states are shared between game state copies (e.g. saved states for rollback)
+     * and copied only on first change after the copy, so saving a state costs as much
+     * as the amount of card states changed since the last save instead of all cards in the game.
+     * Warning, do not keep the result between state saves/copies, ask the game state again instead.
+     *
+     * @param cardId
+     * @return
+     */
+    public CardState getCardStateForUpdate(UUID cardId) {
+        CardState state = cardState.get(cardId);
+        if (state == null) {
+            state = new CardState();
+            cardState.put(cardId, state);
+            ownCardState(cardId);
+        } else if (ownCardState(cardId)) {
+            state = state.copy();
+            cardState.put(cardId, state);
+        }
+        return state;
+    }
+
+    /**
+     * Mark card state as owned by that game state
+     *
+     * @return true if card state was shared with other copies before, so it must be copied before any changes
+     */
+    private boolean ownCardState(UUID cardId) {
+        int shares = cardStatesShares.get();
+        if (shares != ownedCardStatesShares) {
+            // state was copied, so all card states are shared now
+            ownedCardStates.clear();
+            ownedCardStatesShares = shares;
+        }
+        return ownedCardStates.add(cardId);
+    }
+
+    /**
+     * Card states for a new game state copy. Source state keeps its data as is and only counts shares,
+     * so it will copy shared card states before next changes.
+     * <p>
+     * Not thread safe: shares counter is atomic, so copies from other threads (e.g. game views) can't break
+     * the source state, but such copies can get card states changed by the game thread at the same time
+     * (the same as with full copies before).
+     */
+    private Map<UUID, CardState> shareCardStates() {
+        cardStatesShares.incrementAndGet();
+        return new HashMap<>(cardState);
+    }
+
     public MageObjectAttribute getMageObjectAttribute(UUID cardId) {
         return mageObjectAttribute.get(cardId);
     }
@@ -1578,7 +1758,7 @@ public class GameState implements Serializable, Copyable<GameState> {
 
         // card is changing zone so clear state
         if (cardState.containsKey(objectId)) {
-            this.cardState.get(objectId).clear();
+            getCardStateForUpdate(objectId).clear();
         }
     }
 
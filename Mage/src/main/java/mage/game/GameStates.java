@@ -19,6 +19,10 @@ public class GameStates implements Serializable {
         this.states = new ArrayList<>();
     }
 
+    /**
+     * Save a copy of the game state. Inner card states are shared with the live state
+     * until changed (copy-on-write), see {@link GameState#getCardState}
+     */
     public void save(GameState gameState) {
         states.add(gameState.copy());
         //logger.warn("states size: " + states.size());
@@ -7,6 +7,8 @@ import mage.constants.RangeOfInfluence;
 import mage.filter.FilterPermanent;
 import mage.game.Game;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.*;
 import java.util.Map.Entry;
@@ -20,18 +22,40 @@ public class Battlefield implements Serializable {
     private final Map<UUID, Permanent> field = new LinkedHashMap<>();
     private final Map<UUID, Permanent> permanentsEntering = new LinkedHashMap<>();
 
+    // index of active (phased in) permanents by controller, uses same order as the field (add order),
+    // builds on first usage and then updates by permanents on controller or phasing changes (see updateIndex)
+    private transient Map<UUID, NavigableMap<Long, Permanent>> activeByController = null;
+    private transient Map<UUID, IndexEntry> indexEntries = null; // permanent id -> indexed data
+    private transient long nextIndexOrder = 0;
+
+    private static final class IndexEntry {
+        private final long order;
+        private UUID controllerId = null; // null for not indexed (phased out)
+
+        private IndexEntry(long order) {
+            this.order = order;
+        }
+    }
+
     public Battlefield() {
     }
 
     protected Battlefield(final Battlefield battlefield) {
         for (Entry<UUID, Permanent> entry : battlefield.field.entrySet()) {
-            field.put(entry.getKey(), entry.getValue().copy());
+            Permanent permanent = entry.getValue().copy();
+            field.put(entry.getKey(), permanent);
+            attach(permanent);
         }
         for (Entry<UUID, Permanent> entry : battlefield.permanentsEntering.entrySet()) {
             permanentsEntering.put(entry.getKey(), entry.getValue().copy());
         }
     }
 
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        field.values().forEach(this::attach);
+    }
+
     public Battlefield copy() {
         return new Battlefield(this);
     }
@@ -46,8 +70,94 @@ public class Battlefield implements Serializable {
     }
 
     public void clear() {
+        field.values().forEach(this::detach);
         field.clear();
         permanentsEntering.clear();
+        resetIndexes();
+    }
+
+    /**
+     * Full index rebuild on next usage. Permanents update the index by itself (see updateIndex),
+     * so use it for permanents without battlefield's link only (other Permanent implementations)
+     */
+    public void resetIndexes() {
+        activeByController = null;
+        indexEntries = null;
+    }
+
+    /**
+     * Permanent from the field informs the battlefield about controller or phasing changes
+     */
+    private void attach(Permanent permanent) {
+        if (permanent instanceof PermanentImpl) {
+            ((PermanentImpl) permanent).setIndexedBattlefield(this);
+        }
+    }
+
+    private void detach(Permanent permanent) {
+        if (permanent instanceof PermanentImpl) {
+            ((PermanentImpl) permanent).removeIndexedBattlefield(this);
+        }
+    }
+
+    /**
+     * Called by permanents on controller or phasing changes
+     */
+    void updateIndex(Permanent permanent) {
+        if (activeByController == null) {
+            // not used yet, will be built on first usage
+            return;
+        }
+        if (field.get(permanent.getId()) != permanent) {
+            return;
+        }
+
+        IndexEntry entry = indexEntries.get(permanent.getId());
+        if (entry == null) {
+            entry = new IndexEntry(nextIndexOrder++);
+            indexEntries.put(permanent.getId(), entry);
+        }
+        UUID newControllerId = permanent.isPhasedIn() ? permanent.getControllerId() : null;
+        if (Objects.equals(entry.controllerId, newControllerId)) {
+            return;
+        }
+        removeFromIndex(entry);
+        entry.controllerId = newControllerId;
+        if (newControllerId != null) {
+            activeByController.computeIfAbsent(newControllerId, k -> new TreeMap<>()).put(entry.order, permanent);
+        }
+    }
+
+    private void removeFromIndex(IndexEntry entry) {
+        if (entry.controllerId == null) {
+            return;
+        }
+        NavigableMap<Long, Permanent> controlled = activeByController.get(entry.controllerId);
+        if (controlled != null) {
+            controlled.remove(entry.order);
+            if (controlled.isEmpty()) {
+                activeByController.remove(entry.controllerId);
+            }
+        }
+        entry.controllerId = null;
+    }
+
+    private Map<UUID, NavigableMap<Long, Permanent>> getActiveByController() {
+        if (activeByController == null) {
+            activeByController = new HashMap<>();
+            indexEntries = new HashMap<>();
+            nextIndexOrder = 0;
+            field.values().forEach(this::updateIndex);
+        }
+        return activeByController;
+    }
+
+    /**
+     * Active (phased in) permanents of the controller, must be used for read only
+     */
+    private Collection<Permanent> getActiveControlled(UUID controllerId) {
+        NavigableMap<Long, Permanent> controlled = getActiveByController().get(controllerId);
+        return controlled == null ? Collections.emptyList() : controlled.values();
     }
 
     /**
@@ -59,11 +169,9 @@ public class Battlefield implements Serializable {
      * can use count() instead of countAll()
      */
     public int countAll(FilterPermanent filter, UUID controllerId, Game game) {
-        return (int) field.values()
+        return (int) getActiveControlled(controllerId)
                 .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, game)
-                        && permanent.isPhasedIn())
+                .filter(permanent -> filter.match(permanent, game))
                 .count();
 
     }
@@ -81,11 +189,11 @@ public class Battlefield implements Serializable {
                     .count();
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return (int) field.values()
+            return (int) range
                     .stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count();
+                    .flatMap(playerId -> getActiveControlled(playerId).stream())
+                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game))
+                    .count();
         }
     }
 
@@ -101,11 +209,10 @@ public class Battlefield implements Serializable {
      * @param controllerId controller and source can be different (from different players)
      */
     public boolean containsControlled(FilterPermanent filter, UUID controllerId, Ability source, Game game, int num) {
-        return field.values()
+        return getActiveControlled(controllerId)
                 .stream()
-                .filter(permanent -> permanent.isControlledBy(controllerId)
-                        && filter.match(permanent, controllerId, source, game)
-                        && permanent.isPhasedIn())
+                .filter(permanent -> filter.match(permanent, controllerId, source, game))
+                .limit(num)
                 .count() >= num;
     }
 
@@ -121,21 +228,34 @@ public class Battlefield implements Serializable {
     public boolean contains(FilterPermanent filter, UUID sourcePlayerId, Ability source, Game game, int num) {
         if (game.getRangeOfInfluence() == RangeOfInfluence.ALL) {
             return field.values().stream()
-                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn()).count() >= num;
+                    .filter(permanent -> permanent.isPhasedIn()
+                            && filter.match(permanent, sourcePlayerId, source, game))
+                    .limit(num)
+                    .count() >= num;
 
         } else {
             List<UUID> range = game.getState().getPlayersInRange(sourcePlayerId, game);
-            return field.values().stream()
-                    .filter(permanent -> range.contains(permanent.getControllerId())
-                            && filter.match(permanent, sourcePlayerId, source, game)
-                            && permanent.isPhasedIn())
+            return range.stream()
+                    .flatMap(playerId -> getActiveControlled(playerId).stream())
+                    .filter(permanent -> filter.match(permanent, sourcePlayerId, source, game))
+                    .limit(num)
                     .count() >= num;
         }
     }
 
     public void addPermanent(Permanent permanent) {
-        field.put(permanent.getId(), permanent);
+        Permanent oldPermanent = field.put(permanent.getId(), permanent);
+        if (oldPermanent != permanent) {
+            if (oldPermanent != null) {
+                // same place in the field, so keep index order too
+                detach(oldPermanent);
+                if (activeByController != null && indexEntries.containsKey(permanent.getId())) {
+                    removeFromIndex(indexEntries.get(permanent.getId()));
+                }
+            }
+            attach(permanent);
+        }
+        updateIndex(permanent);
     }
 
     /**
@@ -151,7 +271,17 @@ public class Battlefield implements Serializable {
     }
 
     public void removePermanent(UUID key) {
-        field.remove(key);
+        Permanent permanent = field.remove(key);
+        if (permanent == null) {
+            return;
+        }
+        detach(permanent);
+        if (activeByController != null) {
+            IndexEntry entry = indexEntries.remove(key);
+            if (entry != null) {
+                removeFromIndex(entry);
+            }
+        }
     }
 
     /**
@@ -197,11 +327,7 @@ public class Battlefield implements Serializable {
      * the specified player id. The method ignores the range of influence.
      */
     public List<Permanent> getAllActivePermanents(UUID controllerId) {
-        return field.values()
-                .stream()
-                .filter(perm -> perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
-                .collect(Collectors.toList());
+        return new ArrayList<>(getActiveControlled(controllerId));
     }
 
     /**
@@ -237,9 +363,9 @@ public class Battlefield implements Serializable {
      * ObjectSourcePlayer predicates in the filter
      */
     public List<Permanent> getAllActivePermanents(FilterPermanent filter, UUID controllerId, Game game) {
-        return field.values()
+        return getActiveControlled(controllerId)
                 .stream()
-                .filter(perm -> perm.isPhasedIn() && perm.isControlledBy(controllerId) && filter.match(perm, game))
+                .filter(perm -> filter.match(perm, game))
                 .collect(Collectors.toList());
     }
 
@@ -292,11 +418,9 @@ public class Battlefield implements Serializable {
      * Returns controlled permanents with phasing ability that are phased in, so that they can be phased out
      */
     public List<Permanent> getPhasingOut(Game game, UUID controllerId) {
-        return field.values()
+        return getActiveControlled(controllerId)
                 .stream()
-                .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game)
-                        && perm.isPhasedIn()
-                        && perm.isControlledBy(controllerId))
+                .filter(perm -> perm.hasAbility(PhasingAbility.getInstance(), game))
                 .collect(Collectors.toList());
     }
 
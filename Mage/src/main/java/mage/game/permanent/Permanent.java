@@ -240,6 +240,11 @@ public interface Permanent extends Card, Controllable {
 
     String getValue(GameState state);
 
+    /**
+     * AI related: fast version of getValue - same data as 64-bit fingerprint
+     */
+    long getFingerprint(GameState state);
+
     /**
      * Add abilities to the permanent, can be used in effects
      *
@@ -95,8 +95,9 @@ public class PermanentCard extends PermanentImpl {
         copyFromCard(card, game, false);
         // if temporary added abilities to the spell/card exist, you need to add it to the permanent derived from that card
         Abilities<Ability> otherAbilities = game.getState().getAllOtherAbilities(card.getId());
-        if (otherAbilities != null) {
-            abilities.addAll(otherAbilities);
+        if (otherAbilities != null && !otherAbilities.isEmpty()) {
+            // permanent will use same ability objects, so it can't be shared with other game state copies
+            abilities.addAll(game.getState().getCardStateForUpdate(card.getId()).getAbilities());
         }
         if (card instanceof LevelerCard) {
             maxLevelCounters = ((LevelerCard) card).getMaxLevelCounters();
@@ -6,6 +6,7 @@ import mage.MageObjectReference;
 import mage.ObjectColor;
 import mage.abilities.Abilities;
 import mage.abilities.Ability;
+import mage.abilities.AbilityRulesCache;
 import mage.abilities.SpellAbility;
 import mage.abilities.common.RoomAbility;
 import mage.abilities.effects.ContinuousEffect;
@@ -38,6 +39,7 @@ import mage.game.stack.StackObject;
 import mage.players.Player;
 import mage.target.TargetPlayer;
 import mage.util.CardUtil;
+import mage.util.Fingerprint;
 import mage.util.GameLog;
 import mage.util.ThreadLocalStringBuilder;
 import org.apache.log4j.Logger;
@@ -91,6 +93,8 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     protected int turnsOnBattlefield;
     protected boolean phasedIn = true;
     protected boolean indirectPhase = false;
+    // battlefield with that permanent, must know about controller and phasing changes (not copied)
+    private transient Battlefield indexedBattlefield = null;
     protected boolean faceDown;
     protected boolean attacking;
     protected int blocking;
@@ -230,6 +234,23 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     public void setControllerId(UUID controllerId) {
         this.controllerId = controllerId;
         abilities.setControllerId(controllerId);
+        updateBattlefieldIndex();
+    }
+
+    void setIndexedBattlefield(Battlefield battlefield) {
+        this.indexedBattlefield = battlefield;
+    }
+
+    void removeIndexedBattlefield(Battlefield battlefield) {
+        if (this.indexedBattlefield == battlefield) {
+            this.indexedBattlefield = null;
+        }
+    }
+
+    private void updateBattlefieldIndex() {
+        if (indexedBattlefield != null) {
+            indexedBattlefield.updateIndex(this);
+        }
     }
 
     @Override
@@ -281,6 +302,36 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return sb.toString();
     }
 
+    @Override
+    public long getFingerprint(GameState state) {
+        long res = Fingerprint.start();
+        res = Fingerprint.add(res, controllerId);
+        res = Fingerprint.add(res, getName());
+        res = Fingerprint.add(res, tapped);
+        res = Fingerprint.add(res, damage);
+        res = Fingerprint.addEnums(res, subtype);
+        res = Fingerprint.add(res, subtype.isAllCreatureTypes());
+        res = Fingerprint.addEnums(res, supertype);
+        res = Fingerprint.add(res, power.getValue());
+        res = Fingerprint.add(res, toughness.getValue());
+        // abilities can be gained with new ids on each effects apply, so compare by rules text
+        // (same class can have different params, e.g. protection from red or from blue),
+        // text is generated one time only for card's abilities (see AbilityRulesCache)
+        long abilitiesSum = 0;
+        for (Ability ability : abilities) {
+            long abilityHash = Fingerprint.add(Fingerprint.start(), ability.getClass().getName());
+            abilityHash = Fingerprint.add(abilityHash, AbilityRulesCache.getRule(ability));
+            abilitiesSum += abilityHash;
+        }
+        res = Fingerprint.add(res, abilitiesSum);
+        long countersSum = 0;
+        for (Counter counter : getCounters(state).values()) {
+            countersSum += Fingerprint.add(Fingerprint.add(Fingerprint.start(), counter.getName()), counter.getCount());
+        }
+        res = Fingerprint.add(res, countersSum);
+        return res;
+    }
+
     @Override
     public void addInfo(String key, String value, Game game) {
         if (info == null) {
@@ -514,6 +565,11 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         return counters;
     }
 
+    @Override
+    public Counters getCountersForUpdate(GameState state) {
+        return counters;
+    }
+
     @Override
     public UUID getControllerOrOwnerId() {
         return controllerId;
@@ -741,6 +797,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         if (!phasedIn && !replaceEvent(EventType.PHASE_IN, game) && (!onlyDirect || !indirectPhase)) {
             this.phasedIn = true;
             this.indirectPhase = false;
+            updateBattlefieldIndex();
             game.informPlayers(getLogName() + " phased in");
             for (UUID attachedId : this.getAttachments()) {
                 Permanent attachedPerm = game.getPermanent(attachedId);
@@ -771,6 +828,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
             this.removeFromCombat(game);
             this.phasedIn = false;
             this.indirectPhase = indirectPhase;
+            updateBattlefieldIndex();
             game.informPlayers(getLogName() + " phased out");
             fireEvent(EventType.PHASED_OUT, game);
             return true;
@@ -836,6 +894,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
     public void resetControl() {
         this.beforeResetControllerId = this.controllerId;
         this.controllerId = this.originalControllerId;
+        updateBattlefieldIndex();
     }
 
     @Override
@@ -861,6 +920,7 @@ public abstract class PermanentImpl extends CardImpl implements Permanent {
         // must change abilities controller too
         this.controllerId = newControllerId;
         this.getAbilities().setControllerId(newControllerId);
+        updateBattlefieldIndex();
         return true;
     }
 
@@ -1040,6 +1040,11 @@ public class Spell extends StackObjectImpl implements Card {
         return card.getCounters(state);
     }
 
+    @Override
+    public Counters getCountersForUpdate(GameState state) {
+        return card.getCountersForUpdate(state);
+    }
+
     @Override
     public boolean addCounters(Counter counter, Ability source, Game game) {
         return card.addCounters(counter, source, game);
@@ -4257,7 +4257,7 @@ public abstract class PlayerImpl implements Player, Serializable {
             return playable;
         }
 
-        Game game = originalGame.createSimulationForPlayableCalc();
+        Game game = originalGame.getSimulationForPlayableCalc();
         ManaOptions availableMana = getManaAvailable(game); // get available mana options (mana pool and conditional mana added (but conditional still lose condition))
         if (hidden && fromZone.match(Zone.HAND)) {
             for (Card card : hand.getCards(game)) {
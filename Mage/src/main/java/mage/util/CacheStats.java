@@ -0,0 +1,77 @@
+package mage.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hit/miss stats for server side caches (shared by all games, e.g. AI caches from plugins)
+ * <p>
+ * How-to use:
+ * - cache gets counters by name and updates it on each call
+ * - see server logs (debug server state) or call getInfo
+ */
+public final class CacheStats {
+
+    private static final Map<String, CacheStats> stats = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private CacheStats() {
+    }
+
+    public static CacheStats get(String cacheName) {
+        return stats.computeIfAbsent(cacheName, name -> new CacheStats());
+    }
+
+    public void addHit() {
+        hits.increment();
+    }
+
+    public void addMiss() {
+        misses.increment();
+    }
+
+    public void addEvictions(int amount) {
+        evictions.add(amount);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public static void reset() {
+        stats.clear();
+    }
+
+    /**
+     * Stats info, sorted by cache name
+     */
+    public static List<String> getInfo() {
+        List<String> res = new ArrayList<>();
+        for (Map.Entry<String, CacheStats> entry : new TreeMap<>(stats).entrySet()) {
+            CacheStats cache = entry.getValue();
+            long hits = cache.getHits();
+            long total = hits + cache.getMisses();
+            res.add(entry.getKey()
+                    + ": hits " + hits
+                    + ", misses " + cache.getMisses()
+                    + ", hit ratio " + (total == 0 ? 0 : hits * 100 / total) + "%"
+                    + ", evictions " + cache.getEvictions());
+        }
+        return res;
+    }
+}
@@ -0,0 +1,182 @@
+package mage.util;
+
+import org.apache.log4j.Logger;
+
+import java.io.*;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Runtime part of the build time classes index, see ClassIndexProcessor
+ * <p>
+ * Index file: header with format version, optional sources hash and full class names list (one per line).
+ * Each module's jar can contain own index for same base class, so all found files will be used.
+ */
+public final class ClassIndex {
+
+    private static final Logger logger = Logger.getLogger(ClassIndex.class);
+
+    private static final String INDEX_FOLDER = "META-INF/xmage/class-index/";
+    private static final String INDEX_HEADER = "# xmage class index, format version: ";
+    private static final int INDEX_VERSION = 1;
+    private static final String CONTENT_HASH_PREFIX = "# content hash: ";
+
+    static final long HASH_START = 0xcbf29ce484222325L;
+
+    private ClassIndex() {
+    }
+
+    public static String getIndexPath(String baseClassName) {
+        return INDEX_FOLDER + baseClassName + ".txt";
+    }
+
+    /**
+     * Find indexed classes from all modules
+     *
+     * @param packages allowed packages (without sub-packages), can be empty for any
+     * @return found classes or null if no index files exist (e.g. not compiled by maven)
+     */
+    public static List<Class> findClasses(ClassLoader classLoader, List<String> packages, Class<?> type) {
+        if (classLoader == null) {
+            classLoader = Thread.currentThread().getContextClassLoader();
+        }
+
+        Set<String> classNames = new TreeSet<>();
+        boolean indexFound = false;
+        try {
+            Enumeration<URL> resources = classLoader.getResources(getIndexPath(type.getName()));
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    classNames.addAll(readIndex(reader));
+                    indexFound = true;
+                } catch (IllegalArgumentException e) {
+                    logger.warn("Class index: ignore unsupported file " + resource + " - " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Class index: can't read index for " + type.getName(), e);
+            return null;
+        }
+        if (!indexFound) {
+            return null;
+        }
+
+        List<Class> classes = new ArrayList<>();
+        for (String className : classNames) {
+            int packageNameEnd = className.lastIndexOf('.');
+            String packageName = packageNameEnd != -1 ? className.substring(0, packageNameEnd) : "";
+            if (!packages.isEmpty() && !packages.contains(packageName)) {
+                continue;
+            }
+            try {
+                Class clazz = Class.forName(className, true, classLoader);
+                if (type.isAssignableFrom(clazz)) {
+                    classes.add(clazz);
+                }
+            } catch (ClassNotFoundException e) {
+                // index from partial compile can keep deleted classes
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Build time hash of the indexed classes sources, so app can find changes without classes loading
+     *
+     * @return combined hash from all modules or null if it's unknown (e.g. no index or not compiled by maven)
+     */
+    public static Long findContentHash(ClassLoader classLoader, Class<?> type) {
+        if (classLoader == null) {
+            classLoader = Thread.currentThread().getContextClassLoader();
+        }
+
+        long res = HASH_START;
+        boolean indexFound = false;
+        try {
+            Enumeration<URL> resources = classLoader.getResources(getIndexPath(type.getName()));
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+                    Long hash = readContentHash(reader);
+                    if (hash == null) {
+                        return null;
+                    }
+                    res = hash(res, Long.toHexString(hash));
+                    indexFound = true;
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Class index: can't read index for " + type.getName(), e);
+            return null;
+        }
+        return indexFound ? res : null;
+    }
+
+    /**
+     * 64-bit FNV-1a
+     */
+    static long hash(long hash, CharSequence data) {
+        for (int i = 0; i < data.length(); i++) {
+            hash ^= data.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= '\n';
+        hash *= 0x100000001b3L;
+        return hash;
+    }
+
+    private static void checkHeader(BufferedReader reader) throws IOException {
+        String header = reader.readLine();
+        if (header == null || !header.equals(INDEX_HEADER + INDEX_VERSION)) {
+            throw new IllegalArgumentException("unknown header: " + header);
+        }
+    }
+
+    /**
+     * @return null if index doesn't have hash
+     * @throws IllegalArgumentException on unknown format
+     */
+    static Long readContentHash(BufferedReader reader) throws IOException {
+        checkHeader(reader);
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.startsWith(CONTENT_HASH_PREFIX)) {
+                return Long.parseUnsignedLong(line.substring(CONTENT_HASH_PREFIX.length()).trim(), 16);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @throws IllegalArgumentException on unknown format
+     */
+    static List<String> readIndex(BufferedReader reader) throws IOException {
+        checkHeader(reader);
+        List<String> res = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#")) {
+                res.add(line);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * @param contentHash can be null for unknown sources
+     */
+    static void writeIndex(Writer writer, Collection<String> classNames, Long contentHash) throws IOException {
+        writer.write(INDEX_HEADER + INDEX_VERSION + "\n");
+        if (contentHash != null) {
+            writer.write(CONTENT_HASH_PREFIX + Long.toHexString(contentHash) + "\n");
+        }
+        for (String className : classNames) {
+            writer.write(className + "\n");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package mage.util;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Build time classes index (annotation processor without annotations), see ClassIndex for runtime part
+ * <p>
+ * Finds all top level classes of the compiling module that extend a base class and saves it to the module's jar,
+ * so app can load it without jar scanning on startup. Index contains sources hash of the found classes too,
+ * so app can find changes without classes loading (e.g. cards db update on new sets or cards).
+ * <p>
+ * How-to use (see Mage.Sets/pom.xml):
+ * - compiler's annotationProcessors: mage.util.ClassIndexProcessor
+ * - compiler's arg: -Axmage.classIndex=mage.cards.ExpansionSet (base classes list, separated by comma)
+ */
+@SupportedOptions(ClassIndexProcessor.OPTION_BASE_CLASSES)
+@SupportedAnnotationTypes("*")
+public class ClassIndexProcessor extends AbstractProcessor {
+
+    public static final String OPTION_BASE_CLASSES = "xmage.classIndex";
+
+    private final Map<String, Set<String>> foundClasses = new HashMap<>(); // base class -> classes
+    private final Map<String, Long> sourceHashes = new HashMap<>(); // class -> source hash, null if unknown source
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        String option = processingEnv.getOptions().get(OPTION_BASE_CLASSES);
+        if (option == null || option.isEmpty()) {
+            return false;
+        }
+
+        if (roundEnv.processingOver()) {
+            foundClasses.forEach(this::writeIndex);
+            return false;
+        }
+
+        for (String baseClassName : option.split(",")) {
+            baseClassName = baseClassName.trim();
+            TypeElement baseClass = processingEnv.getElementUtils().getTypeElement(baseClassName);
+            if (baseClass == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Class index: unknown base class " + baseClassName);
+                continue;
+            }
+            TypeMirror baseType = processingEnv.getTypeUtils().erasure(baseClass.asType());
+            Set<String> classes = foundClasses.computeIfAbsent(baseClassName, x -> new TreeSet<>());
+            for (Element element : roundEnv.getRootElements()) {
+                if (element.getKind() != ElementKind.CLASS
+                        || element.getModifiers().contains(Modifier.ABSTRACT)
+                        || ((TypeElement) element).getNestingKind() != NestingKind.TOP_LEVEL) {
+                    continue;
+                }
+                TypeMirror type = processingEnv.getTypeUtils().erasure(element.asType());
+                if (processingEnv.getTypeUtils().isAssignable(type, baseType)) {
+                    String className = ((TypeElement) element).getQualifiedName().toString();
+                    classes.add(className);
+                    sourceHashes.computeIfAbsent(className, x -> findSourceHash((TypeElement) element));
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return null if source file is not available (e.g. compiler without sourcepath)
+     */
+    private Long findSourceHash(TypeElement element) {
+        String className = element.getQualifiedName().toString();
+        int packageNameEnd = className.lastIndexOf('.');
+        String packageName = packageNameEnd != -1 ? className.substring(0, packageNameEnd) : "";
+        String fileName = element.getSimpleName() + ".java";
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.SOURCE_PATH, packageName, fileName);
+            return ClassIndex.hash(ClassIndex.hash(ClassIndex.HASH_START, className), file.getCharContent(true));
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void writeIndex(String baseClassName, Set<String> classes) {
+        String path = ClassIndex.getIndexPath(baseClassName);
+        // partial compile (e.g. only changed files) must keep old classes, unknown classes will be ignored on load
+        Set<String> allClasses = new TreeSet<>(classes);
+        Long oldContentHash = null;
+        try {
+            FileObject oldFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(oldFile.openInputStream(), StandardCharsets.UTF_8))) {
+                allClasses.addAll(ClassIndex.readIndex(reader));
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(oldFile.openInputStream(), StandardCharsets.UTF_8))) {
+                oldContentHash = ClassIndex.readContentHash(reader);
+            }
+        } catch (IOException | IllegalArgumentException ignore) {
+            // new index
+        }
+
+        // sources of not compiled classes are unknown, so partial compile must use old hash too (new hash on each
+        // partial compile, but full compile of same sources gives same hash)
+        Long contentHash = ClassIndex.HASH_START;
+        if (!classes.containsAll(allClasses)) {
+            contentHash = oldContentHash == null ? null : ClassIndex.hash(contentHash, Long.toHexString(oldContentHash));
+        }
+        for (String className : classes) {
+            Long sourceHash = sourceHashes.get(className);
+            if (contentHash == null || sourceHash == null) {
+                contentHash = null;
+                break;
+            }
+            contentHash = ClassIndex.hash(contentHash, Long.toHexString(sourceHash));
+        }
+
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path);
+            try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                ClassIndex.writeIndex(writer, allClasses, contentHash);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Class index: can't write " + path + " - " + e);
+        }
+    }
+}
@@ -2,12 +2,7 @@
 
 package mage.util;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 /**
  *
@@ -23,32 +18,12 @@ public class Copier<T> {
     }
 
     public T copy(T obj) {
-        T copy = null;
-
-        FastByteArrayOutputStream fbos = null;
-        ObjectOutputStream out = null;
-        ObjectInputStream in = null;
+        // copy works inside same jvm, so it can use compact format without compression
         try {
-            fbos = new FastByteArrayOutputStream();
-            out = new ObjectOutputStream(fbos);
-
-            // Write the object out to a byte array
-            out.writeObject(obj);
-            out.flush();
-
-            // Retrieve an input stream from the byte array and read
-            // a copy of the object back in.
-            in = new CopierObjectInputStream(loader, fbos.getInputStream());
-            copy = (T) in.readObject();
-        }
-        catch(IOException | ClassNotFoundException e) {
+            return (T) SerializationCodec.COMPACT.copy(obj, loader);
+        } catch (IOException | ClassNotFoundException e) {
             e.printStackTrace();
-        } finally {
-            StreamUtils.closeQuietly(fbos);
-            StreamUtils.closeQuietly(out);
-            StreamUtils.closeQuietly(in);
         }
-        return copy;
-
+        return null;
     }
 }
@@ -0,0 +1,99 @@
+package mage.util;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Helpers for 64-bit state fingerprints (fast hash of game data without strings building, Zobrist-style)
+ * <p>
+ * Ordered data: combine values one by one (add)
+ * Unordered data (permanents, cards in zones): sum of independent element hashes (addUnordered), so same elements
+ * in another order give same result
+ */
+public final class Fingerprint {
+
+    private static final long START = 0x5DEECE66DL;
+
+    private Fingerprint() {
+    }
+
+    public static long start() {
+        return START;
+    }
+
+    /**
+     * SplitMix64 finalizer - good bits distribution for sequential and similar values
+     */
+    public static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static long add(long hash, long value) {
+        return mix(hash ^ mix(value));
+    }
+
+    public static long add(long hash, boolean value) {
+        return add(hash, value ? 1 : 2);
+    }
+
+    public static long add(long hash, UUID value) {
+        if (value == null) {
+            return add(hash, 0);
+        }
+        return add(add(hash, value.getMostSignificantBits()), value.getLeastSignificantBits());
+    }
+
+    /**
+     * Strings use content hash (same in any jvm run)
+     */
+    public static long add(long hash, String value) {
+        return add(hash, value == null ? 0 : value.hashCode());
+    }
+
+    /**
+     * Enums use ordinal, not hashCode (it's identity hash and differs between jvm runs)
+     */
+    public static long add(long hash, Enum<?> value) {
+        return add(hash, value == null ? 0 : value.ordinal() + 1);
+    }
+
+    /**
+     * Ordered enums like subtypes list (list's hashCode uses identity hashes of enums)
+     */
+    public static long addEnums(long hash, Collection<? extends Enum<?>> values) {
+        long res = add(hash, values.size());
+        for (Enum<?> value : values) {
+            res = add(res, value);
+        }
+        return res;
+    }
+
+    public static long of(UUID value) {
+        return add(START, value);
+    }
+
+    /**
+     * Ordered ids like attackers list
+     */
+    public static long addIds(long hash, Collection<UUID> ids) {
+        long res = add(hash, ids.size());
+        for (UUID id : ids) {
+            res = add(res, id);
+        }
+        return res;
+    }
+
+    /**
+     * Unordered ids like cards in graveyard
+     */
+    public static long addUnorderedIds(long hash, Collection<UUID> ids) {
+        long sum = 0;
+        for (UUID id : ids) {
+            sum += of(id);
+        }
+        return add(add(hash, ids.size()), sum);
+    }
+}
@@ -0,0 +1,247 @@
+package mage.util;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.zip.*;
+
+/**
+ * Serialization formats for deep copies, network traffic and saved games
+ * <p>
+ * Java formats use default java serialization with full class descriptions (class name, serial id, fields info)
+ * for each used class. Compact formats write class names only and restore class descriptions from local classes,
+ * so it's smaller and faster, but data must be read by same app version only (same jvm, client and server
+ * with same version).
+ * <p>
+ * Compression: gzip for best size, deflate-fast is a zlib stream from {@link Deflater} with
+ * {@link Deflater#BEST_SPEED} level (less cpu usage than gzip, but bigger data)
+ */
+public enum SerializationCodec {
+
+    JAVA("java", false, Compression.NONE),
+    JAVA_GZIP("java-gzip", false, Compression.GZIP),
+    COMPACT("compact", true, Compression.NONE),
+    COMPACT_GZIP("compact-gzip", true, Compression.GZIP),
+    COMPACT_DEFLATE_FAST("compact-deflate-fast", true, Compression.DEFLATE_FAST);
+
+    private enum Compression {
+        NONE,
+        GZIP,
+        DEFLATE_FAST
+    }
+
+    private static final int BUFFER_SIZE = 8 * 1024; // compression buffer
+    private static final int MAX_REUSED_BUFFER_SIZE = 4 * 1024 * 1024;
+    private static final ThreadLocal<FastByteArrayOutputStream> reusedBuffer = ThreadLocal.withInitial(FastByteArrayOutputStream::new);
+
+    private static final int CLASS_DESCRIPTOR_FULL = 0;
+    private static final int CLASS_DESCRIPTOR_NAME = 1;
+
+    private final String name;
+    private final boolean compact;
+    private final Compression compression;
+
+    SerializationCodec(String name, boolean compact, Compression compression) {
+        this.name = name;
+        this.compact = compact;
+        this.compression = compression;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCompressed() {
+        return compression != Compression.NONE;
+    }
+
+    /**
+     * Find codec by name, e.g. from java params
+     *
+     * @param name
+     * @return null on unknown name
+     */
+    public static SerializationCodec findByName(String name) {
+        return Arrays.stream(values())
+                .filter(codec -> codec.getName().equalsIgnoreCase(name))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Object stream for a data writing, must be closed after usage (finish compression)
+     */
+    public ObjectOutputStream createOutput(OutputStream out) throws IOException {
+        OutputStream stream;
+        switch (compression) {
+            case GZIP:
+                stream = new GZIPOutputStream(out, BUFFER_SIZE);
+                break;
+            case DEFLATE_FAST:
+                stream = new BestSpeedDeflaterOutputStream(out);
+                break;
+            default:
+                stream = out;
+                break;
+        }
+        return compact ? new CompactObjectOutputStream(stream) : new ObjectOutputStream(stream);
+    }
+
+    /**
+     * Object stream for a data reading
+     *
+     * @param in
+     * @param loader class loader for data classes, can be null for default
+     */
+    public ObjectInputStream createInput(InputStream in, ClassLoader loader) throws IOException {
+        InputStream stream;
+        switch (compression) {
+            case GZIP:
+                stream = new GZIPInputStream(in, BUFFER_SIZE);
+                break;
+            case DEFLATE_FAST:
+                stream = new BestSpeedInflaterInputStream(in);
+                break;
+            default:
+                stream = in;
+                break;
+        }
+        return compact ? new CompactObjectInputStream(stream, loader) : new LoaderObjectInputStream(stream, loader);
+    }
+
+    public byte[] encode(Object object) throws IOException {
+        // reuse buffer between calls (no needs in buffer grow for each call)
+        FastByteArrayOutputStream buffer = reusedBuffer.get();
+        buffer.reset();
+        try (ObjectOutputStream out = createOutput(buffer)) {
+            out.writeObject(object);
+        }
+        byte[] data = Arrays.copyOf(buffer.getByteArray(), buffer.getSize());
+        if (buffer.getByteArray().length > MAX_REUSED_BUFFER_SIZE) {
+            // do not keep memory after big objects
+            reusedBuffer.remove();
+        }
+        return data;
+    }
+
+    /**
+     * Deep copy without intermediate data array (encoded data reads from the reused buffer)
+     */
+    public Object copy(Object object, ClassLoader loader) throws IOException, ClassNotFoundException {
+        FastByteArrayOutputStream buffer = reusedBuffer.get();
+        buffer.reset();
+        try (ObjectOutputStream out = createOutput(buffer)) {
+            out.writeObject(object);
+        }
+        try (ObjectInputStream in = createInput(new ByteArrayInputStream(buffer.getByteArray(), 0, buffer.getSize()), loader)) {
+            return in.readObject();
+        } finally {
+            if (buffer.getByteArray().length > MAX_REUSED_BUFFER_SIZE) {
+                reusedBuffer.remove();
+            }
+        }
+    }
+
+    public Object decode(byte[] data, ClassLoader loader) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = createInput(new ByteArrayInputStream(data), loader)) {
+            return in.readObject();
+        }
+    }
+
+    private static Class<?> findClass(String className, ClassLoader loader) throws ClassNotFoundException {
+        return Class.forName(className, false, loader != null ? loader : SerializationCodec.class.getClassLoader());
+    }
+
+    private static class BestSpeedDeflaterOutputStream extends DeflaterOutputStream {
+
+        BestSpeedDeflaterOutputStream(OutputStream out) {
+            super(out, new Deflater(Deflater.BEST_SPEED), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                def.end(); // custom deflater must be released manually
+            }
+        }
+    }
+
+    private static class BestSpeedInflaterInputStream extends InflaterInputStream {
+
+        BestSpeedInflaterInputStream(InputStream in) {
+            super(in, new Inflater(), BUFFER_SIZE);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                inf.end(); // custom inflater must be released manually
+            }
+        }
+    }
+
+    private static class LoaderObjectInputStream extends ObjectInputStream {
+
+        protected final ClassLoader loader;
+
+        LoaderObjectInputStream(InputStream in, ClassLoader loader) throws IOException {
+            super(in);
+            this.loader = loader;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            if (loader == null) {
+                return super.resolveClass(desc);
+            }
+            try {
+                return findClass(desc.getName(), loader);
+            } catch (ClassNotFoundException e) {
+                // primitive types
+                return super.resolveClass(desc);
+            }
+        }
+    }
+
+    private static class CompactObjectOutputStream extends ObjectOutputStream {
+
+        CompactObjectOutputStream(OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass desc) throws IOException {
+            Class<?> clazz = desc.forClass();
+            if (clazz.isPrimitive() || clazz.isArray() || clazz.isInterface() || desc.getSerialVersionUID() == 0) {
+                write(CLASS_DESCRIPTOR_FULL);
+                super.writeClassDescriptor(desc);
+            } else {
+                write(CLASS_DESCRIPTOR_NAME);
+                writeUTF(desc.getName());
+            }
+        }
+    }
+
+    private static class CompactObjectInputStream extends LoaderObjectInputStream {
+
+        CompactObjectInputStream(InputStream in, ClassLoader loader) throws IOException {
+            super(in, loader);
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            int type = read();
+            switch (type) {
+                case CLASS_DESCRIPTOR_FULL:
+                    return super.readClassDescriptor();
+                case CLASS_DESCRIPTOR_NAME:
+                    return ObjectStreamClass.lookupAny(findClass(readUTF(), loader));
+                default:
+                    throw new StreamCorruptedException("Unknown class descriptor type: " + type);
+            }
+        }
+    }
+}
@@ -32,6 +32,9 @@ public final class ThreadUtils {
     public final static String THREAD_PREFIX_SERVICE_CONNECTION_EXPIRED_CHECK = "XMAGE connection expired check";
     public final static String THREAD_PREFIX_SERVICE_LOBBY_REFRESH = "XMAGE lobby refresh";
     public final static String THREAD_PREFIX_SERVICE_NEWS_REFRESH = "XMAGE news refresh";
+    public final static String THREAD_PREFIX_SERVICE_NIO_SELECTOR = "XMAGE nio selector";
+    public final static String THREAD_PREFIX_SERVICE_NIO_DECODER = "XMAGE nio decoder";
+    public final static String THREAD_PREFIX_SERVICE_CARDS_CATALOG = "XMAGE cards catalog";
 
     // etc
     public final static String THREAD_PREFIX_TIMEOUT = "XMAGE timeout";
@@ -44,6 +47,9 @@ public final class ThreadUtils {
     public final static String THREAD_PREFIX_CLIENT_PING_SENDER = "XMAGE ping sender";
     public final static String THREAD_PREFIX_CLIENT_SUBMIT_TIMER = "XMAGE submit timer";
     public final static String THREAD_PREFIX_CLIENT_AUTO_CLOSE_TIMER = "XMAGE auto-close timer";
+    public final static String THREAD_PREFIX_CLIENT_NIO_READER = "XMAGE nio reader";
+    public final static String THREAD_PREFIX_CLIENT_NIO_CALLBACKS = "XMAGE nio callbacks";
+    public final static String THREAD_PREFIX_CLIENT_NIO_LEASE = "XMAGE nio lease ping";
 
     // tests
     public final static String THREAD_PREFIX_TESTS_AI_VS_AI_GAMES = "XMAGE tests ai vs ai";
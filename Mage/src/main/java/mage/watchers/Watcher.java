@@ -9,6 +9,7 @@ import org.apache.log4j.Logger;
 import java.io.Serializable;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * watches for certain game events to occur and flags condition
@@ -18,6 +19,7 @@ import java.util.*;
 public abstract class Watcher implements Serializable {
 
     private static final Logger logger = Logger.getLogger(Watcher.class);
+    private static final Map<Class<? extends Watcher>, CopyPlan> copyPlans = new ConcurrentHashMap<>();
 
     protected UUID controllerId;
     protected UUID sourceId;
@@ -78,18 +80,92 @@ public abstract class Watcher implements Serializable {
 
     public abstract void watch(GameEvent event, Game game);
 
+    /**
+     * Optional: all event types from watch method, used for fast events dispatch (watcher will get only
+     * related events). Must be same for all objects of the class and must be declared in the same class
+     * as watch (if child class overrides watch then it will get all events)
+     *
+     * @return null for unknown types (watcher will get all events)
+     */
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return null;
+    }
+
+    /**
+     * Copy by watcher's copy constructor (optional, for often copied watchers like game default watchers)
+     * or by reflection: constructor and fields are cached per class, but field's values still
+     * use reflective get/set and deep copy
+     */
     public <T extends Watcher> T copy() {
+        CopyPlan plan = getCopyPlan(getClass());
+        if (plan == null) {
+            return null;
+        }
         try {
+            if (plan.copyConstructor != null) {
+                return (T) plan.copyConstructor.newInstance(this);
+            }
+
+            T watcher = (T) plan.constructor.newInstance(plan.args);
+
+            // copy field's values
+            for (Field field : plan.fields) {
+                field.set(watcher, CardUtil.deepCopyObject(field.get(this)));
+            }
+            return watcher;
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            logger.error("Can't copy watcher: " + e.getMessage(), e);
+        }
+        return null;
+    }
+
+    /**
+     * Reflection data for the watcher copy (constructor and fields), collected once per watcher class
+     */
+    private static CopyPlan getCopyPlan(Class<? extends Watcher> watcherClass) {
+        CopyPlan plan = copyPlans.get(watcherClass);
+        if (plan == null) {
+            plan = CopyPlan.create(watcherClass);
+            if (plan == null) {
+                return null;
+            }
+            copyPlans.putIfAbsent(watcherClass, plan);
+        }
+        return plan;
+    }
+
+    private static final class CopyPlan {
+
+        private final Constructor<? extends Watcher> constructor;
+        private final Object[] args;
+        private final Constructor<? extends Watcher> copyConstructor;
+        private final Field[] fields;
+
+        private CopyPlan(Constructor<? extends Watcher> constructor, Object[] args, Constructor<? extends Watcher> copyConstructor, Field[] fields) {
+            this.constructor = constructor;
+            this.args = args;
+            this.copyConstructor = copyConstructor;
+            this.fields = fields;
+        }
+
+        private static CopyPlan create(Class<? extends Watcher> watcherClass) {
             //use getDeclaredConstructors to allow for package-private constructors (i.e. omit public)
-            List<?> constructors = Arrays.asList(this.getClass().getDeclaredConstructors());
-            if (constructors.size() > 1) {
-                logger.error(getClass().getSimpleName() + " has multiple constructors");
+            List<Constructor<?>> constructors = new ArrayList<>();
+            Constructor<? extends Watcher> copyConstructor = null;
+            for (Constructor<?> constructor : watcherClass.getDeclaredConstructors()) {
+                if (constructor.getParameterCount() == 1 && constructor.getParameterTypes()[0] == watcherClass) {
+                    copyConstructor = (Constructor<? extends Watcher>) constructor;
+                    copyConstructor.setAccessible(true);
+                } else {
+                    constructors.add(constructor);
+                }
+            }
+            if (constructors.size() != 1) {
+                logger.error(watcherClass.getSimpleName() + " must have only one constructor (and optional copy constructor)");
                 return null;
             }
 
             Constructor<? extends Watcher> constructor = (Constructor<? extends Watcher>) constructors.get(0);
-
-            // collect all fields
             constructor.setAccessible(true);
             Object[] args = new Object[constructor.getParameterCount()];
             for (int index = 0; index < constructor.getParameterTypes().length; index++) {
@@ -101,25 +177,21 @@ public abstract class Watcher implements Serializable {
                 } else {
                     args[index] = null;
                 }
-
             }
-            T watcher = (T) constructor.newInstance(args);
-            List<Field> allFields = new ArrayList<>();
-            allFields.addAll(Arrays.asList(getClass().getDeclaredFields()));
-            allFields.addAll(Arrays.asList(getClass().getSuperclass().getDeclaredFields()));
 
-            // copy field's values
+            // collect all fields
+            List<Field> allFields = new ArrayList<>();
+            allFields.addAll(Arrays.asList(watcherClass.getDeclaredFields()));
+            allFields.addAll(Arrays.asList(watcherClass.getSuperclass().getDeclaredFields()));
+            List<Field> fields = new ArrayList<>();
             for (Field field : allFields) {
                 if (!Modifier.isStatic(field.getModifiers())) {
                     field.setAccessible(true);
-                    field.set(watcher, CardUtil.deepCopyObject(field.get(this)));
+                    fields.add(field);
                 }
             }
-            return watcher;
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
-            logger.error("Can't copy watcher: " + e.getMessage(), e);
+            return new CopyPlan(constructor, args, copyConstructor, fields.toArray(new Field[0]));
         }
-        return null;
     }
 
     public WatcherScope getScope() {
@@ -0,0 +1,75 @@
+package mage.watchers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Debug stats for watchers (shared by all games), helps to find hot watchers
+ * <p>
+ * dispatched - game events while the watcher was active (all events, as without events subscription)
+ * handled - events sent to the watcher's watch method (only subscribed events, see Watcher.getWatchEventTypes)
+ * <p>
+ * How-to use:
+ * - run with -Dxmage.debug.watcherStats=true
+ * - see server logs (debug server state) or call getInfo
+ */
+public final class WatcherStats {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("xmage.debug.watcherStats", "false"));
+
+    private static final Map<Class<? extends Watcher>, Counters> counters = new ConcurrentHashMap<>();
+
+    private WatcherStats() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    static void addDispatched(Watcher watcher) {
+        getCounters(watcher).dispatched.increment();
+    }
+
+    static void addHandled(Watcher watcher) {
+        getCounters(watcher).handled.increment();
+    }
+
+    private static Counters getCounters(Watcher watcher) {
+        return counters.computeIfAbsent(watcher.getClass(), clazz -> new Counters());
+    }
+
+    public static void reset() {
+        counters.clear();
+    }
+
+    /**
+     * Stats info, sorted by handled events
+     *
+     * @param limit max watchers amount
+     */
+    public static List<String> getInfo(int limit) {
+        List<Map.Entry<Class<? extends Watcher>, Counters>> list = new ArrayList<>(counters.entrySet());
+        list.sort(Comparator.comparingLong((Map.Entry<Class<? extends Watcher>, Counters> entry) -> entry.getValue().handled.sum())
+                .thenComparingLong(entry -> entry.getValue().dispatched.sum())
+                .reversed());
+        List<String> res = new ArrayList<>();
+        for (Map.Entry<Class<? extends Watcher>, Counters> entry : list) {
+            if (res.size() >= limit) {
+                break;
+            }
+            res.add(entry.getKey().getSimpleName()
+                    + ": dispatched " + entry.getValue().dispatched.sum()
+                    + ", handled " + entry.getValue().handled.sum());
+        }
+        return res;
+    }
+
+    private static final class Counters {
+        private final LongAdder dispatched = new LongAdder();
+        private final LongAdder handled = new LongAdder();
+    }
+}
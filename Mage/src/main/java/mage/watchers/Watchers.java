@@ -5,7 +5,9 @@ import mage.game.events.GameEvent;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
-import java.util.HashMap;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author BetaSteward_at_googlemail.com
@@ -14,6 +16,11 @@ public class Watchers extends HashMap<String, Watcher> {
 
     private static final Logger logger = LogManager.getLogger(Watcher.class.getSimpleName());
 
+    // fast events dispatch by event type (see Watcher.getWatchEventTypes), keeps same order as the map,
+    // lists are immutable, so current processing is not affected by new watchers
+    private static final Map<Class<?>, Set<GameEvent.EventType>> watchEventTypes = new ConcurrentHashMap<>();
+    private transient Map<GameEvent.EventType, List<Watcher>> eventTypeIndex = null;
+
     public Watchers() {
     }
 
@@ -33,11 +40,94 @@ public class Watchers extends HashMap<String, Watcher> {
     }
 
     public void watch(GameEvent event, Game game) {
-        for (Watcher watcher : this.values()) {
+        if (WatcherStats.isEnabled()) {
+            this.values().forEach(WatcherStats::addDispatched);
+        }
+        for (Watcher watcher : getWatchersForEventType(event.getType())) {
+            if (WatcherStats.isEnabled()) {
+                WatcherStats.addHandled(watcher);
+            }
             watcher.watch(event, game);
         }
     }
 
+    private List<Watcher> getWatchersForEventType(GameEvent.EventType eventType) {
+        if (eventTypeIndex == null) {
+            eventTypeIndex = new EnumMap<>(GameEvent.EventType.class);
+        }
+        List<Watcher> res = eventTypeIndex.get(eventType);
+        if (res == null) {
+            res = new ArrayList<>();
+            for (Watcher watcher : this.values()) {
+                if (getWatchEventTypes(watcher).contains(eventType)) {
+                    res.add(watcher);
+                }
+            }
+            res = Collections.unmodifiableList(res);
+            eventTypeIndex.put(eventType, res);
+        }
+        return res;
+    }
+
+    private static Set<GameEvent.EventType> getWatchEventTypes(Watcher watcher) {
+        return watchEventTypes.computeIfAbsent(watcher.getClass(), clazz -> findWatchEventTypes(watcher));
+    }
+
+    /**
+     * Event types of the watcher's class or all types for dynamic checks
+     */
+    private static Set<GameEvent.EventType> findWatchEventTypes(Watcher watcher) {
+        try {
+            // child class can override watch, so event types must be declared in the same class
+            Method watchMethod = watcher.getClass().getMethod("watch", GameEvent.class, Game.class);
+            Method typesMethod = watcher.getClass().getMethod("getWatchEventTypes");
+            Set<GameEvent.EventType> types = watcher.getWatchEventTypes();
+            if (types != null && watchMethod.getDeclaringClass() == typesMethod.getDeclaringClass()) {
+                return types.isEmpty() ? EnumSet.noneOf(GameEvent.EventType.class) : EnumSet.copyOf(types);
+            }
+        } catch (NoSuchMethodException e) {
+            logger.error("Can't find watch methods for " + watcher.getClass().getName(), e);
+        }
+        return EnumSet.allOf(GameEvent.EventType.class);
+    }
+
+    private void resetIndex() {
+        eventTypeIndex = null;
+    }
+
+    @Override
+    public Watcher put(String key, Watcher value) {
+        resetIndex();
+        return super.put(key, value);
+    }
+
+    @Override
+    public Watcher putIfAbsent(String key, Watcher value) {
+        Watcher res = super.putIfAbsent(key, value);
+        if (res == null) {
+            resetIndex();
+        }
+        return res;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends Watcher> m) {
+        resetIndex();
+        super.putAll(m);
+    }
+
+    @Override
+    public Watcher remove(Object key) {
+        resetIndex();
+        return super.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        resetIndex();
+        super.clear();
+    }
+
     public void reset() {
         this.values().forEach(Watcher::reset);
     }
@@ -6,8 +6,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author TheElk801
@@ -20,6 +22,11 @@ public class AbilityResolvedWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.RESOLVING_ABILITY);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.RESOLVING_ABILITY) {
@@ -5,8 +5,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,6 +24,11 @@ public class AmountOfDamageAPlayerReceivedThisTurnWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DAMAGED_PLAYER) {
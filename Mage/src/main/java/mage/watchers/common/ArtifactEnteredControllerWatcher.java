@@ -6,6 +6,7 @@ import mage.game.events.EntersTheBattlefieldEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -21,6 +22,11 @@ public class ArtifactEnteredControllerWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ENTERS_THE_BATTLEFIELD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() != GameEvent.EventType.ENTERS_THE_BATTLEFIELD) {
@@ -1,6 +1,7 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -26,6 +27,11 @@ public class AttackedLastTurnWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGINNING_PHASE_PRE, GameEvent.EventType.DECLARED_ATTACKERS);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.BEGINNING_PHASE_PRE) {
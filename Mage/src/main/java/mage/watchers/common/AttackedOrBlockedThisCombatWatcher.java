@@ -6,6 +6,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -21,6 +22,17 @@ public class AttackedOrBlockedThisCombatWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private AttackedOrBlockedThisCombatWatcher(final AttackedOrBlockedThisCombatWatcher watcher) {
+        super(watcher);
+        this.attackedThisTurnCreatures.addAll(watcher.attackedThisTurnCreatures);
+        this.blockedThisTurnCreatures.addAll(watcher.blockedThisTurnCreatures);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BEGIN_COMBAT_STEP_PRE, GameEvent.EventType.ATTACKER_DECLARED, GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
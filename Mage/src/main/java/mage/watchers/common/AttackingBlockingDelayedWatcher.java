@@ -5,6 +5,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -28,6 +29,11 @@ public class AttackingBlockingDelayedWatcher extends Watcher {
     public AttackingBlockingDelayedWatcher() {
         super(WatcherScope.GAME);
     }
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LAND_PLAYED, GameEvent.EventType.TAKEN_SPECIAL_ACTION, GameEvent.EventType.RESOLVING_ABILITY, GameEvent.EventType.DAMAGED_BATCH_FOR_PERMANENTS);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
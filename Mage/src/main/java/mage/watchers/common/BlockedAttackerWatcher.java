@@ -27,6 +27,16 @@ public class BlockedAttackerWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private BlockedAttackerWatcher(final BlockedAttackerWatcher watcher) {
+        super(watcher);
+        watcher.blockerMap.forEach((attacker, blockers) -> this.blockerMap.put(attacker, new HashSet<>(blockers)));
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.BLOCKER_DECLARED) {
@@ -23,6 +23,16 @@ public class BlockingOrBlockedWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private BlockingOrBlockedWatcher(final BlockingOrBlockedWatcher watcher) {
+        super(watcher);
+        watcher.blockerMap.forEach((creature, blockers) -> this.blockerMap.put(creature, new HashSet<>(blockers)));
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.BLOCKER_DECLARED, GameEvent.EventType.END_COMBAT_STEP_POST, GameEvent.EventType.REMOVED_FROM_COMBAT);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -7,6 +7,9 @@ import mage.game.events.DamagedPlayerEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Must be installed to player for proper Bloodthirst work
@@ -19,6 +22,11 @@ public class BloodthirstWatcher extends Watcher {
     }
 
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (condition) { //no need to check - condition has already occured
@@ -1,6 +1,7 @@
 
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -30,6 +31,11 @@ public class CardsCycledOrDiscardedThisTurnWatcher extends Watcher {
     }
 
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DISCARDED_CARD, GameEvent.EventType.CYCLED_CARD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DISCARDED_CARD
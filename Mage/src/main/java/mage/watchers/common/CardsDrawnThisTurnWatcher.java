@@ -5,8 +5,10 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +26,16 @@ public class CardsDrawnThisTurnWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private CardsDrawnThisTurnWatcher(final CardsDrawnThisTurnWatcher watcher) {
+        super(watcher);
+        this.cardsDrawnThisTurn.putAll(watcher.cardsDrawnThisTurn);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DREW_CARD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DREW_CARD) {
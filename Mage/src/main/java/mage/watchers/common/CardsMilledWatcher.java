@@ -25,6 +25,11 @@ public class CardsMilledWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.MILLED_CARD);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() != GameEvent.EventType.MILLED_CARD) {
@@ -26,6 +26,20 @@ public class CastSpellLastTurnWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private CastSpellLastTurnWatcher(final CastSpellLastTurnWatcher watcher) {
+        super(watcher);
+        this.amountOfSpellsCastOnPrevTurn.putAll(watcher.amountOfSpellsCastOnPrevTurn);
+        this.amountOfSpellsCastOnCurrentTurn.putAll(watcher.amountOfSpellsCastOnCurrentTurn);
+        this.spellsCastThisTurnInOrder.addAll(watcher.spellsCastThisTurnInOrder);
+        this.activePlayerPrevTurnCount = watcher.activePlayerPrevTurnCount;
+        this.activePlayerThisTurnCount = watcher.activePlayerThisTurnCount;
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.SPELL_CAST) {
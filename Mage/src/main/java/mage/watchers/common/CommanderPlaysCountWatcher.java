@@ -31,6 +31,17 @@ public class CommanderPlaysCountWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private CommanderPlaysCountWatcher(final CommanderPlaysCountWatcher watcher) {
+        super(watcher);
+        this.playsCount.putAll(watcher.playsCount);
+        this.playerCount.putAll(watcher.playerCount);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LAND_PLAYED, GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() != EventType.LAND_PLAYED
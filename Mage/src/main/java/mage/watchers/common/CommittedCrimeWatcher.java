@@ -7,6 +7,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -24,6 +25,11 @@ public class CommittedCrimeWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST, GameEvent.EventType.ACTIVATED_ABILITY, GameEvent.EventType.TRIGGERED_ABILITY);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -19,6 +19,11 @@ public class CompletedDungeonWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DUNGEON_COMPLETED, GameEvent.EventType.BEGINNING_PHASE_PRE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -9,7 +9,9 @@ import mage.watchers.Watcher;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -61,6 +63,11 @@ public class ControlCombatRedundancyWatcher extends Watcher {
         blockingControllers.clear();
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_COMBAT_STEP_POST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.END_COMBAT_STEP_POST) {
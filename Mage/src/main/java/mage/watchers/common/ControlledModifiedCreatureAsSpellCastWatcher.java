@@ -9,7 +9,9 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Set;
 
 /**
  *
@@ -29,6 +31,11 @@ public class ControlledModifiedCreatureAsSpellCastWatcher extends Watcher {
 
     private final HashMap<MageObjectReference, Integer> modifiedCreaturesWhenCast = new HashMap<>();
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.SPELL_CAST) {
@@ -39,6 +39,11 @@ public class DamageDoneWatcher extends Watcher {
         this.objectsToPlayersDamaged = new HashMap<>();
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PERMANENT, GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
@@ -27,6 +27,11 @@ public class DamagedPlayerThisCombatWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COMBAT_DAMAGE_STEP_POST, GameEvent.EventType.CLEANUP_STEP_POST, GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.COMBAT_DAMAGE_STEP_POST
@@ -6,8 +6,10 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +26,16 @@ public class EndStepCountWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private EndStepCountWatcher(final EndStepCountWatcher watcher) {
+        super(watcher);
+        this.playerMap.putAll(watcher.playerMap);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.END_TURN_STEP_PRE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.END_TURN_STEP_PRE) {
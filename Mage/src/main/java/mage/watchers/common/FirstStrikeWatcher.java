@@ -6,6 +6,7 @@ import mage.game.Game;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -27,6 +28,16 @@ public class FirstStrikeWatcher extends Watcher {
         this.firstStrikingCreatures = new HashSet<>();
     }
 
+    private FirstStrikeWatcher(final FirstStrikeWatcher watcher) {
+        super(watcher);
+        this.firstStrikingCreatures = new HashSet<>(watcher.firstStrikingCreatures);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.COMBAT_PHASE_POST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.COMBAT_PHASE_POST) {
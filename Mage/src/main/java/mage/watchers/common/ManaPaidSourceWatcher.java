@@ -15,8 +15,10 @@ import mage.util.Copyable;
 import mage.watchers.Watcher;
 
 import java.io.Serializable;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -122,6 +124,11 @@ public class ManaPaidSourceWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.ZONE_CHANGE, GameEvent.EventType.MANA_PAID);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
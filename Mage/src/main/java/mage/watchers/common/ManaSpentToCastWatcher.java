@@ -8,8 +8,10 @@ import mage.game.events.GameEvent;
 import mage.game.stack.Spell;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 
 /**
@@ -31,6 +33,16 @@ public class ManaSpentToCastWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private ManaSpentToCastWatcher(final ManaSpentToCastWatcher watcher) {
+        super(watcher);
+        watcher.manaMap.forEach((spell, mana) -> this.manaMap.put(spell, mana.copy()));
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SPELL_CAST);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         // There was a check for the from zone being the hand, but that should not matter
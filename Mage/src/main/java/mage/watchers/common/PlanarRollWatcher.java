@@ -7,8 +7,10 @@ import mage.game.events.DieRolledEvent;
 import mage.game.events.GameEvent;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /*
@@ -25,6 +27,16 @@ public class PlanarRollWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private PlanarRollWatcher(final PlanarRollWatcher watcher) {
+        super(watcher);
+        this.numberTimesPlanarDieRolled.putAll(watcher.numberTimesPlanarDieRolled);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DIE_ROLLED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DIE_ROLLED) {
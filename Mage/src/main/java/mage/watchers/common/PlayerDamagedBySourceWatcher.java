@@ -1,5 +1,6 @@
 package mage.watchers.common;
 
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
@@ -24,6 +25,17 @@ public class PlayerDamagedBySourceWatcher extends Watcher {
         super(WatcherScope.PLAYER);
     }
 
+    private PlayerDamagedBySourceWatcher(final PlayerDamagedBySourceWatcher watcher) {
+        super(watcher);
+        this.damageSourceIds.addAll(watcher.damageSourceIds);
+        this.combatDamageSourceIds.addAll(watcher.combatDamageSourceIds);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.DAMAGED_PLAYER);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.DAMAGED_PLAYER) {
@@ -6,8 +6,10 @@ import mage.game.events.GameEvent;
 import mage.players.Player;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /*
@@ -28,6 +30,17 @@ public class PlayerLostLifeWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private PlayerLostLifeWatcher(final PlayerLostLifeWatcher watcher) {
+        super(watcher);
+        this.amountOfLifeLostThisTurn.putAll(watcher.amountOfLifeLostThisTurn);
+        this.amountOfLifeLostLastTurn.putAll(watcher.amountOfLifeLostLastTurn);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.LOST_LIFE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         if (event.getType() == GameEvent.EventType.LOST_LIFE) {
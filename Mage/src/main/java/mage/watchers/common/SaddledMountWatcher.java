@@ -24,6 +24,11 @@ public class SaddledMountWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.SADDLED_MOUNT, GameEvent.EventType.MOUNT_SADDLED);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
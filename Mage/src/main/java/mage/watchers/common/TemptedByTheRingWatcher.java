@@ -6,8 +6,10 @@ import mage.game.events.GameEvent;
 import mage.util.CardUtil;
 import mage.watchers.Watcher;
 
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +26,16 @@ public class TemptedByTheRingWatcher extends Watcher {
         super(WatcherScope.GAME);
     }
 
+    private TemptedByTheRingWatcher(final TemptedByTheRingWatcher watcher) {
+        super(watcher);
+        this.map.putAll(watcher.map);
+    }
+
+    @Override
+    public Set<GameEvent.EventType> getWatchEventTypes() {
+        return EnumSet.of(GameEvent.EventType.TEMPTED_BY_RING, GameEvent.EventType.BEGINNING_PHASE_PRE);
+    }
+
     @Override
     public void watch(GameEvent event, Game game) {
         switch (event.getType()) {
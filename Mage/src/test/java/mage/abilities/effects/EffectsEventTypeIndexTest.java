@@ -0,0 +1,194 @@
+package mage.abilities.effects;
+
+import mage.abilities.Ability;
+import mage.constants.Duration;
+import mage.constants.Outcome;
+import mage.game.Game;
+import mage.game.events.GameEvent;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Custom unit tests for {@link EffectsEventTypeIndex}
+ */
+public class EffectsEventTypeIndexTest {
+
+    /**
+     * Effect with event type check only (can be indexed)
+     */
+    private static class TypeEffect extends ReplacementEffectImpl {
+
+        private final Set<GameEvent.EventType> types;
+
+        TypeEffect(GameEvent.EventType... types) {
+            super(Duration.WhileOnBattlefield, Outcome.Benefit);
+            this.types = EnumSet.copyOf(Arrays.asList(types));
+        }
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return types.contains(event.getType());
+        }
+
+        @Override
+        public boolean applies(GameEvent event, Ability source, Game game) {
+            return true;
+        }
+
+        @Override
+        public boolean replaceEvent(GameEvent event, Ability source, Game game) {
+            return false;
+        }
+
+        @Override
+        public TypeEffect copy() {
+            return this;
+        }
+    }
+
+    /**
+     * Effect with event's data check (must be in all buckets)
+     */
+    private static class EventDataEffect extends TypeEffect {
+
+        EventDataEffect() {
+            super(GameEvent.EventType.DAMAGE_PLAYER);
+        }
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return event.getAmount() > 1;
+        }
+    }
+
+    /**
+     * Effect with game's state check (must be in all buckets)
+     */
+    private static class GameStateEffect extends TypeEffect {
+
+        GameStateEffect() {
+            super(GameEvent.EventType.DAMAGE_PLAYER);
+        }
+
+        @Override
+        public boolean checksEventType(GameEvent event, Game game) {
+            return game != null && game.getTurnNum() > 1;
+        }
+    }
+
+    private static final GameEvent.EventType[] CHECKED_TYPES = {
+            GameEvent.EventType.DAMAGE_PLAYER,
+            GameEvent.EventType.DAMAGE_PERMANENT,
+            GameEvent.EventType.DRAW_CARD,
+            GameEvent.EventType.ZONE_CHANGE,
+            GameEvent.EventType.GAIN_LIFE
+    };
+
+    private static EffectsEventTypeIndex<ReplacementEffect> createIndex() {
+        return new EffectsEventTypeIndex<>(ReplacementEffect::checksEventType);
+    }
+
+    private static boolean isComplexCheck(ReplacementEffect effect) {
+        return effect instanceof EventDataEffect || effect instanceof GameStateEffect;
+    }
+
+    /**
+     * Same as effects processing without index: check all effects by real event
+     */
+    private static List<ReplacementEffect> fullScan(ContinuousEffectsList<ReplacementEffect> effects, GameEvent.EventType type) {
+        GameEvent event = new GameEvent(type, UUID.randomUUID(), null, UUID.randomUUID(), 2, false);
+        return effects.stream()
+                .filter(effect -> effect.checksEventType(event, null))
+                .collect(Collectors.toList());
+    }
+
+    private static void assertSameAsFullScan(EffectsEventTypeIndex<ReplacementEffect> index, ContinuousEffectsList<ReplacementEffect> effects) {
+        for (GameEvent.EventType type : CHECKED_TYPES) {
+            List<ReplacementEffect> indexed = index.getEffects(effects, type);
+
+            // index can't lose any effect from the full scan
+            Assert.assertTrue("index must contain full scan effects for " + type, indexed.containsAll(fullScan(effects, type)));
+
+            // index must contain type's effects and complex effects only, in the list's order
+            List<ReplacementEffect> need = effects.stream()
+                    .filter(effect -> isComplexCheck(effect) || ((TypeEffect) effect).types.contains(type))
+                    .collect(Collectors.toList());
+            Assert.assertEquals("wrong indexed effects for " + type, need, indexed);
+        }
+    }
+
+    @Test
+    public void test_MustFindSameEffectsAsFullScan() {
+        ContinuousEffectsList<ReplacementEffect> effects = new ContinuousEffectsList<>();
+        effects.add(new TypeEffect(GameEvent.EventType.DAMAGE_PLAYER));
+        effects.add(new EventDataEffect());
+        effects.add(new TypeEffect(GameEvent.EventType.DAMAGE_PERMANENT, GameEvent.EventType.DAMAGE_PLAYER));
+        effects.add(new GameStateEffect());
+        effects.add(new TypeEffect(GameEvent.EventType.DRAW_CARD));
+
+        EffectsEventTypeIndex<ReplacementEffect> index = createIndex();
+        assertSameAsFullScan(index, effects);
+
+        // same results from calculated buckets
+        assertSameAsFullScan(index, effects);
+
+        // no effects for other types except complex checks
+        Assert.assertEquals(2, index.getEffects(effects, GameEvent.EventType.GAIN_LIFE).size());
+    }
+
+    @Test
+    public void test_ComplexChecksMustBeInAllBuckets() {
+        ContinuousEffectsList<ReplacementEffect> effects = new ContinuousEffectsList<>();
+        ReplacementEffect dataEffect = new EventDataEffect();
+        ReplacementEffect gameEffect = new GameStateEffect();
+        effects.add(dataEffect);
+        effects.add(gameEffect);
+
+        EffectsEventTypeIndex<ReplacementEffect> index = createIndex();
+        for (GameEvent.EventType type : GameEvent.EventType.values()) {
+            Assert.assertEquals("complex checks must be in all buckets, but miss in " + type,
+                    Arrays.asList(dataEffect, gameEffect), index.getEffects(effects, type));
+        }
+    }
+
+    @Test
+    public void test_ListChangesMustResetBuckets() {
+        ContinuousEffectsList<ReplacementEffect> effects = new ContinuousEffectsList<>();
+        ReplacementEffect damageEffect = new TypeEffect(GameEvent.EventType.DAMAGE_PLAYER);
+        effects.add(damageEffect);
+
+        EffectsEventTypeIndex<ReplacementEffect> index = createIndex();
+        Assert.assertEquals(Collections.emptyList(), index.getEffects(effects, GameEvent.EventType.DRAW_CARD));
+        Assert.assertEquals(Collections.singletonList(damageEffect), index.getEffects(effects, GameEvent.EventType.DAMAGE_PLAYER));
+
+        // add
+        int modCount = effects.getModCount();
+        ReplacementEffect drawEffect = new TypeEffect(GameEvent.EventType.DRAW_CARD);
+        effects.add(drawEffect);
+        Assert.assertNotEquals("add must change mod count", modCount, effects.getModCount());
+        Assert.assertEquals(Collections.singletonList(drawEffect), index.getEffects(effects, GameEvent.EventType.DRAW_CARD));
+        assertSameAsFullScan(index, effects);
+
+        // remove
+        modCount = effects.getModCount();
+        effects.remove(damageEffect);
+        Assert.assertNotEquals("remove must change mod count", modCount, effects.getModCount());
+        Assert.assertEquals(Collections.emptyList(), index.getEffects(effects, GameEvent.EventType.DAMAGE_PLAYER));
+        assertSameAsFullScan(index, effects);
+
+        // clear
+        effects.clear();
+        Assert.assertEquals(Collections.emptyList(), index.getEffects(effects, GameEvent.EventType.DRAW_CARD));
+
+        // other list (e.g. after game copy) with same mod count
+        ContinuousEffectsList<ReplacementEffect> otherEffects = new ContinuousEffectsList<>();
+        otherEffects.add(damageEffect);
+        effects.add(drawEffect);
+        Assert.assertEquals(Collections.singletonList(drawEffect), index.getEffects(effects, GameEvent.EventType.DRAW_CARD));
+        Assert.assertEquals(Collections.singletonList(damageEffect), index.getEffects(otherEffects, GameEvent.EventType.DAMAGE_PLAYER));
+        Assert.assertEquals(Collections.emptyList(), index.getEffects(otherEffects, GameEvent.EventType.DRAW_CARD));
+    }
+}